@@ -8,6 +8,7 @@ import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.clip.DefaultStepInfo;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.IStepInfo;
 import de.mossgrabers.framework.daw.clip.NoteOccurrenceType;
@@ -42,10 +43,12 @@ public class CursorClipImpl implements INoteClip
     private final int                numRows;
 
     private final IStepInfo [] [] [] launcherData;
+    private final StepOccupancy      launcherOccupancy;
     private final PinnableCursorClip launcherClip;
     private int                      editPage  = 0;
     private double                   stepLength;
     private final List<NotePosition> editSteps = new ArrayList<> ();
+    private boolean                  isEditUpdateScheduled;
 
 
     /**
@@ -67,6 +70,7 @@ public class CursorClipImpl implements INoteClip
         this.stepLength = 1.0 / 4.0; // 16th
 
         this.launcherData = new IStepInfo [16] [this.numSteps] [];
+        this.launcherOccupancy = new StepOccupancy (this.numSteps, this.numRows);
 
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/140
         this.launcherClip = cursorTrack.createLauncherCursorClip (this.numSteps, this.numRows);
@@ -929,13 +933,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasRowData (final int channel, final int row)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () != StepState.OFF)
-                return true;
-        }
-        return false;
+        return this.getOccupancy ().hasRowData (channel, row);
     }
 
 
@@ -973,10 +971,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowestRowWithData (final int channel)
     {
-        for (int row = 0; row < this.numRows; row++)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return this.getOccupancy ().getLowestRow (channel);
     }
 
 
@@ -984,10 +979,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getHighestRowWithData (final int channel)
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return this.getOccupancy ().getHighestRow (channel);
     }
 
 
@@ -995,13 +987,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getHighestRow (final int channel, final int step)
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-        {
-            final IStepInfo [] [] [] data = this.getStepInfos ();
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () != StepState.OFF)
-                return row;
-        }
-        return -1;
+        return this.getOccupancy ().getHighestRow (channel, step);
     }
 
 
@@ -1103,8 +1089,11 @@ public class CursorClipImpl implements INoteClip
         this.stopEdit ();
 
         this.editSteps.addAll (editSteps);
-        for (final NotePosition step: this.editSteps)
-            this.delayedUpdate (step);
+
+        // Only send the changes which are made from now on
+        for (final NotePosition editStep: this.editSteps)
+            this.getUpdateableStep (editStep).takeDirtyFields ();
+        this.scheduleEditUpdate ();
     }
 
 
@@ -1112,18 +1101,45 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void stopEdit ()
     {
-        for (final NotePosition editStep: this.editSteps)
-            this.sendClipData (editStep);
+        this.sendEditedClipData ();
         this.editSteps.clear ();
     }
 
 
-    private void delayedUpdate (final NotePosition editStep)
+    /**
+     * Schedule the sending of the changes of all edited steps, if not already scheduled.
+     */
+    private void scheduleEditUpdate ()
+    {
+        if (this.isEditUpdateScheduled)
+            return;
+        this.isEditUpdateScheduled = true;
+        this.host.scheduleTask (this::delayedUpdate, 100);
+    }
+
+
+    private void delayedUpdate ()
     {
+        this.isEditUpdateScheduled = false;
         if (this.editSteps.isEmpty ())
             return;
-        this.sendClipData (editStep);
-        this.host.scheduleTask ( () -> this.delayedUpdate (new NotePosition (editStep.getChannel (), editStep.getStep (), editStep.getNote ())), 100);
+        this.sendEditedClipData ();
+        this.scheduleEditUpdate ();
+    }
+
+
+    /**
+     * Update the locally changed data of all edited steps in Bitwig.
+     */
+    private void sendEditedClipData ()
+    {
+        for (final NotePosition editStep: this.editSteps)
+        {
+            final StepInfoImpl stepInfo = this.getUpdateableStep (editStep);
+            final int dirtyFields = stepInfo.takeDirtyFields ();
+            if (dirtyFields != 0)
+                this.sendClipData (editStep, stepInfo, dirtyFields);
+        }
     }
 
 
@@ -1131,40 +1147,65 @@ public class CursorClipImpl implements INoteClip
      * Update the locally changed step data in Bitwig.
      *
      * @param notePosition The position of the note
+     * @param stepInfo The local step data
+     * @param dirtyFields The flags of the changed fields, see the DIRTY_* constants of
+     *            DefaultStepInfo
      */
-    private void sendClipData (final NotePosition notePosition)
+    private void sendClipData (final NotePosition notePosition, final IStepInfo stepInfo, final int dirtyFields)
     {
         final NoteStep noteInfo = this.getNoteStep (notePosition);
         if (noteInfo == null)
             return;
 
-        final IStepInfo stepInfo = this.getStep (notePosition);
-        noteInfo.setIsMuted (stepInfo.isMuted ());
-        noteInfo.setDuration (stepInfo.getDuration ());
-        noteInfo.setVelocity (stepInfo.getVelocity ());
-        noteInfo.setVelocitySpread (stepInfo.getVelocitySpread ());
-        noteInfo.setReleaseVelocity (stepInfo.getReleaseVelocity ());
-        noteInfo.setPressure (stepInfo.getPressure ());
-        noteInfo.setTimbre (stepInfo.getTimbre ());
-        noteInfo.setPan (stepInfo.getPan ());
-        noteInfo.setTranspose (stepInfo.getTranspose ());
-        noteInfo.setGain (stepInfo.getGain ());
-
-        noteInfo.setIsChanceEnabled (stepInfo.isChanceEnabled ());
-        noteInfo.setChance (stepInfo.getChance ());
-
-        noteInfo.setIsOccurrenceEnabled (stepInfo.isOccurrenceEnabled ());
-        noteInfo.setOccurrence (NoteOccurrence.valueOf (stepInfo.getOccurrence ().name ()));
-
-        noteInfo.setIsRecurrenceEnabled (stepInfo.isRecurrenceEnabled ());
-        final int recurrenceLength = Math.max (1, stepInfo.getRecurrenceLength ());
-        noteInfo.setRecurrence (recurrenceLength, stepInfo.getRecurrenceMask ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_MUTED) != 0)
+            noteInfo.setIsMuted (stepInfo.isMuted ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_DURATION) != 0)
+            noteInfo.setDuration (stepInfo.getDuration ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_VELOCITY) != 0)
+            noteInfo.setVelocity (stepInfo.getVelocity ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_VELOCITY_SPREAD) != 0)
+            noteInfo.setVelocitySpread (stepInfo.getVelocitySpread ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_RELEASE_VELOCITY) != 0)
+            noteInfo.setReleaseVelocity (stepInfo.getReleaseVelocity ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_PRESSURE) != 0)
+            noteInfo.setPressure (stepInfo.getPressure ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_TIMBRE) != 0)
+            noteInfo.setTimbre (stepInfo.getTimbre ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_PAN) != 0)
+            noteInfo.setPan (stepInfo.getPan ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_TRANSPOSE) != 0)
+            noteInfo.setTranspose (stepInfo.getTranspose ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_GAIN) != 0)
+            noteInfo.setGain (stepInfo.getGain ());
+
+        if ((dirtyFields & DefaultStepInfo.DIRTY_CHANCE_ENABLED) != 0)
+            noteInfo.setIsChanceEnabled (stepInfo.isChanceEnabled ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_CHANCE) != 0)
+            noteInfo.setChance (stepInfo.getChance ());
+
+        if ((dirtyFields & DefaultStepInfo.DIRTY_OCCURRENCE_ENABLED) != 0)
+            noteInfo.setIsOccurrenceEnabled (stepInfo.isOccurrenceEnabled ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_OCCURRENCE) != 0)
+            noteInfo.setOccurrence (NoteOccurrence.valueOf (stepInfo.getOccurrence ().name ()));
+
+        if ((dirtyFields & DefaultStepInfo.DIRTY_RECURRENCE_ENABLED) != 0)
+            noteInfo.setIsRecurrenceEnabled (stepInfo.isRecurrenceEnabled ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_RECURRENCE) != 0)
+        {
+            final int recurrenceLength = Math.max (1, stepInfo.getRecurrenceLength ());
+            noteInfo.setRecurrence (recurrenceLength, stepInfo.getRecurrenceMask ());
+        }
 
-        noteInfo.setIsRepeatEnabled (stepInfo.isRepeatEnabled ());
-        noteInfo.setRepeatCount (stepInfo.getRepeatCount ());
-        noteInfo.setRepeatCurve (stepInfo.getRepeatCurve ());
-        noteInfo.setRepeatVelocityCurve (stepInfo.getRepeatVelocityCurve ());
-        noteInfo.setRepeatVelocityEnd (stepInfo.getRepeatVelocityEnd ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_REPEAT_ENABLED) != 0)
+            noteInfo.setIsRepeatEnabled (stepInfo.isRepeatEnabled ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_REPEAT_COUNT) != 0)
+            noteInfo.setRepeatCount (stepInfo.getRepeatCount ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_REPEAT_CURVE) != 0)
+            noteInfo.setRepeatCurve (stepInfo.getRepeatCurve ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_REPEAT_VELOCITY_CURVE) != 0)
+            noteInfo.setRepeatVelocityCurve (stepInfo.getRepeatVelocityCurve ());
+        if ((dirtyFields & DefaultStepInfo.DIRTY_REPEAT_VELOCITY_END) != 0)
+            noteInfo.setRepeatVelocityEnd (stepInfo.getRepeatVelocityEnd ());
     }
 
 
@@ -1186,7 +1227,9 @@ public class CursorClipImpl implements INoteClip
                 return;
         }
 
-        this.getUpdateableStep (new NotePosition (channel, step, note)).updateData (noteStep);
+        final StepInfoImpl stepInfo = this.getUpdateableStep (new NotePosition (channel, step, note));
+        stepInfo.updateData (noteStep);
+        this.getOccupancy ().set (channel, step, note, stepInfo.getState () != StepState.OFF);
     }
 
 
@@ -1262,4 +1305,16 @@ public class CursorClipImpl implements INoteClip
         // Note: Keep this in a function in case the issue with arranger clips gets ever fixed
         return this.launcherData;
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Get the occupancy index of the launcher or arranger step information. Depending on which is
+     * active.
+     *
+     * @return The occupancy index
+     */
+    private StepOccupancy getOccupancy ()
+    {
+        return this.launcherOccupancy;
+    }
+}
@@ -21,7 +21,6 @@ import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IImage;
 import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
-import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.parameter.NoteAttribute;
 import de.mossgrabers.framework.usb.IUsbDevice;
@@ -83,8 +82,9 @@ public class HostImpl implements IHost
         CAPABILITIES.add (Capability.HAS_BROWSER_PREVIEW);
     }
 
-    private final ControllerHost   host;
-    private final List<IUsbDevice> usbDevices = new ArrayList<> ();
+    private final ControllerHost                   host;
+    private final List<IUsbDevice>                 usbDevices = new ArrayList<> ();
+    private final List<OpenSoundControlClientImpl> oscClients = new ArrayList<> ();
 
 
     /**
@@ -182,8 +182,9 @@ public class HostImpl implements IHost
     @Override
     public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
     {
-        final OscModule oscModule = this.host.getOscModule ();
-        return new OpenSoundControlClientImpl (oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()));
+        final OpenSoundControlClientImpl oscClient = new OpenSoundControlClientImpl (serverAddress, serverPort);
+        this.oscClients.add (oscClient);
+        return oscClient;
     }
 
 
@@ -198,19 +199,14 @@ public class HostImpl implements IHost
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    public IOpenSoundControlMessage createOSCMessage (final String address, final List<?> values)
-    {
-        return new OpenSoundControlMessageImpl (address, values);
-    }
-
-
     /** {@inheritDoc} */
     @Override
     public void releaseOSC ()
     {
-        // This is automatically handled by the Bitwig framework
+        // The OSC server is automatically handled by the Bitwig framework
+        for (final OpenSoundControlClientImpl oscClient: this.oscClients)
+            oscClient.close ();
+        this.oscClients.clear ();
     }
 
 
@@ -0,0 +1,174 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+/**
+ * Bitset index which notes of a clip are occupied (a step which is not off). The occupancy is
+ * stored per MIDI channel twice: per row with one bit for each step and per step with one bit for
+ * each row. Additionally, there is a summary of all rows which contain data. This allows to answer
+ * the questions of the sequencers with a few bit operations instead of scanning all steps.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class StepOccupancy
+{
+    private static final int NUM_CHANNELS = 16;
+
+    private final int        numSteps;
+    private final int        numRows;
+    private final int        stepWords;
+    private final int        rowWords;
+
+    /** Per channel: for each row the occupied steps, index is row * stepWords + word. */
+    private final long [] [] rowSteps;
+    /** Per channel: for each step the occupied rows, index is step * rowWords + word. */
+    private final long [] [] stepRows;
+    /** Per channel: all rows which contain at least one occupied step. */
+    private final long [] [] rowSummary;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numSteps The number of steps of the clip
+     * @param numRows The number of note rows of the clip
+     */
+    StepOccupancy (final int numSteps, final int numRows)
+    {
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+        this.stepWords = getNumWords (numSteps);
+        this.rowWords = getNumWords (numRows);
+
+        this.rowSteps = new long [NUM_CHANNELS] [numRows * this.stepWords];
+        this.stepRows = new long [NUM_CHANNELS] [numSteps * this.rowWords];
+        this.rowSummary = new long [NUM_CHANNELS] [this.rowWords];
+    }
+
+
+    /**
+     * Set the occupancy of a note.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param isOccupied True if the step is not off
+     */
+    void set (final int channel, final int step, final int row, final boolean isOccupied)
+    {
+        if (channel < 0 || channel >= NUM_CHANNELS || step < 0 || step >= this.numSteps || row < 0 || row >= this.numRows)
+            return;
+
+        final long [] steps = this.rowSteps[channel];
+        final long [] rows = this.stepRows[channel];
+        final int stepIndex = row * this.stepWords + (step >>> 6);
+        final int rowIndex = step * this.rowWords + (row >>> 6);
+        final long stepBit = 1L << step;
+        final long rowBit = 1L << row;
+
+        if (isOccupied)
+        {
+            steps[stepIndex] |= stepBit;
+            rows[rowIndex] |= rowBit;
+            this.rowSummary[channel][row >>> 6] |= rowBit;
+            return;
+        }
+
+        steps[stepIndex] &= ~stepBit;
+        rows[rowIndex] &= ~rowBit;
+
+        final int start = row * this.stepWords;
+        for (int i = 0; i < this.stepWords; i++)
+        {
+            if (steps[start + i] != 0)
+                return;
+        }
+        this.rowSummary[channel][row >>> 6] &= ~rowBit;
+    }
+
+
+    /**
+     * Check if the row contains at least one occupied step.
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @return True if occupied
+     */
+    boolean hasRowData (final int channel, final int row)
+    {
+        if (row < 0 || row >= this.numRows)
+            return false;
+        return (this.rowSummary[channel][row >>> 6] & 1L << row) != 0;
+    }
+
+
+    /**
+     * Get the lowest row which contains at least one occupied step.
+     *
+     * @param channel The MIDI channel
+     * @return The row or -1 if there is no data
+     */
+    int getLowestRow (final int channel)
+    {
+        return getLowestBit (this.rowSummary[channel], 0, this.rowWords);
+    }
+
+
+    /**
+     * Get the highest row which contains at least one occupied step.
+     *
+     * @param channel The MIDI channel
+     * @return The row or -1 if there is no data
+     */
+    int getHighestRow (final int channel)
+    {
+        return getHighestBit (this.rowSummary[channel], 0, this.rowWords);
+    }
+
+
+    /**
+     * Get the highest occupied row of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @return The row or -1 if there is no data
+     */
+    int getHighestRow (final int channel, final int step)
+    {
+        if (step < 0 || step >= this.numSteps)
+            return -1;
+        return getHighestBit (this.stepRows[channel], step * this.rowWords, this.rowWords);
+    }
+
+
+    private static int getLowestBit (final long [] words, final int offset, final int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            final long word = words[offset + i];
+            if (word != 0)
+                return (i << 6) + Long.numberOfTrailingZeros (word);
+        }
+        return -1;
+    }
+
+
+    private static int getHighestBit (final long [] words, final int offset, final int length)
+    {
+        for (int i = length - 1; i >= 0; i--)
+        {
+            final long word = words[offset + i];
+            if (word != 0)
+                return (i << 6) + 63 - Long.numberOfLeadingZeros (word);
+        }
+        return -1;
+    }
+
+
+    private static int getNumWords (final int bits)
+    {
+        return Math.max (1, (bits + 63) >>> 6);
+    }
+}
@@ -16,9 +16,8 @@ import de.mossgrabers.framework.daw.constants.LaunchQuantization;
 import de.mossgrabers.framework.daw.constants.PostRecordingAction;
 import de.mossgrabers.framework.daw.constants.TransportConstants;
 import de.mossgrabers.framework.parameter.IParameter;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.utils.PositionFormatter;
 
-import com.bitwig.extension.controller.api.BeatTimeFormatter;
 import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.SettableEnumValue;
 import com.bitwig.extension.controller.api.TimeSignatureValue;
@@ -35,26 +34,23 @@ import java.text.DecimalFormat;
 public class TransportImpl implements ITransport
 {
     /** No preroll. */
-    private static final String            PREROLL_NONE            = "none";
+    private static final String            PREROLL_NONE        = "none";
     /** 1 bar preroll. */
-    private static final String            PREROLL_1_BAR           = "one_bar";
+    private static final String            PREROLL_1_BAR       = "one_bar";
     /** 2 bar preroll. */
-    private static final String            PREROLL_2_BARS          = "two_bars";
+    private static final String            PREROLL_2_BARS      = "two_bars";
     /** 4 bar preroll. */
-    private static final String            PREROLL_4_BARS          = "four_bars";
+    private static final String            PREROLL_4_BARS      = "four_bars";
 
-    private static final String            ACTION_JUMP_TO_END      = "jump_to_end_of_arrangement";
+    private static final String            ACTION_JUMP_TO_END  = "jump_to_end_of_arrangement";
 
-    private static final AutomationMode [] AUTOMATION_MODES        = new AutomationMode []
+    private static final AutomationMode [] AUTOMATION_MODES    = new AutomationMode []
     {
         AutomationMode.LATCH,
         AutomationMode.TOUCH,
         AutomationMode.WRITE
     };
 
-    private static final BeatTimeFormatter BEAT_POSITION_FORMATTER = formatAsBeats (1);
-    private static final BeatTimeFormatter BEAT_LENGTH_FORMATTER   = formatAsBeats (0);
-
     private final ControllerHost           host;
     private final IApplication             application;
     private final IValueChanger            valueChanger;
@@ -64,6 +60,11 @@ public class TransportImpl implements ITransport
     private final IParameter               crossfadeParameter;
     private final IParameter               metronomeVolumeParameter;
 
+    private final PositionFormatter        positionFormatter   = new PositionFormatter ();
+    private final PositionFormatter        beatFormatter       = new PositionFormatter ();
+    private final PositionFormatter        loopStartFormatter  = new PositionFormatter ();
+    private final PositionFormatter        loopLengthFormatter = new PositionFormatter ();
+
 
     /**
      * Constructor
@@ -466,7 +467,7 @@ public class TransportImpl implements ITransport
     @Override
     public String getPositionText ()
     {
-        return this.transport.getPosition ().getFormatted ( (beatTime, isAbsolute, timeSignatureNumerator, timeSignatureDenominator, timeSignatureTicks) -> StringUtils.formatTimeLong (this.getTempo (), beatTime, true));
+        return this.getPositionChars ().toString ();
     }
 
 
@@ -474,7 +475,25 @@ public class TransportImpl implements ITransport
     @Override
     public String getBeatText ()
     {
-        return this.transport.getPosition ().getFormatted (BEAT_POSITION_FORMATTER);
+        return this.getBeatChars ().toString ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public CharSequence getPositionChars ()
+    {
+        this.positionFormatter.formatTime (this.getTempo (), this.transport.getPosition ().get ());
+        return this.positionFormatter;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public CharSequence getBeatChars ()
+    {
+        this.beatFormatter.formatMeasures (this.getQuartersPerMeasure (), this.transport.getPosition ().get (), 1);
+        return this.beatFormatter;
     }
 
 
@@ -520,7 +539,8 @@ public class TransportImpl implements ITransport
     @Override
     public String getLoopStartBeatText ()
     {
-        return this.transport.arrangerLoopStart ().getFormatted (BEAT_POSITION_FORMATTER);
+        this.loopStartFormatter.formatMeasures (this.getQuartersPerMeasure (), this.transport.arrangerLoopStart ().get (), 1);
+        return this.loopStartFormatter.toString ();
     }
 
 
@@ -557,7 +577,8 @@ public class TransportImpl implements ITransport
     @Override
     public String getLoopLengthBeatText ()
     {
-        return this.transport.arrangerLoopDuration ().getFormatted (BEAT_LENGTH_FORMATTER);
+        this.loopLengthFormatter.formatMeasures (this.getQuartersPerMeasure (), this.transport.arrangerLoopDuration ().get (), 0);
+        return this.loopLengthFormatter.toString ();
     }
 
 
@@ -877,13 +898,4 @@ public class TransportImpl implements ITransport
     {
         return this.transport;
     }
-
-
-    private static BeatTimeFormatter formatAsBeats (final int offset)
-    {
-        return (beatTime, isAbsolute, timeSignatureNumerator, timeSignatureDenominator, timeSignatureTicks) -> {
-            final int quartersPerMeasure = 4 * timeSignatureNumerator / timeSignatureDenominator;
-            return StringUtils.formatMeasuresLong (quartersPerMeasure, beatTime, offset, true);
-        };
-    }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -6,6 +6,7 @@ package de.mossgrabers.bitwig.framework.graphics;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IImage;
 import de.mossgrabers.framework.utils.StringUtils;
@@ -243,6 +244,14 @@ public class GraphicsContextImpl implements IGraphicsContext
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void drawBitmap (final IBitmap bitmap, final double x, final double y)
+    {
+        this.gc.drawImage (((BitmapImpl) bitmap).bitmap (), x, y);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void maskImage (final IImage icon, final double x, final double y, final ColorEx maskColor)
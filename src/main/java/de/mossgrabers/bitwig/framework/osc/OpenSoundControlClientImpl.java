@@ -5,76 +5,66 @@
 package de.mossgrabers.bitwig.framework.osc;
 
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
-import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
-
-import com.bitwig.extension.api.opensoundcontrol.OscConnection;
 
 import java.io.IOException;
-import java.util.List;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
 
 
 /**
- * Implementation of an OSC server connection (the client).
+ * Implementation of an OSC server connection (the client). Sends the already encoded OSC packets
+ * directly via UDP since the Bitwig OSC API does not support sending pre-encoded bundles.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class OpenSoundControlClientImpl implements IOpenSoundControlClient
 {
-    private final OscConnection connection;
+    private final InetSocketAddress serverAddress;
+    private DatagramChannel         channel;
 
 
     /**
      * Constructor.
      *
-     * @param connection The OSC connection
+     * @param serverAddress The name or IP address of the OSC server
+     * @param serverPort The port of the OSC server
      */
-    public OpenSoundControlClientImpl (final OscConnection connection)
+    public OpenSoundControlClientImpl (final String serverAddress, final int serverPort)
     {
-        this.connection = connection;
+        this.serverAddress = new InetSocketAddress (serverAddress, serverPort);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void sendMessage (final IOpenSoundControlMessage message) throws IOException
+    public synchronized void sendPacket (final ByteBuffer packet) throws IOException
     {
-        final String address = message.getAddress ();
-        final Object [] values = message.getValues ();
-        this.connection.sendMessage (address, values);
+        if (this.serverAddress.isUnresolved ())
+            throw new IOException ("Unknown OSC server: " + this.serverAddress.getHostString ());
+
+        if (this.channel == null)
+            this.channel = DatagramChannel.open ();
+        this.channel.send (packet, this.serverAddress);
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
+    /**
+     * Close the UDP connection.
+     */
+    public synchronized void close ()
     {
-        int pos = 0;
-        this.connection.startBundle ();
-        for (final IOpenSoundControlMessage message: messages)
-        {
-            this.sendMessage (message);
-            pos++;
-            // We cannot get the exact size of the message due to the API, so let's try to stay
-            // below 64K, which is the maximum of an UDP message
-            if (pos > 100)
-            {
-                pos = 0;
-                this.connection.endBundle ();
-
-                // Ugly hack, but we need to slow down a bit otherwise clients like Open Stage
-                // Control cannot keep up...
-                try
-                {
-                    Thread.sleep (10);
-                }
-                catch (final InterruptedException ex)
-                {
-                    Thread.currentThread ().interrupt ();
-                }
+        if (this.channel == null)
+            return;
 
-                this.connection.startBundle ();
-            }
+        try
+        {
+            this.channel.close ();
+        }
+        catch (final IOException ex)
+        {
+            // Ignore, nothing to do
         }
-        this.connection.endBundle ();
+        this.channel = null;
     }
 }
@@ -60,4 +60,20 @@ public class OpenSoundControlMessageImpl implements IOpenSoundControlMessage
     {
         return this.values == null ? new Object [0] : this.values.toArray ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumValues ()
+    {
+        return this.values == null ? 0 : this.values.size ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object getValue (final int index)
+    {
+        return this.values.get (index);
+    }
 }
@@ -25,8 +25,11 @@ import java.util.Optional;
  */
 public class HidDeviceImpl implements IHidDevice
 {
-    private HidDevice hidDevice;
-    private boolean   isOpen;
+    private HidDevice        hidDevice;
+    private volatile boolean isOpen;
+    private byte []          reportBuffer = new byte [0];
+    private byte []          macBuffer    = new byte [0];
+    private byte []          inputBuffer  = new byte [0];
 
 
     /**
@@ -70,36 +73,43 @@ public class HidDeviceImpl implements IHidDevice
 
     /** {@inheritDoc} */
     @Override
-    public int sendOutputReport (final byte reportID, final IMemoryBlock memoryBlock)
+    public synchronized int sendOutputReport (final byte reportID, final IMemoryBlock memoryBlock)
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
+        final int length = this.toBuffer (memoryBlock);
+        return this.sendOutputReport (reportID, this.reportBuffer, length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int sendOutputReport (final byte reportID, final byte [] data, final int length)
+    {
+        if (!this.isOpen)
+            return -1;
+
+        if (!OperatingSystem.isMacOS ())
+            return this.hidDevice.setOutputReport (reportID, data, length);
 
         // purehid documentation says otherwise but MAC also needs the report ID in
         // data[0], therefore add it
-        byte [] d = data;
-        int l = data.length;
-        if (OperatingSystem.isMacOS ())
-        {
-            l++;
-            d = new byte [l];
-            d[0] = reportID;
-            System.arraycopy (data, 0, d, 1, data.length);
-        }
-
-        return this.hidDevice.setOutputReport (reportID, d, d.length);
+        if (this.macBuffer.length < length + 1)
+            this.macBuffer = new byte [length + 1];
+        this.macBuffer[0] = reportID;
+        System.arraycopy (data, 0, this.macBuffer, 1, length);
+        return this.hidDevice.setOutputReport (reportID, this.macBuffer, length + 1);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public int sendFeatureReport (final byte reportID, final IMemoryBlock memoryBlock)
+    public synchronized int sendFeatureReport (final byte reportID, final IMemoryBlock memoryBlock)
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
-        return this.hidDevice.setFeatureReport (reportID, data, data.length);
+        final int length = this.toBuffer (memoryBlock);
+        return this.hidDevice.setFeatureReport (reportID, this.reportBuffer, length);
     }
 
 
@@ -111,18 +121,20 @@ public class HidDeviceImpl implements IHidDevice
             return;
         this.hidDevice.setInputReportListener ( (source, id, data, length) -> {
 
-            // purehid documentation says otherwise but MAC also contains the report ID in
-            // data[0], therefore remove it
-            byte [] d = data;
-            int l = length;
-            if (OperatingSystem.isMacOS ())
+            if (!OperatingSystem.isMacOS () || length <= 0)
             {
-                l--;
-                d = new byte [l];
-                System.arraycopy (data, 1, d, 0, l);
+                callback.process (id, data, length);
+                return;
             }
 
-            callback.process (id, d, l);
+            // purehid documentation says otherwise but MAC also contains the report ID in
+            // data[0], therefore remove it. Only called from the input thread of the device,
+            // therefore the buffer can be re-used
+            final int l = length - 1;
+            if (this.inputBuffer.length < l)
+                this.inputBuffer = new byte [l];
+            System.arraycopy (data, 1, this.inputBuffer, 0, l);
+            callback.process (id, this.inputBuffer, l);
         });
     }
 
@@ -138,13 +150,20 @@ public class HidDeviceImpl implements IHidDevice
     }
 
 
-    private static byte [] toBuffer (final IMemoryBlock memoryBlock)
+    /**
+     * Copy the content of the memory block into the re-used report buffer.
+     *
+     * @param memoryBlock The memory block
+     * @return The number of bytes in the buffer
+     */
+    private int toBuffer (final IMemoryBlock memoryBlock)
     {
         final ByteBuffer buffer = memoryBlock.createByteBuffer ();
         final int size = buffer.capacity ();
-        final byte [] data = new byte [size];
+        if (this.reportBuffer.length < size)
+            this.reportBuffer = new byte [size];
         buffer.rewind ();
-        buffer.get (data);
-        return data;
+        buffer.get (this.reportBuffer, 0, size);
+        return size;
     }
 }
@@ -99,6 +99,8 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     public static final Integer     SESSION_VIEW                    = Integer.valueOf (81);
     /** Display scenes or clips. */
     public static final Integer     DISPLAY_SCENES_CLIPS            = Integer.valueOf (82);
+    /** The frame rate of the display. */
+    public static final Integer     DISPLAY_FRAME_RATE              = Integer.valueOf (83);
 
     /** Use ribbon for pitch bend. */
     public static final int         RIBBON_MODE_PITCH               = 0;
@@ -243,6 +245,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     // Only Push 2
     private int             displayBrightness           = 255;
     private int             ledBrightness               = 127;
+    private int             displayFrameRate            = 30;
     private int             padSensitivity              = 5;
     private int             padGain                     = 5;
     private int             padDynamics                 = 5;
@@ -261,6 +264,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     private final boolean   isPush2;
 
     private IIntegerSetting displayBrightnessSetting;
+    private IIntegerSetting displayFrameRateSetting;
     private IIntegerSetting ledBrightnessSetting;
     private IEnumSetting    ribbonModeSetting;
     private IIntegerSetting ribbonModeCCSetting;
@@ -401,6 +405,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
         // Debugging
 
         this.activateDebugSettings (globalSettings);
+        this.activateLogPerformanceStatisticsSetting (globalSettings);
     }
 
 
@@ -1006,6 +1011,14 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxFramesPerSecond ()
+    {
+        return this.displayFrameRate;
+    }
+
+
     /**
      * Get the selected display mode for debugging.
      *
@@ -1115,6 +1128,12 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
             this.notifyObservers (DISPLAY_BRIGHTNESS);
         });
 
+        this.displayFrameRateSetting = settingsUI.getRangeSetting ("Display Frame Rate", CATEGORY_HARDWARE_SETUP, 10, 60, 1, "fps", 30);
+        this.displayFrameRateSetting.addValueObserver (value -> {
+            this.displayFrameRate = value.intValue ();
+            this.notifyObservers (DISPLAY_FRAME_RATE);
+        });
+
         this.ledBrightnessSetting = settingsUI.getRangeSetting ("LED Brightness", CATEGORY_HARDWARE_SETUP, 0, 100, 1, "%", 100);
         this.ledBrightnessSetting.addValueObserver (value -> {
             this.ledBrightness = value.intValue ();
@@ -113,6 +113,7 @@ import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.ContinuousID;
+import de.mossgrabers.framework.controller.FrameCategory;
 import de.mossgrabers.framework.controller.ISetupFactory;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.hardware.BindType;
@@ -137,6 +138,7 @@ import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.mode.MasterVolumeMode;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.Interest;
 import de.mossgrabers.framework.view.ColorView;
 import de.mossgrabers.framework.view.ScenePlayView;
 import de.mossgrabers.framework.view.TransposeView;
@@ -208,6 +210,9 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         this.model = this.factory.createModel (this.configuration, this.colorManager, this.valueChanger, this.scales, ms);
         this.model.getSceneBank (64);
 
+        // The panel states and the groove are only read by the frame, groove and note repeat modes
+        this.model.manageObservers (Interest.ARRANGER, Interest.MIXER, Interest.GROOVE);
+
         final ITrackBank trackBank = this.model.getTrackBank ();
         trackBank.setIndication (true);
         trackBank.addSelectionObserver ( (index, isSelected) -> this.handleTrackChange (isSelected));
@@ -325,6 +330,7 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         {
             this.configuration.addSettingObserver (PushConfiguration.DISPLAY_BRIGHTNESS, surface::sendDisplayBrightness);
             this.configuration.addSettingObserver (PushConfiguration.LED_BRIGHTNESS, surface::sendLEDBrightness);
+            this.configuration.addSettingObserver (PushConfiguration.DISPLAY_FRAME_RATE, () -> this.frameScheduler.setBudget (FrameCategory.GRAPHIC_DISPLAYS, 1000 / this.configuration.getMaxFramesPerSecond ()));
             this.configuration.addSettingObserver (PushConfiguration.PAD_SENSITIVITY, () -> {
                 surface.sendPadVelocityCurve ();
                 surface.sendPadThreshold ();
@@ -76,6 +76,17 @@ public class PaletteEntry
     }
 
 
+    /**
+     * Reset the state and the retry counters to start a new synchronization.
+     */
+    public void reset ()
+    {
+        this.state = State.INIT;
+        this.readRetries = 0;
+        this.writeRetries = 0;
+    }
+
+
     /**
      * Increase the number of read attempts.
      */
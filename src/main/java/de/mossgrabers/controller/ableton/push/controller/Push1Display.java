@@ -88,7 +88,7 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public ITextDisplay clearCell (final int row, final int column)
     {
-        this.cells[row * this.noOfCells + column] = column % 2 == 0 ? "         " : "        ";
+        this.writeText (row, getCellPosition (column), column % 2 == 0 ? 9 : 8, null);
         return this;
     }
 
@@ -97,17 +97,7 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public ITextDisplay setBlock (final int row, final int block, final String value)
     {
-        final int cell = 2 * block;
-        if (value.length () > 9)
-        {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = StringUtils.pad (value.substring (9), 8, ' ');
-        }
-        else
-        {
-            this.cells[row * 8 + cell] = StringUtils.pad (value, 9, ' ');
-            this.clearCell (row, cell + 1);
-        }
+        this.writeText (row, block * 17, 17, value);
         return this;
     }
 
@@ -124,11 +114,27 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public ITextDisplay setCell (final int row, final int cell, final String value)
     {
-        this.cells[row * 8 + cell] = StringUtils.pad (value, 8, ' ') + (cell % 2 == 0 ? " " : "");
+        final int position = getCellPosition (cell);
+        this.writeText (row, position, 8, value);
+        if (cell % 2 == 0)
+            this.cellLines[row][position + 8] = ' ';
         return this;
     }
 
 
+    /**
+     * Get the position of the first character of a cell. A block consists of a cell with 9 and a
+     * cell with 8 characters.
+     *
+     * @param cell The cell (0-7)
+     * @return The position in the line
+     */
+    private static int getCellPosition (final int cell)
+    {
+        return cell / 2 * 17 + cell % 2 * 9;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected String convertCharacterset (final String text)
@@ -10,10 +10,6 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IBitmap;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
-
 
 /**
  * The display of Push 2.
@@ -22,8 +18,9 @@ import java.util.concurrent.TimeUnit;
  */
 public class Push2Display extends AbstractGraphicDisplay
 {
-    private final PushUsbDisplay usbDisplay;
-    private boolean              isShutdown = false;
+    private final PushUsbDisplay    usbDisplay;
+    private final PushConfiguration pushConfiguration;
+    private boolean                 isShutdown = false;
 
 
     /**
@@ -38,6 +35,7 @@ public class Push2Display extends AbstractGraphicDisplay
     {
         super (host, configuration, new DefaultGraphicsDimensions (960, 160, maxParameterValue), "Push 2 Display");
 
+        this.pushConfiguration = configuration;
         this.usbDisplay = new PushUsbDisplay (host);
     }
 
@@ -59,26 +57,20 @@ public class Push2Display extends AbstractGraphicDisplay
     {
         this.setMessage (3, "Please start " + this.host.getName () + " to play...");
         this.send ();
+        this.shutdownRendering ();
 
         this.isShutdown = true;
 
-        final ExecutorService executor = Executors.newSingleThreadExecutor ();
-        executor.execute ( () -> {
-
-            if (this.usbDisplay != null)
-                this.usbDisplay.shutdown ();
-            super.shutdown ();
+        // Both wait for their pending output with a timeout
+        if (this.usbDisplay != null)
+            this.usbDisplay.shutdown ();
+        super.shutdown ();
 
-        });
-        executor.shutdown ();
-        try
+        if (this.pushConfiguration.isLogPerformanceStatistics ())
         {
-            executor.awaitTermination (10, TimeUnit.SECONDS);
-        }
-        catch (final InterruptedException ex)
-        {
-            this.host.error ("Display shutdown interrupted.", ex);
-            Thread.currentThread ().interrupt ();
+            this.logStatistics ();
+            if (this.usbDisplay != null)
+                this.usbDisplay.logStatistics ();
         }
     }
 
@@ -14,6 +14,7 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -445,8 +446,35 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         0x01
     };
 
+    /** The number of color palette requests which are sent without waiting for the answers. */
+    private static final int       PALETTE_REQUEST_WINDOW        = 16;
+    private static final int []    PALETTE_ALL_ENTRIES           = new int [128];
+    /** The entries which are compared if the palette was already written to the device before. */
+    private static final int []    PALETTE_CHECK_ENTRIES         =
+    {
+        0,
+        1,
+        64,
+        126,
+        127
+    };
+
+    static
+    {
+        for (int i = 0; i < PALETTE_ALL_ENTRIES.length; i++)
+            PALETTE_ALL_ENTRIES[i] = i;
+    }
+
     private final PaletteEntry []  colorPalette                  = new PaletteEntry [128];
+    private final int              colorPaletteHash;
     private boolean                colorPaletteHasUpdate         = false;
+    private boolean                isColorPaletteSyncPending     = false;
+    private int []                 paletteSyncEntries            = PALETTE_ALL_ENTRIES;
+    private int                    paletteSyncNextRequest;
+    private int                    paletteSyncReceived;
+    private long                   paletteSyncStart;
+    private int                    paletteSyncReads;
+    private int                    paletteSyncWrites;
 
     private int                    ribbonMode                    = -1;
     private int                    ribbonValue                   = -1;
@@ -471,8 +499,14 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     {
         super (host, configuration, colorManager, output, input, new PadGridImpl (colorManager, output), 200, 156);
 
+        int hash = 1;
         for (int i = 0; i < this.colorPalette.length; i++)
-            this.colorPalette[i] = new PaletteEntry (PushColorManager.getPaletteColorRGB (i));
+        {
+            final int [] color = PushColorManager.getPaletteColorRGB (i);
+            this.colorPalette[i] = new PaletteEntry (color);
+            hash = 31 * hash + Arrays.hashCode (color);
+        }
+        this.colorPaletteHash = hash;
 
         this.input.setSysexCallback (this::handleSysEx);
     }
@@ -852,6 +886,8 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
             this.buildNumber = revisionLevel[2] + (revisionLevel[3] << 7);
             this.serialNumber = revisionLevel[4] + (revisionLevel[5] << 7) + (revisionLevel[6] << 14) + (revisionLevel[7] << 21) + (revisionLevel[8] << 28);
             this.boardRevision = revisionLevel[9];
+
+            this.startPendingColorPaletteSync ();
         }
         else
         {
@@ -945,12 +981,67 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
 
     /**
-     * Request the full color palette.
+     * Synchronize the color palette with the device. The synchronization is started as soon as the
+     * serial number of the device is known (or after 1 second if the device does not answer the
+     * device inquiry) to check if the palette was already written to the device.
      */
     public void updateColorPalette ()
     {
-        // Retrieve the first, all others are requested after the previous one was received
-        this.sendColorPaletteRequest (0);
+        synchronized (this.colorPalette)
+        {
+            this.isColorPaletteSyncPending = true;
+        }
+
+        if (this.serialNumber >= 0)
+            this.startPendingColorPaletteSync ();
+        else
+            this.scheduleTask (this::startPendingColorPaletteSync, 1000);
+    }
+
+
+    /**
+     * Start the synchronization of the color palette, if it was requested and is not already
+     * running. If the palette was already successfully written to the device with the same serial
+     * number, only a few entries are compared. The full palette is synchronized if one of them
+     * differs.
+     */
+    private void startPendingColorPaletteSync ()
+    {
+        synchronized (this.colorPalette)
+        {
+            if (!this.isColorPaletteSyncPending)
+                return;
+            this.isColorPaletteSyncPending = false;
+
+            this.paletteSyncStart = System.currentTimeMillis ();
+            this.paletteSyncReads = 0;
+            this.paletteSyncWrites = 0;
+            this.colorPaletteHasUpdate = false;
+            for (final PaletteEntry entry: this.colorPalette)
+                entry.reset ();
+
+            final boolean isWritten = WrittenPalettes.isWritten (this.serialNumber, this.colorPaletteHash);
+            this.startColorPalettePass (isWritten ? PALETTE_CHECK_ENTRIES : PALETTE_ALL_ENTRIES);
+        }
+    }
+
+
+    /**
+     * Request the given palette entries from the device. A window of requests is sent without
+     * waiting for the answers. Each received answer triggers the next request.
+     *
+     * @param entries The indices of the entries to request
+     */
+    private void startColorPalettePass (final int [] entries)
+    {
+        synchronized (this.colorPalette)
+        {
+            this.paletteSyncEntries = entries;
+            this.paletteSyncReceived = 0;
+            this.paletteSyncNextRequest = Math.min (PALETTE_REQUEST_WINDOW, entries.length);
+            for (int i = 0; i < this.paletteSyncNextRequest; i++)
+                this.sendColorPaletteRequest (entries[i]);
+        }
     }
 
 
@@ -965,6 +1056,12 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         {
             final int index = data[7];
 
+            // Ignore late answers of requests which have already been answered
+            if (!this.colorPalette[index].requiresRead ())
+                return;
+
+            this.paletteSyncReads++;
+
             // Is an update necessary?
             if (this.colorPalette[index].requiresUpdate (data))
             {
@@ -979,6 +1076,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
                 this.colorPalette[index].incWriteRetries ();
                 this.sendPush2SysEx (this.colorPalette[index].createUpdateMessage (index));
+                this.paletteSyncWrites++;
             }
             else
             {
@@ -989,21 +1087,34 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
                     this.host.println ("Success writing color palette entry #" + index + " after " + retries + " attempts.");
             }
 
-            if (index < 127)
+            this.paletteSyncReceived++;
+            if (this.paletteSyncNextRequest < this.paletteSyncEntries.length)
             {
-                this.sendColorPaletteRequest (index + 1);
+                this.sendColorPaletteRequest (this.paletteSyncEntries[this.paletteSyncNextRequest]);
+                this.paletteSyncNextRequest++;
                 return;
             }
-        }
+            if (this.paletteSyncReceived < this.paletteSyncEntries.length)
+                return;
 
-        // Re-apply the color palette, if necessary
-        if (this.colorPaletteHasUpdate)
-        {
-            this.host.scheduleTask ( () -> this.output.sendSysex ("F0 00 21 1D 01 01 05 F7"), 1000);
+            // Re-apply the color palette, if necessary
+            if (this.colorPaletteHasUpdate)
+            {
+                this.colorPaletteHasUpdate = false;
+                this.host.scheduleTask ( () -> this.output.sendSysex ("F0 00 21 1D 01 01 05 F7"), 1000);
+
+                // Request all values again to confirm it was written
+                this.startColorPalettePass (PALETTE_ALL_ENTRIES);
+                return;
+            }
 
-            // Request all values again to confirm it was written
-            this.sendColorPaletteRequest (0);
+            WrittenPalettes.setWritten (this.serialNumber, this.colorPaletteHash);
         }
+
+        if (!this.configuration.isLogPerformanceStatistics ())
+            return;
+        final long duration = System.currentTimeMillis () - this.paletteSyncStart;
+        this.host.println ("Color palette synchronized in " + duration + " ms (" + this.paletteSyncReads + " entries read, " + this.paletteSyncWrites + " entries written).");
     }
 
 
@@ -0,0 +1,159 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.ableton.push.controller;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+
+
+/**
+ * Encodes the BGRA image of the Push 2 display into the RGB565 format of the USB transfer. The
+ * pixels are read and written in bulk (one line at a time). The previous frame is kept to detect if
+ * the image has changed at all, which allows to skip the transfer.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PushDisplayEncoder
+{
+    private final int lineSize;
+
+    private int       width;
+    private int       height;
+    private int []    line          = new int [0];
+    private short []  frame         = new short [0];
+    private short []  previousFrame = new short [0];
+
+    private long      numFrames;
+    private long      numSkippedFrames;
+    private long      encodeTime;
+
+
+    /**
+     * Constructor.
+     *
+     * @param lineSize The number of bytes of one line in the USB transfer including the padding
+     */
+    public PushDisplayEncoder (final int lineSize)
+    {
+        this.lineSize = lineSize;
+    }
+
+
+    /**
+     * Encode the image and compare it with the previously encoded frame.
+     *
+     * @param imageBuffer The image data (blue, green, red, alpha, ...)
+     * @param width The width of the image
+     * @param height The height of the image
+     * @return True if the encoded frame is different from the previous one
+     */
+    public boolean encode (final ByteBuffer imageBuffer, final int width, final int height)
+    {
+        final long start = System.nanoTime ();
+
+        if (width != this.width || height != this.height)
+        {
+            this.width = width;
+            this.height = height;
+            this.line = new int [width];
+            this.frame = new short [width * height];
+            this.previousFrame = new short [width * height];
+        }
+
+        final IntBuffer pixels = imageBuffer.order (ByteOrder.LITTLE_ENDIAN).asIntBuffer ();
+        int offset = 0;
+        for (int y = 0; y < height; y++)
+        {
+            pixels.get (this.line, 0, width);
+            for (int x = 0; x < width; x++)
+                this.frame[offset + x] = toRGB565 (this.line[x]);
+            offset += width;
+        }
+
+        final boolean hasChanged = this.numFrames == 0 || !Arrays.equals (this.frame, this.previousFrame);
+        if (hasChanged)
+        {
+            final short [] temp = this.previousFrame;
+            this.previousFrame = this.frame;
+            this.frame = temp;
+        }
+        else
+            this.numSkippedFrames++;
+
+        this.numFrames++;
+        this.encodeTime += System.nanoTime () - start;
+        return hasChanged;
+    }
+
+
+    /**
+     * Write the last encoded frame to the USB buffer. The padding at the end of each line is not
+     * touched and must be cleared once when the buffer is created.
+     *
+     * @param buffer The buffer of the USB memory block
+     */
+    public void write (final ByteBuffer buffer)
+    {
+        buffer.clear ();
+        final ShortBuffer target = buffer.order (ByteOrder.LITTLE_ENDIAN).asShortBuffer ();
+        final int lineStride = this.lineSize / 2;
+        for (int y = 0; y < this.height; y++)
+        {
+            target.position (y * lineStride);
+            target.put (this.previousFrame, y * this.width, this.width);
+        }
+    }
+
+
+    /**
+     * Get the number of encoded frames.
+     *
+     * @return The number of frames
+     */
+    public long getNumFrames ()
+    {
+        return this.numFrames;
+    }
+
+
+    /**
+     * Get the number of encoded frames which were identical to their previous frame.
+     *
+     * @return The number of frames
+     */
+    public long getNumSkippedFrames ()
+    {
+        return this.numSkippedFrames;
+    }
+
+
+    /**
+     * Get the average time needed to encode a frame.
+     *
+     * @return The time in nanoseconds
+     */
+    public long getAverageEncodeTime ()
+    {
+        return this.numFrames == 0 ? 0 : this.encodeTime / this.numFrames;
+    }
+
+
+    /**
+     * Converts a pixel in the format ARGB to a RGB565 pixel with swapped red and blue.
+     *
+     * @param argb The pixel
+     * @return The RGB565 pixel
+     */
+    private static short toRGB565 (final int argb)
+    {
+        final int blue = argb & 0xF8;
+        final int green = argb >> 8 & 0xFC;
+        final int red = argb >> 16 & 0xF8;
+        return (short) (blue << 8 | green << 3 | red >> 3);
+    }
+}
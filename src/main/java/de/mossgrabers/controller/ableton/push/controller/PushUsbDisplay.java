@@ -10,10 +10,10 @@ import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.OutputScheduler;
+import de.mossgrabers.framework.utils.OutputSlot;
 
 import java.nio.ByteBuffer;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 
@@ -27,8 +27,14 @@ public class PushUsbDisplay
     /** The size of the display content. */
     private static final int               DATA_SZ          = 20 * 0x4000;
 
+    /** The size of one line of the display content including the padding. */
+    private static final int               LINE_SZ          = 2048;
+
     private static final int               TIMEOUT          = 1000;
 
+    /** The display turns off if it does not receive a frame for 2 seconds. */
+    private static final int               KEEP_ALIVE       = 1000;
+
     private static final byte []           DISPLAY_HEADER   =
     {
         (byte) 0xef,
@@ -53,12 +59,16 @@ public class PushUsbDisplay
     private IUsbEndpoint                   usbEndpoint;
     private final IHost                    host;
     private final IMemoryBlock             headerBlock;
-    private final IMemoryBlock             imageBlock;
-    private final byte []                  byteStore        = new byte [DATA_SZ];
+    private final IMemoryBlock []          imageBlocks      = new IMemoryBlock [2];
+    private final ByteBuffer []            imageBuffers     = new ByteBuffer [2];
+    private final PushDisplayEncoder       encoder          = new PushDisplayEncoder (LINE_SZ);
+    private int                            readyBlock       = -1;
+    private int                            sendingBlock     = -1;
+    private long                           lastSendTime;
 
     private final Object                   sendLock         = new Object ();
     private final Object                   bufferUpdateLock = new Object ();
-    private final ScheduledExecutorService sendExecutor     = Executors.newSingleThreadScheduledExecutor ();
+    private final OutputSlot               sendSlot         = OutputScheduler.getInstance ().createBlockingSlot ("Push 2 display");
 
 
     /**
@@ -84,84 +94,94 @@ public class PushUsbDisplay
 
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
-        this.imageBlock = host.createMemoryBlock (DATA_SZ);
+
+        // Two blocks, one can be filled while the other one is transferred. The padding of the
+        // lines is cleared once since only the pixels are written later on
+        for (int i = 0; i < this.imageBlocks.length; i++)
+        {
+            this.imageBlocks[i] = host.createMemoryBlock (DATA_SZ);
+            this.imageBuffers[i] = this.imageBlocks[i].createByteBuffer ();
+            this.imageBuffers[i].put (new byte [DATA_SZ]);
+        }
     }
 
 
     /**
-     * Send the buffered image to the screen.
+     * Send the buffered image to the screen. The image is only transferred if it has changed or
+     * the display needs to be kept alive.
      *
      * @param image An image of size 960 x 160 pixel
      */
     public void send (final IBitmap image)
     {
-        // Copy to the buffer
         synchronized (this.bufferUpdateLock)
         {
-            image.encode ( (imageBuffer, width, height) -> {
-
-                int counter = 0;
-                final int padding = (DATA_SZ - height * width * 2) / height;
+            final boolean [] hasChanged = new boolean [1];
+            image.encode ( (imageBuffer, width, height) -> hasChanged[0] = this.encoder.encode (imageBuffer, width, height));
 
-                for (int y = 0; y < height; y++)
-                {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
-
-                        final int pixel = sPixelFromRGB (red, green, blue);
-
-                        this.byteStore[counter] = (byte) (pixel & 0x00FF);
-                        this.byteStore[counter + 1] = (byte) ((pixel & 0xFF00) >> 8);
-
-                        counter += 2;
-                    }
-
-                    for (int x = 0; x < padding; x++)
-                    {
-                        this.byteStore[counter] = (byte) 0x00;
-                        counter++;
-                    }
-                }
+            if (!hasChanged[0] && System.currentTimeMillis () - this.lastSendTime < KEEP_ALIVE)
+                return;
 
-                imageBuffer.rewind ();
-            });
+            // Encode directly into the block which is currently not transferred
+            final int index = this.sendingBlock == 0 ? 1 : 0;
+            this.encoder.write (this.imageBuffers[index]);
+            this.readyBlock = index;
+            this.lastSendTime = System.currentTimeMillis ();
         }
 
-        synchronized (this.sendLock)
-        {
-            if (!this.sendExecutor.isShutdown ())
-                this.sendExecutor.submit (this::sendData);
-        }
+        // Ignored after the slot was shutdown
+        this.sendSlot.execute (this::sendData);
     }
 
 
     private void sendData ()
     {
-        // Copy the data from the buffer to the USB block
+        // Take the latest frame, if it was already sent by a previous call, there is nothing to do
+        final int index;
         synchronized (this.bufferUpdateLock)
         {
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
-            buffer.clear ();
-            for (int i = 0; i < DATA_SZ; i++)
-                buffer.put (this.byteStore[i]);
+            index = this.readyBlock;
+            if (index < 0)
+                return;
+            this.readyBlock = -1;
+            this.sendingBlock = index;
         }
 
-        // Send the data
-        synchronized (this.sendLock)
+        try
         {
-            if (this.usbDevice == null || this.usbEndpoint == null)
-                return;
+            // The lock only guards against the shutdown, the transfer blocks and is done outside.
+            // The device is released only after the shutdown waited for the pending transfer
+            final IUsbEndpoint endpoint;
+            synchronized (this.sendLock)
+            {
+                if (this.usbDevice == null || this.usbEndpoint == null)
+                    return;
+                endpoint = this.usbEndpoint;
+            }
 
-            this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
+            // Send the data
+            endpoint.send (this.headerBlock, TIMEOUT);
+            endpoint.send (this.imageBlocks[index], TIMEOUT);
+        }
+        finally
+        {
+            synchronized (this.bufferUpdateLock)
+            {
+                this.sendingBlock = -1;
+            }
         }
     }
 
 
+    /**
+     * Log the number of encoded and skipped frames and the average encoding time.
+     */
+    public void logStatistics ()
+    {
+        this.host.println (String.format ("Push 2 display: %d frames, %d unchanged, %d us per frame encoding.", Long.valueOf (this.encoder.getNumFrames ()), Long.valueOf (this.encoder.getNumSkippedFrames ()), Long.valueOf (this.encoder.getAverageEncodeTime () / 1000)));
+    }
+
+
     /**
      * Stops all transfers to the device. Nulls the device.
      */
@@ -171,40 +191,30 @@ public class PushUsbDisplay
         {
             this.usbDevice = null;
             this.usbEndpoint = null;
+        }
 
-            this.sendExecutor.shutdown ();
-            try
-            {
-                if (!this.sendExecutor.awaitTermination (5, TimeUnit.SECONDS))
-                    this.host.error ("USB Send executor did not end in 5 seconds.");
-            }
-            catch (final InterruptedException ex)
-            {
-                this.host.error ("USB Send executor interrupted.", ex);
-                Thread.currentThread ().interrupt ();
-            }
+        // Wait until a pending transfer has finished
+        this.sendSlot.shutdown ();
+        try
+        {
+            if (!this.sendSlot.awaitTermination (5, TimeUnit.SECONDS))
+                this.host.error ("USB send slot did not end in 5 seconds.");
+        }
+        catch (final InterruptedException ex)
+        {
+            this.host.error ("USB send slot interrupted.", ex);
+            Thread.currentThread ().interrupt ();
         }
     }
 
 
     /**
-     * Check if the send executor is shutdown.
+     * Check if the send slot is shutdown.
      *
      * @return True if shutdown
      */
     public boolean isShutdown ()
     {
-        return this.sendExecutor.isShutdown ();
-    }
-
-
-    private static int sPixelFromRGB (final int red, final int green, final int blue)
-    {
-        int pixel = (blue & 0xF8) >> 3;
-        pixel <<= 6;
-        pixel += (green & 0xFC) >> 2;
-        pixel <<= 5;
-        pixel += (red & 0xF8) >> 3;
-        return pixel;
+        return this.sendSlot.isShutdown ();
     }
 }
@@ -0,0 +1,59 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.ableton.push.controller;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Remembers the hash of the color palette which was last successfully written to a Push 2, stored
+ * by the serial number of the device. Since it is static, it is kept when the device is reconnected
+ * or a different project is loaded.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+final class WrittenPalettes
+{
+    private static final Map<Integer, Integer> PALETTE_HASHES = new ConcurrentHashMap<> ();
+
+
+    /**
+     * Private due to utility class.
+     */
+    private WrittenPalettes ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Check if a palette was already successfully written to a device.
+     *
+     * @param serialNumber The serial number of the device
+     * @param paletteHash The hash of the palette
+     * @return True if the palette with the given hash was the last which was written to the device
+     */
+    static boolean isWritten (final int serialNumber, final int paletteHash)
+    {
+        if (serialNumber <= 0)
+            return false;
+        final Integer hash = PALETTE_HASHES.get (Integer.valueOf (serialNumber));
+        return hash != null && hash.intValue () == paletteHash;
+    }
+
+
+    /**
+     * Store that a palette was successfully written to a device.
+     *
+     * @param serialNumber The serial number of the device
+     * @param paletteHash The hash of the palette
+     */
+    static void setWritten (final int serialNumber, final int paletteHash)
+    {
+        if (serialNumber > 0)
+            PALETTE_HASHES.put (Integer.valueOf (serialNumber), Integer.valueOf (paletteHash));
+    }
+}
@@ -15,6 +15,7 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.featuregroup.AbstractFeatureGroup;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
+import de.mossgrabers.framework.observer.Interest;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 
@@ -152,26 +153,9 @@ public class FrameMode extends BaseMode<IItem>
     public FrameMode (final PushControlSurface surface, final IModel model)
     {
         super ("Frame", surface, model);
-    }
-
 
-    /** {@inheritDoc} */
-    @Override
-    public void onActivate ()
-    {
-        super.onActivate ();
-
-        this.setActive (true);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onDeactivate ()
-    {
-        super.onDeactivate ();
-
-        this.setActive (false);
+        this.interests.add (Interest.ARRANGER);
+        this.interests.add (Interest.MIXER);
     }
 
 
@@ -426,11 +410,4 @@ public class FrameMode extends BaseMode<IItem>
 
         return -1;
     }
-
-
-    private void setActive (final boolean enable)
-    {
-        this.model.getArranger ().enableObservers (enable);
-        this.model.getMixer ().enableObservers (enable);
-    }
 }
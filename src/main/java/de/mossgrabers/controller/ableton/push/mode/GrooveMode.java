@@ -19,6 +19,7 @@ import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.featuregroup.AbstractFeatureGroup;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.Interest;
 import de.mossgrabers.framework.parameter.IParameter;
 import de.mossgrabers.framework.parameterprovider.special.FixedParameterProvider;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -62,6 +63,8 @@ public class GrooveMode extends BaseMode<IItem>
         }
 
         this.setParameterProvider (new FixedParameterProvider (this.params));
+
+        this.interests.add (Interest.GROOVE);
     }
 
 
@@ -228,8 +231,6 @@ public class GrooveMode extends BaseMode<IItem>
 
     private void setActive (final boolean enable)
     {
-        final IGroove groove = this.model.getGroove ();
-        groove.enableObservers (enable);
-        groove.setIndication (enable);
+        this.model.getGroove ().setIndication (enable);
     }
 }
\ No newline at end of file
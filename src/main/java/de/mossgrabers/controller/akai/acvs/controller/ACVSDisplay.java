@@ -139,8 +139,7 @@ public class ACVSDisplay extends AbstractTextDisplay
     @Override
     public void forceFlush ()
     {
-        for (int row = 0; row < this.noOfLines; row++)
-            this.currentMessage[row] = null;
+        super.forceFlush ();
         for (int row = 0; row < this.noOfLines; row++)
             this.currentColor[row] = null;
         for (final ScreenItem item: ScreenItem.values ())
@@ -6,6 +6,7 @@ package de.mossgrabers.controller.akai.apc.controller;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.controller.grid.PadGridUpdates;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
 
@@ -34,17 +35,45 @@ public class APCPadGrid extends PadGridImpl
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void sendNoteState (final int channel, final int note, final int color)
+    {
+        // The MkI addresses the pads of a row with the same note on different channels, which
+        // cannot be collected by note, therefore the states are sent directly
+        if (this.isMkII)
+            super.sendNoteState (channel, note, color);
+        else
+            this.output.sendNoteEx (channel, note, color);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
     {
         if (this.isMkII)
-            this.output.sendNoteEx (fast ? 12 : 10, note, blinkColor);
+            super.sendBlinkState (channel, note, blinkColor, fast);
         else
             this.output.sendNoteEx (channel, note, blinkColor);
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void sendUpdates (final PadGridUpdates padUpdates)
+    {
+        // Only used by the MkII, which uses different channels for blinking
+        for (int note = padUpdates.nextChange (0); note >= 0; note = padUpdates.nextChange (note + 1))
+        {
+            this.output.sendNoteEx (padUpdates.getChannel (note), note, padUpdates.getColor (note));
+            final int blinkColor = padUpdates.getBlinkColor (note);
+            if (blinkColor > 0)
+                this.output.sendNoteEx (padUpdates.isFast (note) ? 12 : 10, note, blinkColor);
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int translateToGrid (final int note)
@@ -105,16 +105,6 @@ public class FireControlSurface extends AbstractControlSurface<FireConfiguration
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    protected void flushHardware ()
-    {
-        super.flushHardware ();
-
-        ((FirePadGrid) this.padGrid).flush ();
-    }
-
-
     /** {@inheritDoc} */
     @Override
     protected void internalShutdown ()
@@ -175,4 +165,4 @@ public class FireControlSurface extends AbstractControlSurface<FireConfiguration
     {
         this.output.sendCCEx (channel, cc, value);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
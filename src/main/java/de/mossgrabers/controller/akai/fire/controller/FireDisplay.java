@@ -35,13 +35,39 @@ public class FireDisplay extends AbstractGraphicDisplay
       };
     // @formatter:on
 
+    private static final int       WIDTH         = 128;
+    private static final int       HEIGHT        = 64;
+    private static final int       NUM_STRIPES   = HEIGHT / 8;
     private static final int       STRIPE_SIZE   = 147;
-    private static final int       PACKET_SIZE   = 4 + STRIPE_SIZE;
+    /** Groups of 7 columns of 8 pixels are packed into 8 bytes of 7 bits. */
+    private static final int       GROUP_COLUMNS = 7;
+    private static final int       GROUP_SIZE    = 8;
+
+    /** The index of the byte in a stripe for each pixel of a stripe. */
+    private static final int []    PIXEL_BYTE    = new int [8 * WIDTH];
+    /** The bit mask in the byte for each pixel of a stripe. */
+    private static final int []    PIXEL_BIT     = new int [8 * WIDTH];
+
+    static
+    {
+        // Re-map by tiling 7x8 block of translated pixels
+        for (int y = 0; y < 8; y++)
+        {
+            for (int x = 0; x < WIDTH; x++)
+            {
+                final int remapBit = BIT_MUTATE[y][x % GROUP_COLUMNS];
+                PIXEL_BYTE[y * WIDTH + x] = x / GROUP_COLUMNS * GROUP_SIZE + remapBit / 7;
+                PIXEL_BIT[y * WIDTH + x] = 1 << remapBit % 7;
+            }
+        }
+    }
 
     private final IMidiOutput      output;
-    private final int [] []        oledBitmap    = new int [8] [STRIPE_SIZE];
-    private final int [] []        oldOledBitmap = new int [8] [STRIPE_SIZE];
-    private final byte []          data          = new byte [12 + STRIPE_SIZE];
+    private final byte []          pixels        = new byte [WIDTH * HEIGHT * 4];
+    private final byte [] []       oledBitmap    = new byte [NUM_STRIPES] [STRIPE_SIZE];
+    private final byte [] []       oldOledBitmap = new byte [NUM_STRIPES] [STRIPE_SIZE];
+    /** The system exclusive messages by the number of bytes of the update. */
+    private final byte [] []       messages      = new byte [STRIPE_SIZE + 1] [];
 
     private long                   lastSend      = System.currentTimeMillis ();
 
@@ -56,27 +82,9 @@ public class FireDisplay extends AbstractGraphicDisplay
      */
     public FireDisplay (final IHost host, final IMidiOutput output, final int maxParameterValue)
     {
-        super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (128, 64, maxParameterValue), "Fire Display");
+        super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (WIDTH, HEIGHT, maxParameterValue), "Fire Display");
 
         this.output = output;
-
-        this.data[0] = (byte) 0xF0;
-        this.data[1] = 0x47; // AKAI
-        this.data[2] = 0x7F; // All-Call
-        this.data[3] = 0x43; // Fire
-        this.data[4] = 0x0E; // WRITE OLED
-
-        // Pay-load length high
-        this.data[5] = (byte) (PACKET_SIZE / 128);
-        // Pay-load length low
-        this.data[6] = (byte) (PACKET_SIZE % 128);
-
-        // Start column of update
-        this.data[9] = 0x00;
-        // End column of update
-        this.data[10] = 0x7f;
-
-        this.data[this.data.length - 1] = (byte) 0xF7;
     }
 
 
@@ -95,59 +103,122 @@ public class FireDisplay extends AbstractGraphicDisplay
     @Override
     protected void send (final IBitmap image)
     {
-        synchronized (this.data)
+        synchronized (this.oledBitmap)
         {
             image.encode ( (imageBuffer, width, height) -> {
 
-                // Unwind 128x64 arrangement into a 1024x8 arrangement of pixels
-                for (int stripe = 0; stripe < 8; stripe++)
+                imageBuffer.get (this.pixels, 0, Math.min (this.pixels.length, imageBuffer.remaining ()));
+
+                // Unwind 128x64 arrangement into a 1024x8 arrangement of pixels, the pixels are
+                // stored as blue, green, red and alpha
+                final int stripePixels = 8 * WIDTH;
+                for (int stripe = 0; stripe < NUM_STRIPES; stripe++)
                 {
-                    for (int y = 0; y < height / 8; y++)
+                    final byte [] bitmap = this.oledBitmap[stripe];
+                    Arrays.fill (bitmap, (byte) 0);
+                    int pos = stripe * stripePixels * 4;
+                    for (int i = 0; i < stripePixels; i++)
                     {
-                        for (int x = 0; x < width; x++)
-                        {
-                            final int blue = imageBuffer.get ();
-                            final int green = imageBuffer.get ();
-                            final int red = imageBuffer.get ();
-                            imageBuffer.get (); // Drop unused Alpha
-
-                            final int xpos = x + 128 * (y / 8);
-                            final int ypos = y % 8;
-
-                            // Re-map by tiling 7x8 block of translated pixels
-                            final int remapBit = BIT_MUTATE[ypos][xpos % 7];
-                            final int idx = xpos / 7 * 8 + remapBit / 7;
-                            if (blue + green + red < 0)
-                                this.oledBitmap[stripe][idx] |= 1 << remapBit % 7;
-                            else
-                                this.oledBitmap[stripe][idx] &= ~(1 << remapBit % 7);
-                        }
+                        if (this.pixels[pos] + this.pixels[pos + 1] + this.pixels[pos + 2] < 0)
+                            bitmap[PIXEL_BYTE[i]] |= PIXEL_BIT[i];
+                        pos += 4;
                     }
                 }
             });
 
             // Convert to system exclusive and send to device
-            for (int stripe = 0; stripe < 8; stripe++)
+            for (int stripe = 0; stripe < NUM_STRIPES; stripe++)
             {
-                // Start 8-pixel band of update
-                this.data[7] = (byte) stripe;
-                // End 8-pixel band of update (here, 8 bands of 8 pixels, i.e. the whole display)
-                this.data[8] = (byte) stripe;
+                final byte [] bitmap = this.oledBitmap[stripe];
+                final byte [] oldBitmap = this.oldOledBitmap[stripe];
 
-                for (int i = 0; i < STRIPE_SIZE; i++)
-                    this.data[11 + i] = (byte) this.oledBitmap[stripe][i];
+                // Find the range of the changed bytes
+                int first = 0;
+                while (first < STRIPE_SIZE && bitmap[first] == oldBitmap[first])
+                    first++;
+                int last = STRIPE_SIZE - 1;
+                while (last > first && bitmap[last] == oldBitmap[last])
+                    last--;
 
                 // Slow down display updates to not flood the device controller
                 // Send if content has change or every 3 seconds if there was no change to keep
                 // the display from going into sleep mode
                 final long now = System.currentTimeMillis ();
-                if (Arrays.compare (this.oledBitmap[stripe], this.oldOledBitmap[stripe]) == 0 && now - this.lastSend < 3000)
-                    continue;
-                System.arraycopy (this.oledBitmap[stripe], 0, this.oldOledBitmap[stripe], 0, STRIPE_SIZE);
+                if (first == STRIPE_SIZE)
+                {
+                    if (now - this.lastSend < 3000)
+                        continue;
+                    first = 0;
+                    last = STRIPE_SIZE - 1;
+                }
+                System.arraycopy (bitmap, 0, oldBitmap, 0, STRIPE_SIZE);
                 this.lastSend = now;
 
-                this.output.sendSysex (this.data);
+                this.sendStripe (stripe, first / GROUP_SIZE, last / GROUP_SIZE);
             }
         }
     }
+
+
+    /**
+     * Send the columns of a stripe which contain the given groups of 7 columns. Since the groups
+     * start at a multiple of 7 columns, the bytes of the update are identical to the bytes of the
+     * whole stripe.
+     *
+     * @param stripe The index of the 8-pixel band
+     * @param firstGroup The first group of 7 columns to send
+     * @param lastGroup The last group of 7 columns to send
+     */
+    private void sendStripe (final int stripe, final int firstGroup, final int lastGroup)
+    {
+        final int start = firstGroup * GROUP_SIZE;
+        final int length = Math.min (STRIPE_SIZE, (lastGroup + 1) * GROUP_SIZE) - start;
+        final byte [] data = this.getMessage (length);
+
+        // Start 8-pixel band of update
+        data[7] = (byte) stripe;
+        // End 8-pixel band of update
+        data[8] = (byte) stripe;
+        // Start column of update
+        data[9] = (byte) (firstGroup * GROUP_COLUMNS);
+        // End column of update
+        data[10] = (byte) Math.min (WIDTH - 1, (lastGroup + 1) * GROUP_COLUMNS - 1);
+
+        System.arraycopy (this.oledBitmap[stripe], start, data, 11, length);
+
+        this.output.sendSysex (data);
+    }
+
+
+    /**
+     * Get the system exclusive message for an update with the given number of bytes. The message
+     * is created when it is used for the first time.
+     *
+     * @param length The number of bytes of the update
+     * @return The message
+     */
+    private byte [] getMessage (final int length)
+    {
+        byte [] data = this.messages[length];
+        if (data != null)
+            return data;
+
+        final int packetSize = 4 + length;
+        data = new byte [12 + length];
+        data[0] = (byte) 0xF0;
+        data[1] = 0x47; // AKAI
+        data[2] = 0x7F; // All-Call
+        data[3] = 0x43; // Fire
+        data[4] = 0x0E; // WRITE OLED
+
+        // Pay-load length high
+        data[5] = (byte) (packetSize / 128);
+        // Pay-load length low
+        data[6] = (byte) (packetSize % 128);
+
+        data[data.length - 1] = (byte) 0xF7;
+
+        this.messages[length] = data;
+        return data;
+    }
 }
\ No newline at end of file
@@ -8,13 +8,11 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 
 
 /**
@@ -41,8 +39,9 @@ public class FirePadGrid extends BlinkingPadGrid
             INVERSE_TRANSLATE_16x4_MATRIX.put (Integer.valueOf (TRANSLATE_16x4_MATRIX[i]), Integer.valueOf (36 + i));
     }
 
-    private double padBrightness = 1.0;
-    private double padSaturation = 1.0;
+    private final SysexBuilder sysexBuilder  = new SysexBuilder (0x47, 0x7F, 0x43, 0x65);
+    private double             padBrightness = 1.0;
+    private double             padSaturation = 1.0;
 
 
     /**
@@ -82,64 +81,55 @@ public class FirePadGrid extends BlinkingPadGrid
     @Override
     protected void updateController ()
     {
-        final StringBuilder sb = new StringBuilder ();
+        this.updateBlinkingStates ();
 
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
-        {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
-            final int index = note - 54;
-            // Note: The exact PADx is not needed for getting the color
-            ColorEx color = this.colorManager.getColor (info.getColor (), ButtonID.PAD1);
-            // Do not scale black!
-            if (!color.equals (ColorEx.BLACK))
-                color = color.scale (this.padBrightness, this.padSaturation);
-            final int [] c = color.toIntRGB127 ();
-            sb.append (StringUtils.toHexStr (index)).append (' ');
-            sb.append (StringUtils.toHexStr (c[0])).append (' ');
-            sb.append (StringUtils.toHexStr (c[1])).append (' ');
-            sb.append (StringUtils.toHexStr (c[2])).append (' ');
-
-            // Hardware does not support blinking, therefore needs to be implemented the hard
-            // way
-            final Integer key = Integer.valueOf (index);
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (key, info);
-            else
-                this.blinkingLights.remove (key);
-        }
+        // Toggle blink colors every 600ms
+        final boolean isBlinkToggled = this.checkBlinking ();
 
-        int length = this.padInfos.size ();
+        int length = this.updates.getNumChanges ();
+        if (isBlinkToggled)
+            length += this.getNumBlinking ();
 
-        // Toggle blink colors every 600ms
-        if (this.checkBlinking ())
-        {
-            length += this.blinkingLights.size ();
+        // No update necessary
+        if (length == 0)
+            return;
+
+        length *= 4;
+        this.sysexBuilder.start ().add (length / 128, length % 128);
+
+        for (int note = this.updates.nextChange (0); note >= 0; note = this.updates.nextChange (note + 1))
+            this.addPadColor (note, this.updates.getColor (note));
 
-            for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
+        // Hardware does not support blinking, therefore needs to be implemented the hard way
+        if (isBlinkToggled)
+        {
+            for (int note = 0; note < NUM_NOTES; note++)
             {
-                final LightInfo info = value.getValue ();
-
-                final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-                final int [] c = this.colorManager.getColor (colorIndex, ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-                sb.append (StringUtils.toHexStr (value.getKey ().intValue ())).append (' ');
-                sb.append (StringUtils.toHexStr (c[0])).append (' ');
-                sb.append (StringUtils.toHexStr (c[1])).append (' ');
-                sb.append (StringUtils.toHexStr (c[2])).append (' ');
+                final int state = this.blinkingStates[note];
+                if (state != 0)
+                    this.addPadColor (note, this.isBlink ? state >> 8 : state & 0x7F);
             }
         }
 
-        // No update necessary
-        if (sb.length () == 0)
-            return;
+        this.sysexBuilder.send (this.output);
+    }
 
-        length *= 4;
-        final StringBuilder msg = new StringBuilder ("F0 47 7F 43 65 ");
-        msg.append (StringUtils.toHexStr (length / 128)).append (' ');
-        msg.append (StringUtils.toHexStr (length % 128)).append (' ');
 
-        this.output.sendSysex (msg.append (sb).append ("F7").toString ());
+    /**
+     * Add the RGB color of a pad to the system exclusive message.
+     *
+     * @param note The note of the pad
+     * @param colorIndex The index of the color
+     */
+    private void addPadColor (final int note, final int colorIndex)
+    {
+        // Note: The exact PADx is not needed for getting the color
+        ColorEx color = this.colorManager.getColor (colorIndex, ButtonID.PAD1);
+        // Do not scale black!
+        if (!color.equals (ColorEx.BLACK))
+            color = color.scale (this.padBrightness, this.padSaturation);
+        final int [] c = color.toIntRGB127 ();
+        this.sysexBuilder.add (note - 54, c[0], c[1], c[2]);
     }
 
 
@@ -154,4 +144,4 @@ public class FirePadGrid extends BlinkingPadGrid
         this.padBrightness = padBrightness;
         this.padSaturation = padSaturation;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -45,6 +45,15 @@ public class BeatstepPadGrid extends PadGridImpl
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
+    {
+        // The note state is not collected, therefore the blink state must not be collected either
+        this.output.sendNoteEx (fast ? 14 : 10, note, blinkColor);
+    }
+
+
     /**
      * Light a pad.
      *
@@ -238,6 +238,7 @@ public class GamepadConfiguration extends AbstractConfiguration
         });
 
         this.activateNoteRepeatSetting (documentSettings);
+        this.activateLogPerformanceStatisticsSetting (globalSettings);
     }
 
 
@@ -57,6 +57,8 @@ public class GamepadControlSurface extends AbstractControlSurface<GamepadConfigu
     protected void internalShutdown ()
     {
         this.gameControllerInputThread.stop ();
+        if (this.configuration.isLogPerformanceStatistics ())
+            this.gameControllerInputThread.logStatistics ();
     }
 
 
@@ -6,6 +6,7 @@ package de.mossgrabers.controller.gamepad.controller;
 
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.InputEventQueue;
 
 import com.studiohartman.jamepad.ControllerAxis;
 import com.studiohartman.jamepad.ControllerButton;
@@ -13,8 +14,6 @@ import com.studiohartman.jamepad.ControllerIndex;
 import com.studiohartman.jamepad.ControllerManager;
 import com.studiohartman.jamepad.ControllerUnpluggedException;
 
-import java.util.EnumMap;
-import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 
@@ -25,17 +24,24 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 public class GamepadControllerInputThread implements Runnable
 {
-    private static final long                    INTERVAL           = 1;
+    private static final long                INTERVAL           = 1;
 
-    private final AtomicBoolean                  running            = new AtomicBoolean (false);
+    private static final int                 EVENT_BUTTON       = 0;
+    private static final int                 EVENT_AXIS         = 1;
 
-    private final IHost                          host;
-    private final ControllerManager              gamepadManager;
-    private final IGamepadCallback               gamepadCallback;
-    private final Map<ControllerButton, Boolean> buttonStates       = new EnumMap<> (ControllerButton.class);
-    private final Map<ControllerAxis, Float>     axisStates         = new EnumMap<> (ControllerAxis.class);
+    private static final ControllerButton [] BUTTONS            = ControllerButton.values ();
+    private static final ControllerAxis []   AXES               = ControllerAxis.values ();
 
-    private int                                  selectedController = -1;
+    private final AtomicBoolean              running            = new AtomicBoolean (false);
+
+    private final IHost                      host;
+    private final ControllerManager          gamepadManager;
+    private final IGamepadCallback           gamepadCallback;
+    private final InputEventQueue            inputQueue;
+    private final boolean []                 buttonStates       = new boolean [BUTTONS.length];
+    private final float []                   axisStates         = new float [AXES.length];
+
+    private int                              selectedController = -1;
 
 
     /**
@@ -50,6 +56,7 @@ public class GamepadControllerInputThread implements Runnable
         this.host = host;
         this.gamepadManager = gamepadManager;
         this.gamepadCallback = gamepadCallback;
+        this.inputQueue = new InputEventQueue (host, 256, InputEventQueue.NO_DELTA_TYPE, this::handleInputEvent);
     }
 
 
@@ -71,6 +78,15 @@ public class GamepadControllerInputThread implements Runnable
     }
 
 
+    /**
+     * Log the statistics of the input event queue.
+     */
+    public void logStatistics ()
+    {
+        this.host.println ("Gamepad input: " + this.inputQueue);
+    }
+
+
     /**
      * Select the controller at the given index.
      *
@@ -131,26 +147,24 @@ public class GamepadControllerInputThread implements Runnable
 
                     try
                     {
-                        for (final ControllerButton button: ControllerButton.values ())
+                        for (int i = 0; i < BUTTONS.length; i++)
                         {
-                            final boolean isPressed = currController.isButtonPressed (button);
-                            final Boolean state = this.buttonStates.getOrDefault (button, Boolean.FALSE);
-                            if (state.booleanValue () == isPressed)
+                            final boolean isPressed = currController.isButtonPressed (BUTTONS[i]);
+                            if (this.buttonStates[i] == isPressed)
                                 continue;
 
-                            this.buttonStates.put (button, Boolean.valueOf (isPressed));
-                            this.host.scheduleTask ( () -> this.gamepadCallback.process (button, isPressed ? ButtonEvent.DOWN : ButtonEvent.UP), 0);
+                            this.buttonStates[i] = isPressed;
+                            this.inputQueue.add (EVENT_BUTTON, i, isPressed ? 1 : 0);
                         }
 
-                        for (final ControllerAxis axis: ControllerAxis.values ())
+                        for (int i = 0; i < AXES.length; i++)
                         {
-                            final float position = currController.getAxisState (axis);
-                            final Float state = this.axisStates.getOrDefault (axis, Float.valueOf (0));
-                            if (state.floatValue () == position)
+                            final float position = currController.getAxisState (AXES[i]);
+                            if (this.axisStates[i] == position)
                                 continue;
 
-                            this.axisStates.put (axis, Float.valueOf (position));
-                            this.host.scheduleTask ( () -> this.gamepadCallback.process (axis, position), 0);
+                            this.axisStates[i] = position;
+                            this.inputQueue.add (EVENT_AXIS, i, Float.floatToIntBits (position));
                         }
                     }
                     catch (final ControllerUnpluggedException ex)
@@ -165,4 +179,19 @@ public class GamepadControllerInputThread implements Runnable
             this.host.error ("Controller error.", ex);
         }
     }
+
+    /**
+     * Handle an input event on the DAW thread.
+     *
+     * @param type The type of the event
+     * @param id The index of the button or axis
+     * @param value The state of the button or the bits of the axis position
+     */
+    private void handleInputEvent (final int type, final int id, final int value)
+    {
+        if (type == EVENT_BUTTON)
+            this.gamepadCallback.process (BUTTONS[id], value > 0 ? ButtonEvent.DOWN : ButtonEvent.UP);
+        else
+            this.gamepadCallback.process (AXES[id], Float.intBitsToFloat (value));
+    }
 }
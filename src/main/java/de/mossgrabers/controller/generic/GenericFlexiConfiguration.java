@@ -21,7 +21,6 @@ import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
 import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.FileEx;
-import de.mossgrabers.framework.utils.Pair;
 
 import java.io.File;
 import java.io.FileReader;
@@ -259,6 +258,10 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     /** The number of command slots. */
     public static final int                          NUM_SLOTS                    = 300;
 
+    private static final int                         NUM_SLOT_TYPES               = CommandSlot.TYPE_MMC + 1;
+    private static final int                         NUM_SLOT_CHANNELS            = 16;
+    private static final int                         OMNI_CHANNEL                 = 16;
+
     private IEnumSetting                             slotSelectionSetting;
     private IEnumSetting                             typeSetting;
     private IEnumSetting                             numberSetting;
@@ -282,6 +285,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private String                                   filename;
     private final Object                             syncMapUpdate                = new Object ();
     private int []                                   keyMap;
+    private volatile int []                          slotIndex;
+    private volatile int []                          reflectedSlots;
     private int                                      selectedSlot                 = 0;
 
     private String                                   learnTypeValue               = null;
@@ -475,7 +480,10 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
             this.getSelectedSlot ().setKnobMode (KnobMode.lookupByLabel (value));
             this.fixKnobMode ();
         });
-        this.sendValueSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
+        this.sendValueSetting.addValueObserver (value -> {
+            this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0);
+            this.reflectedSlots = null;
+        });
         this.sendValueWhenReceivedSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValueWhenReceived (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
 
         ///////////////////////////////////////////////
@@ -567,6 +575,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         final FlexiCommand oldCommand = slot.getCommand ();
         final FlexiCommand newCommand = FlexiCommand.lookupByName (value);
         slot.setCommand (newCommand);
+        if (oldCommand != newCommand && (oldCommand == FlexiCommand.OFF || newCommand == FlexiCommand.OFF))
+            this.clearNoteMap ();
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
@@ -632,41 +642,94 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public int getSlotCommand (final int type, final int number, final int midiChannel)
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
+        if (type < 0 || type >= NUM_SLOT_TYPES || number < 0 || number > 127 || midiChannel < 0 || midiChannel >= NUM_SLOT_CHANNELS)
+            return -1;
+
+        int [] index = this.slotIndex;
+        if (index == null)
+            index = this.createSlotIndex ();
+        return index[getSlotIndexPosition (type, number, midiChannel)];
+    }
+
+
+    /**
+     * Creates the lookup table from type, MIDI channel and number to the slot index. The entries
+     * of slots with the 'All' MIDI channel are added to all channels. If several slots match, the
+     * one with the lowest index wins.
+     *
+     * @return The lookup table
+     */
+    private int [] createSlotIndex ()
+    {
+        synchronized (this.syncMapUpdate)
         {
-            final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
+            if (this.slotIndex != null)
+                return this.slotIndex;
+
+            final int [] index = new int [NUM_SLOT_TYPES * NUM_SLOT_CHANNELS * 128];
+            Arrays.fill (index, -1);
+
+            // Iterate backwards, so that slots with a lower index overwrite the others
+            for (int i = this.commandSlots.length - 1; i >= 0; i--)
             {
+                final CommandSlot slot = this.commandSlots[i];
+                final int type = slot.getType ();
+                final int number = slot.getNumber ();
+                if (slot.getCommand () == FlexiCommand.OFF || type < 0 || type >= NUM_SLOT_TYPES || number < 0 || number > 127)
+                    continue;
+
                 final int channel = slot.getMidiChannel ();
-                if (channel == midiChannel || channel == 16)
-                    return i;
+                if (channel == OMNI_CHANNEL)
+                {
+                    for (int c = 0; c < NUM_SLOT_CHANNELS; c++)
+                        index[getSlotIndexPosition (type, number, c)] = i;
+                }
+                else if (channel >= 0 && channel < NUM_SLOT_CHANNELS)
+                    index[getSlotIndexPosition (type, number, channel)] = i;
             }
+
+            this.slotIndex = index;
+            return index;
         }
-        return -1;
     }
 
 
     /**
-     * Get a matching configured slot, if available.
+     * Get the indices of all slots which have a command assigned and send its value back to the
+     * device.
      *
-     * @param type The type
-     * @param number The number
-     * @param midiChannel The MIDI channel
-     * @return The slot or empty if not found
+     * @return The slot indices
      */
-    public Optional<Pair<Integer, CommandSlot>> getSlot (final int type, final int number, final int midiChannel)
+    public int [] getReflectedSlots ()
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
+        final int [] slots = this.reflectedSlots;
+        if (slots != null)
+            return slots;
+
+        synchronized (this.syncMapUpdate)
         {
-            final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
+            if (this.reflectedSlots == null)
             {
-                final int channel = slot.getMidiChannel ();
-                if (channel == midiChannel || channel == 16)
-                    return Optional.of (new Pair<> (Integer.valueOf (i), slot));
+                final int [] indices = new int [this.commandSlots.length];
+                int count = 0;
+                for (int i = 0; i < this.commandSlots.length; i++)
+                {
+                    final CommandSlot slot = this.commandSlots[i];
+                    if (slot.getCommand () != FlexiCommand.OFF && slot.isSendValue ())
+                        indices[count++] = i;
+                }
+                this.reflectedSlots = Arrays.copyOf (indices, count);
             }
+            return this.reflectedSlots;
         }
-        return Optional.empty ();
+    }
+
+
+    private static int getSlotIndexPosition (final int type, final int number, final int midiChannel)
+    {
+        // The number of pitch bend is the first data byte of the value, therefore not relevant
+        final int n = type == CommandSlot.TYPE_PITCH_BEND ? 0 : number;
+        return (type * NUM_SLOT_CHANNELS + midiChannel) * 128 + n;
     }
 
 
@@ -705,6 +768,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         synchronized (this.syncMapUpdate)
         {
             this.keyMap = null;
+            this.slotIndex = null;
+            this.reflectedSlots = null;
         }
         this.notifyObservers (SLOT_CHANGE);
     }
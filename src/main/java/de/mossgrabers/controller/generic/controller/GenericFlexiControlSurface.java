@@ -15,7 +15,6 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.mode.Modes;
-import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.nativefiledialogs.FileFilter;
 import de.mossgrabers.nativefiledialogs.NativeFileDialogs;
@@ -44,6 +43,9 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     };
 
     private final int []                                  valueCache      = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private final int []                                  commandValues   = new int [FlexiCommand.values ().length];
+    private final int []                                  commandFlushes  = new int [FlexiCommand.values ().length];
+    private int                                           flushCounter    = 0;
     private final Map<FlexiCommand, IFlexiCommandHandler> handlers        = new EnumMap<> (FlexiCommand.class);
     private NativeFileDialogs                             dialogs;
 
@@ -101,12 +103,16 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     @Override
     public void flush ()
     {
+        // Several slots might be assigned to the same command, get the value of each command only
+        // once per flush
+        this.flushCounter++;
+
         final CommandSlot [] slots = this.configuration.getCommandSlots ();
-        for (int i = 0; i < slots.length; i++)
+        for (final int index: this.configuration.getReflectedSlots ())
         {
-            final FlexiCommand command = slots[i].getCommand ();
-            if (command != FlexiCommand.OFF && slots[i].isSendValue ())
-                this.flushValue (i, slots[i]);
+            final CommandSlot slot = slots[index];
+            if (slot.getCommand () != FlexiCommand.OFF)
+                this.flushValue (index, slot);
         }
     }
 
@@ -117,7 +123,14 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         if (this.isUpdatingValue && !(command.isTrigger () && slot.isSendValueWhenReceived ()))
             return;
 
-        final int value = this.getCommandValue (command);
+        final int ordinal = command.ordinal ();
+        if (this.commandFlushes[ordinal] != this.flushCounter)
+        {
+            this.commandFlushes[ordinal] = this.flushCounter;
+            this.commandValues[ordinal] = this.getCommandValue (command);
+        }
+
+        final int value = this.commandValues[ordinal];
         if (this.valueCache[index] == value)
             return;
 
@@ -229,49 +242,37 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
 
         this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE.get (CommandSlot.TYPE_CC + 1), data1, channel, isHighRes);
 
+        final CommandSlot [] commandSlots = this.configuration.getCommandSlots ();
         int slotIndex = -1;
         int value = 0;
         boolean isHighResValue = false;
 
-        // Check for high resolution related setting
-        if (data1 >= 0 && data1 < 32)
-        {
-            final Optional<Pair<Integer, CommandSlot>> optional = this.configuration.getSlot (CommandSlot.TYPE_CC, data1, channel);
-            if (optional.isPresent ())
-            {
-                final Pair<Integer, CommandSlot> pair = optional.get ();
-                if (pair.getValue ().getResolution ())
-                {
-                    slotIndex = pair.getKey ().intValue ();
-                    value = data2 * 128 + this.lastCCValues[data1 + 32];
-                    isHighResValue = true;
-                }
-            }
-        }
-        else if (data1 >= 32 && data1 < 64)
+        // Check if the CC is the lower part (LSB) of a high resolution CC
+        if (data1 >= 32 && data1 < 64)
         {
             final int firstCC = data1 - 32;
-            final Optional<Pair<Integer, CommandSlot>> optional = this.configuration.getSlot (CommandSlot.TYPE_CC, firstCC, channel);
-            if (optional.isPresent ())
+            final int index = this.configuration.getSlotCommand (CommandSlot.TYPE_CC, firstCC, channel);
+            if (index >= 0 && commandSlots[index].getResolution ())
             {
-                final Pair<Integer, CommandSlot> pair = optional.get ();
-                if (pair.getValue ().getResolution ())
-                {
-                    slotIndex = pair.getKey ().intValue ();
-                    value = this.lastCCValues[firstCC] * 128 + data2;
-                    isHighResValue = true;
-                }
+                slotIndex = index;
+                value = this.lastCCValues[firstCC] * 128 + data2;
+                isHighResValue = true;
             }
         }
 
-        // No Hi-Res
         if (slotIndex == -1)
         {
-            final Optional<Pair<Integer, CommandSlot>> optional = this.configuration.getSlot (CommandSlot.TYPE_CC, data1, channel);
-            if (optional.isPresent ())
+            slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_CC, data1, channel);
+            if (slotIndex >= 0)
             {
-                slotIndex = optional.get ().getKey ().intValue ();
-                value = data2;
+                // Check for high resolution related setting
+                if (data1 < 32 && commandSlots[slotIndex].getResolution ())
+                {
+                    value = data2 * 128 + this.lastCCValues[data1 + 32];
+                    isHighResValue = true;
+                }
+                else
+                    value = data2;
             }
         }
 
@@ -512,4 +513,4 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
                 break;
         }
     }
-}
\ No newline at end of file
+}
@@ -679,10 +679,7 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
         if (!this.configuration.hasSegmentDisplay ())
             return;
 
-        final ITransport t = this.model.getTransport ();
-        String positionText = t.getPositionText ();
-        positionText = positionText.replace ('.', ':');
-        surface.getSegmentDisplay ().setRow (0, positionText).allDone ();
+        surface.getSegmentDisplay ().setDigits (this.model.getTransport ().getPositionChars ());
     }
 
 
@@ -5,13 +5,13 @@
 package de.mossgrabers.controller.mackie.hui.controller;
 
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
+import de.mossgrabers.framework.controller.display.TextLineBuffer;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.utils.OutputScheduler;
+import de.mossgrabers.framework.utils.OutputSlot;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 
@@ -24,9 +24,9 @@ import java.util.concurrent.TimeUnit;
  */
 public class HUIDisplay extends AbstractTextDisplay
 {
-    private static final String      SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
-
-    private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
+    private final OutputSlot     slot         = OutputScheduler.getInstance ().createSlot ("HUI display");
+    private final SysexBuilder   sysexBuilder = new SysexBuilder (0x00, 0x00, 0x66, 0x05, 0x00, 0x10);
+    private final TextLineBuffer lineBuffer   = new TextLineBuffer (36, 0);
 
 
     /**
@@ -46,37 +46,48 @@ public class HUIDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        if (this.executor.isShutdown ())
+        if (this.slot.isShutdown ())
             return;
-        this.executor.execute ( () -> {
+        this.slot.execute ( () -> {
             try
             {
                 this.sendDisplayLine (text);
             }
             catch (final RuntimeException ex)
             {
+                this.lineBuffer.invalidate ();
                 this.host.error ("Could not send line to HUI display.", ex);
             }
         });
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        this.lineBuffer.invalidate ();
+        super.forceFlush ();
+    }
+
+
     /**
-     * Send a line to the display.
+     * Send a line to the display. Only the zones (4 characters each) which contain changed
+     * characters are sent.
      *
      * @param text The text to send
      */
     private void sendDisplayLine (final String text)
     {
-        final String t = text;
-
-        final int [] array = new int [5];
+        this.lineBuffer.update (text);
         for (int cell = 0; cell < this.noOfCells; cell++)
         {
-            array[0] = cell;
+            if (!this.lineBuffer.isDirty (cell * 4, 4))
+                continue;
+            this.sysexBuilder.start ().add (cell);
             for (int i = 0; i < 4; i++)
-                array[1 + i] = t.charAt (cell * 4 + i);
-            this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
+                this.sysexBuilder.add (this.lineBuffer.charAt (cell * 4 + i));
+            this.sysexBuilder.send (this.output);
         }
     }
 
@@ -87,33 +98,17 @@ public class HUIDisplay extends AbstractTextDisplay
     {
         this.notifyOnDisplay ("Please start " + this.host.getName () + "...");
 
-        final ExecutorService shutdownExecutor = Executors.newSingleThreadExecutor ();
-        shutdownExecutor.execute ( () -> {
-
-            // Prevent further sends
-            this.executor.shutdown ();
-            try
-            {
-                if (!this.executor.awaitTermination (5, TimeUnit.SECONDS))
-                    this.host.error ("HUI display send executor did not end in 5 seconds.");
-            }
-            catch (final InterruptedException ex)
-            {
-                this.host.error ("HUI display send executor interrupted.", ex);
-                Thread.currentThread ().interrupt ();
-            }
-
-        });
-        shutdownExecutor.shutdown ();
+        // Prevent further sends, the notification is still sent
+        this.slot.shutdown ();
         try
         {
-            if (!shutdownExecutor.awaitTermination (10, TimeUnit.SECONDS))
-                this.host.error ("HUI display shutdown executor did not end in 10 seconds.");
+            if (!this.slot.awaitTermination (5, TimeUnit.SECONDS))
+                this.host.error ("HUI display send slot did not end in 5 seconds.");
         }
         catch (final InterruptedException ex)
         {
-            this.host.error ("Display shutdown interrupted.", ex);
+            this.host.error ("HUI display send slot interrupted.", ex);
             Thread.currentThread ().interrupt ();
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
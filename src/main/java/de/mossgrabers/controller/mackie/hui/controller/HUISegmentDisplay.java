@@ -7,10 +7,9 @@ package de.mossgrabers.controller.mackie.hui.controller;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 import java.util.Arrays;
-import java.util.Locale;
 
 
 /**
@@ -20,10 +19,9 @@ import java.util.Locale;
  */
 public class HUISegmentDisplay extends AbstractTextDisplay
 {
-    private static final String SYSEX_HDR          = "F0 00 00 66 05 00 11 ";
-
     private final int []        transportBuffer    = new int [8];
     private final int []        oldtransportBuffer = new int [8];
+    private final SysexBuilder  sysexBuilder       = new SysexBuilder (0x00, 0x00, 0x66, 0x05, 0x00, 0x11);
 
 
     /**
@@ -44,18 +42,41 @@ public class HUISegmentDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        // Sets the position string. Must only contain numbers and ':'
-        final String lowerText = text.toLowerCase (Locale.US);
+        this.writeDigits (text);
+    }
+
+
+    /**
+     * Write the position directly to the display without going through the text rows. Only the
+     * changed digits are sent.
+     *
+     * @param text The position, must only contain numbers, '.' and ':'
+     */
+    public void setDigits (final CharSequence text)
+    {
+        if (this.writeDigits (text))
+            this.hwDisplay.setLine (0, text.toString ());
+    }
+
+
+    /**
+     * Send the changed digits of the position.
+     *
+     * @param text The position, must only contain numbers, '.' and ':'
+     * @return True if at least one digit was changed
+     */
+    private boolean writeDigits (final CharSequence text)
+    {
         Arrays.fill (this.transportBuffer, 0);
 
         // Convert string to display character codes
         int index = 0;
-        for (int i = lowerText.length () - 1; i >= 0; i--)
+        for (int i = text.length () - 1; i >= 0; i--)
         {
-            final char c = lowerText.charAt (i);
+            final char c = text.charAt (i);
 
             // Set a dot
-            if (c == ':')
+            if (c == ':' || c == '.')
                 this.transportBuffer[index] += 0x10;
             else
             {
@@ -80,16 +101,17 @@ public class HUISegmentDisplay extends AbstractTextDisplay
         }
         // Nothing has changed
         if (pos == -1)
-            return;
+            return false;
 
         // Store the changes
         System.arraycopy (this.transportBuffer, 0, this.oldtransportBuffer, 0, pos + 1);
 
         // Create and send the message with changed digits
-        final int [] data = new int [pos + 1];
-        System.arraycopy (this.transportBuffer, 0, data, 0, data.length);
-        final String msg = SYSEX_HDR + StringUtils.toHexStr (data) + "F7";
-        this.output.sendSysex (msg);
+        this.sysexBuilder.start ();
+        for (int i = 0; i <= pos; i++)
+            this.sysexBuilder.add (this.transportBuffer[i]);
+        this.sysexBuilder.send (this.output);
+        return true;
     }
 
 
@@ -99,4 +121,4 @@ public class HUISegmentDisplay extends AbstractTextDisplay
     {
         // Intentionally empty
     }
-}
\ No newline at end of file
+}
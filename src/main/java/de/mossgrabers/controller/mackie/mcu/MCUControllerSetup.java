@@ -168,6 +168,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     private int                     masterFaderValue = -1;
     private final int []            vuValues         = new int [36];
     private final int []            faderValues      = new int [36];
+    private final StringBuilder     segmentText      = new StringBuilder (16);
     private final int               numMCUDevices;
 
 
@@ -774,28 +775,35 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             return;
 
         final ITransport t = this.model.getTransport ();
+        final boolean isDisplayTime = this.configuration.isDisplayTime ();
 
-        String positionText = this.configuration.isDisplayTime () ? t.getPositionText () : t.getBeatText ();
-        positionText = positionText.replace ('.', ':');
-
-        if (this.configuration.isDisplayTicks ())
-        {
-            if (!this.configuration.isDisplayTime ())
-                positionText += " ";
-        }
+        // The formatted position is a reused buffer, therefore no strings are created
+        final CharSequence position = isDisplayTime ? t.getPositionChars () : t.getBeatChars ();
+        final CharSequence positionText;
+        if (this.configuration.isDisplayTicks () && isDisplayTime)
+            positionText = position;
         else
         {
-            String tempoStr = t.formatTempoNoFraction (t.getTempo ());
-            final int pos = positionText.lastIndexOf (':');
-            if (tempoStr.length () < 3)
-                tempoStr = "0" + tempoStr;
-            positionText = positionText.substring (0, pos + 1) + tempoStr;
+            this.segmentText.setLength (0);
+            this.segmentText.append (position);
+            if (this.configuration.isDisplayTicks ())
+                this.segmentText.append (' ');
+            else
+            {
+                // Replace the ticks with the tempo
+                this.segmentText.setLength (this.segmentText.lastIndexOf (":") + 1);
+                final int tempo = (int) Math.rint (t.getTempo ());
+                if (tempo < 100)
+                    this.segmentText.append ('0');
+                this.segmentText.append (tempo);
+            }
+            positionText = this.segmentText;
         }
 
         for (int index = 0; index < this.numMCUDevices; index++)
         {
             if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN)
-                this.getSurface (index).getTextDisplay (2).setRow (0, positionText).allDone ();
+                ((MCUSegmentDisplay) this.getSurface (index).getTextDisplay (2)).setDigits (positionText);
         }
     }
 
@@ -6,13 +6,13 @@ package de.mossgrabers.controller.mackie.mcu.controller;
 
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
+import de.mossgrabers.framework.controller.display.TextLineBuffer;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.utils.OutputScheduler;
+import de.mossgrabers.framework.utils.OutputSlot;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 
@@ -23,15 +23,38 @@ import java.util.concurrent.TimeUnit;
  */
 public class MCUDisplay extends AbstractTextDisplay
 {
-    private static final String         SYSEX_DISPLAY_HEADER1_MAIN     = "F0 00 00 66 14 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER1_EXTENDER = "F0 00 00 66 15 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER2          = "F0 00 00 67 15 13 ";
+    private static final int []         SYSEX_DISPLAY_HEADER1_MAIN     =
+    {
+        0x00,
+        0x00,
+        0x66,
+        0x14,
+        0x12
+    };
+    private static final int []         SYSEX_DISPLAY_HEADER1_EXTENDER =
+    {
+        0x00,
+        0x00,
+        0x66,
+        0x15,
+        0x12
+    };
+    private static final int []         SYSEX_DISPLAY_HEADER2          =
+    {
+        0x00,
+        0x00,
+        0x67,
+        0x15,
+        0x13
+    };
 
     private final boolean               isFirstDisplay;
     private final boolean               isExtender;
     private final boolean               hasMaster;
 
-    private final LatestTaskExecutor [] executors                      = new LatestTaskExecutor [4];
+    private final OutputSlot []         slots                          = new OutputSlot [4];
+    private final SysexBuilder []       sysexBuilders                  = new SysexBuilder [4];
+    private final TextLineBuffer []     lineBuffers                    = new TextLineBuffer [4];
     private boolean                     isShutdown                     = false;
     private boolean                     insertSpace                    = true;
 
@@ -56,8 +79,16 @@ public class MCUDisplay extends AbstractTextDisplay
 
         this.centerNotification = false;
 
-        for (int i = 0; i < this.executors.length; i++)
-            this.executors[i] = new LatestTaskExecutor ();
+        final int [] header = this.getHeader ();
+        for (int i = 0; i < this.slots.length; i++)
+        {
+            this.slots[i] = OutputScheduler.getInstance ().createSlot ("MCU display row " + i);
+            // The tasks of different slots are executed in parallel, therefore each needs its own
+            // builder
+            this.sysexBuilders[i] = new SysexBuilder (header);
+            // Overhead of a message: start, header, character offset and end
+            this.lineBuffers[i] = new TextLineBuffer (56, header.length + 3);
+        }
     }
 
 
@@ -78,14 +109,16 @@ public class MCUDisplay extends AbstractTextDisplay
     {
         try
         {
-            final String content;
+            final int position = column * this.charactersOfCell;
             if (this.insertSpace)
-                content = StringUtils.pad (value, this.charactersOfCell - 1) + " ";
+            {
+                this.writeText (row, position, this.charactersOfCell - 1, value);
+                this.cellLines[row][position + this.charactersOfCell - 1] = ' ';
+            }
             else
-                content = StringUtils.pad (value, this.charactersOfCell);
-            this.cells[row * this.noOfCells + column] = content;
+                this.writeText (row, position, this.charactersOfCell, value);
         }
-        catch (final ArrayIndexOutOfBoundsException ex)
+        catch (final IndexOutOfBoundsException ex)
         {
             this.host.error ("Display array index out of bounds.", ex);
         }
@@ -100,6 +133,8 @@ public class MCUDisplay extends AbstractTextDisplay
         String t = text;
         if (!this.isFirstDisplay && this.hasMaster)
         {
+            // Only the 9 cells are shown, moved to the right to end at the last character
+            t = t.substring (0, Math.min (t.length (), this.noOfCells * this.charactersOfCell));
             if (row == 0)
                 t = t.substring (0, t.length () - 1) + 'r';
             t = "  " + t;
@@ -116,25 +151,42 @@ public class MCUDisplay extends AbstractTextDisplay
         if (this.isShutdown)
             return;
 
-        final LatestTaskExecutor executor = this.executors[row + (this.isFirstDisplay ? 0 : 2)];
-        executor.execute ( () -> {
+        final int index = row + (this.isFirstDisplay ? 0 : 2);
+        final OutputSlot slot = this.slots[index];
+        final SysexBuilder sysexBuilder = this.sysexBuilders[index];
+        final TextLineBuffer lineBuffer = this.lineBuffers[index];
+        slot.execute ( () -> {
             try
             {
-                final int length = text.length ();
-                final int [] array = new int [length];
-                for (int i = 0; i < length; i++)
-                    array[i] = text.charAt (i);
-                this.output.sendSysex (new StringBuilder (this.getHeader ()).append (row == 0 ? "00 " : "38 ").append (StringUtils.toHexStr (array)).append ("F7").toString ());
+                // Only send the changed characters, each message addresses its character offset
+                final int lineOffset = row == 0 ? 0x00 : 0x38;
+                final int runs = lineBuffer.update (text);
+                for (int run = 0; run < runs; run++)
+                {
+                    final int start = lineBuffer.getRunStart (run);
+                    sysexBuilder.start ().add (lineOffset + start).addText (lineBuffer, start, lineBuffer.getRunLength (run)).send (this.output);
+                }
             }
             catch (final RuntimeException ex)
             {
+                lineBuffer.invalidate ();
                 this.host.error ("Could not send line to MCU display.", ex);
             }
         });
     }
 
 
-    private String getHeader ()
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        for (final TextLineBuffer lineBuffer: this.lineBuffers)
+            lineBuffer.invalidate ();
+        super.forceFlush ();
+    }
+
+
+    private int [] getHeader ()
     {
         if (this.isFirstDisplay)
             return this.isExtender ? SYSEX_DISPLAY_HEADER1_EXTENDER : SYSEX_DISPLAY_HEADER1_MAIN;
@@ -154,35 +206,21 @@ public class MCUDisplay extends AbstractTextDisplay
         // Prevent further sends
         this.isShutdown = true;
 
-        final ExecutorService shutdownExecutor = Executors.newSingleThreadExecutor ();
-        shutdownExecutor.execute ( () -> {
-
-            for (final LatestTaskExecutor executor: this.executors)
+        // The slots still send the notification, wait for them one after the other
+        for (final OutputSlot slot: this.slots)
+        {
+            slot.shutdown ();
+            try
             {
-                executor.shutdown ();
-                try
-                {
-                    if (!executor.awaitTermination (5, TimeUnit.SECONDS))
-                        this.host.error ("MCU display send executor did not end in 5 seconds.");
-                }
-                catch (final InterruptedException ex)
-                {
-                    this.host.error ("MCU display send executor interrupted.", ex);
-                    Thread.currentThread ().interrupt ();
-                }
+                if (!slot.awaitTermination (5, TimeUnit.SECONDS))
+                    this.host.error ("MCU display send slot " + slot + " did not end in 5 seconds.");
+            }
+            catch (final InterruptedException ex)
+            {
+                this.host.error ("MCU display send slot interrupted.", ex);
+                Thread.currentThread ().interrupt ();
+                return;
             }
-
-        });
-        shutdownExecutor.shutdown ();
-        try
-        {
-            if (!shutdownExecutor.awaitTermination (10, TimeUnit.SECONDS))
-                this.host.error ("MCU display shutdown executor did not end in 10 seconds.");
-        }
-        catch (final InterruptedException ex)
-        {
-            this.host.error ("Display shutdown interrupted.", ex);
-            Thread.currentThread ().interrupt ();
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -35,7 +35,32 @@ public class MCUSegmentDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        // Sets the position string. Must only contain numbers and ':'.
+        this.writeDigits (text);
+    }
+
+
+    /**
+     * Write the position directly to the display without going through the text rows. Only the
+     * changed digits are sent.
+     *
+     * @param text The position, must only contain numbers, '.' and ':'
+     */
+    public void setDigits (final CharSequence text)
+    {
+        if (this.writeDigits (text))
+            this.hwDisplay.setLine (0, text.toString ());
+    }
+
+
+    /**
+     * Send the changed digits of the position.
+     *
+     * @param text The position, must only contain numbers, '.' and ':'
+     * @return True if at least one digit was changed
+     */
+    private boolean writeDigits (final CharSequence text)
+    {
+        boolean hasChanged = false;
         boolean addDot = false;
         int pos = text.length () - 1;
         int i = 0;
@@ -46,7 +71,7 @@ public class MCUSegmentDisplay extends AbstractTextDisplay
             {
                 final char singleDigit = text.charAt (pos);
                 pos--;
-                final boolean isDot = singleDigit == ':';
+                final boolean isDot = singleDigit == ':' || singleDigit == '.';
                 if (isDot)
                 {
                     addDot = isDot;
@@ -62,10 +87,12 @@ public class MCUSegmentDisplay extends AbstractTextDisplay
             {
                 this.output.sendCC (0x40 + i, c);
                 this.transportBuffer[i] = c;
+                hasChanged = true;
             }
             i++;
             addDot = false;
         }
+        return hasChanged;
     }
 
 
@@ -77,4 +104,4 @@ public class MCUSegmentDisplay extends AbstractTextDisplay
         for (int i = 0; i < 12; i++)
             this.output.sendCC (0x40 + i, 0x20);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
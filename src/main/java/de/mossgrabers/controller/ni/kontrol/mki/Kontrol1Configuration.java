@@ -71,6 +71,11 @@ public class Kontrol1Configuration extends AbstractConfiguration
         this.activateExcludeDeactivatedItemsSetting (globalSettings);
         this.activateEnableVUMetersSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
+
+        ///////////////////////////
+        // Debugging
+
+        this.activateLogPerformanceStatisticsSetting (globalSettings);
     }
 
 
@@ -8,7 +8,6 @@ import de.mossgrabers.controller.ni.kontrol.mki.Kontrol1Configuration;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -18,8 +17,9 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class Kontrol1Display extends AbstractTextDisplay
 {
-    private final int               maxParameterValue;
-    private final Kontrol1UsbDevice usbDevice;
+    private final int                   maxParameterValue;
+    private final Kontrol1Configuration configuration;
+    private final Kontrol1UsbDevice     usbDevice;
 
 
     /**
@@ -34,6 +34,7 @@ public class Kontrol1Display extends AbstractTextDisplay
     {
         super (host, null, 2 /* No of rows */, 9 /* No of cells */, 72 /* No of characters */);
         this.maxParameterValue = maxParameterValue;
+        this.configuration = configuration;
         this.usbDevice = usbDevice;
     }
 
@@ -43,6 +44,8 @@ public class Kontrol1Display extends AbstractTextDisplay
     public void shutdown ()
     {
         this.usbDevice.shutdown ();
+        if (this.configuration.isLogPerformanceStatistics ())
+            this.usbDevice.logStatistics ();
     }
 
 
@@ -76,17 +79,8 @@ public class Kontrol1Display extends AbstractTextDisplay
     @Override
     public ITextDisplay setBlock (final int row, final int block, final String value)
     {
-        final int cell = 2 * block;
-        if (value.length () > 9)
-        {
-            this.cells[row * this.noOfCells + cell] = value.substring (0, 9);
-            this.cells[row * this.noOfCells + cell + 1] = StringUtils.pad (value.substring (9), 8);
-        }
-        else
-        {
-            this.cells[row * this.noOfCells + cell] = StringUtils.pad (value, 9);
-            this.clearCell (row, cell + 1);
-        }
+        // A block covers 2 cells of 8 characters
+        this.writeText (row, 2 * block * 8, 16, value);
         return this;
     }
 
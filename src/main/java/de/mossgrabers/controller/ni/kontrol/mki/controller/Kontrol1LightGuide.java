@@ -17,6 +17,7 @@ import de.mossgrabers.framework.controller.grid.LightGuideImpl;
 public class Kontrol1LightGuide extends LightGuideImpl
 {
     private final Kontrol1UsbDevice usbDevice;
+    private int                     firstNote = -1;
 
 
     /**
@@ -33,6 +34,22 @@ public class Kontrol1LightGuide extends LightGuideImpl
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void sendState (final int note)
+    {
+        // The translation depends on the octave of the keyboard
+        final int newFirstNote = this.usbDevice.getFirstNote ();
+        if (newFirstNote != this.firstNote)
+        {
+            this.firstNote = newFirstNote;
+            this.clearTranslationCache ();
+        }
+
+        super.sendState (note);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int [] translateToController (final int note)
@@ -6,9 +6,11 @@ package de.mossgrabers.controller.ni.kontrol.mki.controller;
 
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.usb.HidReportWriter;
 import de.mossgrabers.framework.usb.IHidDevice;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.InputEventQueue;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
@@ -325,6 +327,11 @@ public class Kontrol1UsbDevice
         0,
         (byte) 129
     };
+    private static final byte []               EMPTY_CHARACTER           = new byte []
+    {
+        0,
+        0
+    };
 
     private static final int []                BYTE_0                    =
     {
@@ -408,10 +415,14 @@ public class Kontrol1UsbDevice
     private static final int                   SIZE_DISPLAY              = 248;
     private static final int                   SIZE_BUTTON_LEDS          = 25;
 
+    private static final long                  SHUTDOWN_TIMEOUT          = 5000;
+
+    private static final int                   EVENT_MAIN_ENCODER        = 0;
+    private static final int                   EVENT_ENCODER             = 1;
+    private static final int                   EVENT_BUTTON              = 2;
+    private static final int                   EVENT_OCTAVE              = 3;
+
     private final int                          sizeKeyLEDs;
-    private final IMemoryBlock                 displayBlock;
-    private final IMemoryBlock                 ledBlock;
-    private final IMemoryBlock                 keyLedBlock;
     private final IMemoryBlock                 initBlock;
 
     private static final Map<Integer, Integer> LED_MAPPING               = new HashMap<> (21);
@@ -422,9 +433,12 @@ public class Kontrol1UsbDevice
     private IHidDevice                         hidDevice;
 
     private UIChangeCallback                   callback;
+    private final InputEventQueue              inputQueue;
 
     private int                                mainEncoderValue;
     private final int []                       encoderValues             = new int [8];
+    // The last states of the 5 button bytes
+    private final int []                       buttonBytes               = new int [5];
     private int                                firstNote                 = 48;
 
     private final byte []                      buttonStates              = new byte [21];
@@ -438,7 +452,22 @@ public class Kontrol1UsbDevice
     private final char [] []                   texts                     = new char [2] [72];
     private final char [] []                   oldTexts                  = new char [2] [72];
 
-    private final byte []                      line0                     = new byte [SIZE_DISPLAY];
+    private final int [] []                    oldBars                   = new int [9] [9];
+    private final boolean [] []                oldDots                   = new boolean [2] [72];
+    private boolean                            isBarRowValid             = false;
+
+    // Re-used buffers in which the reports are assembled before they are handed to the writer
+    private final byte []                      displayData               = new byte [SIZE_DISPLAY];
+    private final ByteBuffer                   displayBuffer             = ByteBuffer.wrap (this.displayData);
+    private final byte []                      ledData                   = new byte [SIZE_BUTTON_LEDS];
+    private final byte []                      keyLedData;
+
+    // One writer for the device, which sends the reports of the 3 display rows, the button and key
+    // LEDs in turn
+    private HidReportWriter                    writer;
+    private final int []                       displayReports            = new int [3];
+    private int                                ledReport;
+    private int                                keyLedReport;
 
     private boolean                            isFirstStateMsg           = true;
 
@@ -478,6 +507,7 @@ public class Kontrol1UsbDevice
     {
         this.modelIndex = modelIndex;
         this.host = host;
+        this.inputQueue = new InputEventQueue (host, 1024, EVENT_ENCODER, this::handleInputEvent);
 
         try
         {
@@ -497,14 +527,23 @@ public class Kontrol1UsbDevice
         }
 
         this.sizeKeyLEDs = KEY_SIZES[modelIndex] * 3;
+        this.keyLedData = new byte [this.sizeKeyLEDs];
 
-        this.displayBlock = host.createMemoryBlock (SIZE_DISPLAY);
-        this.ledBlock = host.createMemoryBlock (SIZE_BUTTON_LEDS);
-        this.keyLedBlock = host.createMemoryBlock (this.sizeKeyLEDs);
         this.initBlock = host.createMemoryBlock (2);
 
+        if (this.hidDevice != null)
+        {
+            this.writer = new HidReportWriter (this.hidDevice, "Kontrol 1 output");
+            for (int row = 0; row < this.displayReports.length; row++)
+                this.displayReports[row] = this.writer.addReport (REPORT_ID_OUTPUT_DISPLAY, SIZE_DISPLAY);
+            this.ledReport = this.writer.addReport (REPORT_ID_OUTPUT_LEDS, SIZE_BUTTON_LEDS);
+            this.keyLedReport = this.writer.addReport (REPORT_ID_OUTPUT_KEY_LEDS, this.sizeKeyLEDs);
+        }
+
         // To send black LEDs on startup
         this.oldKeyColors[0] = -1;
+        // To send all button states with the first message
+        Arrays.fill (this.buttonBytes, -1);
     }
 
 
@@ -658,66 +697,79 @@ public class Kontrol1UsbDevice
 
 
     /**
-     * Send all display data to the device.
+     * Send all display data to the device. Only the rows which have changed are sent.
      */
     public void sendDisplayData ()
     {
         if (this.hidDevice == null)
             return;
 
-        synchronized (this.displayBlock)
+        // The first row contains the value bars and the dots
+        if (!this.isBarRowValid || this.haveBarsOrDotsChanged ())
         {
-            final ByteBuffer displayBuffer = this.displayBlock.createByteBuffer ();
-            fillHeader (displayBuffer, 0);
+            this.isBarRowValid = true;
+            for (int col = 0; col < this.bars.length; col++)
+                System.arraycopy (this.bars[col], 0, this.oldBars[col], 0, this.bars[col].length);
+            for (int row = 0; row < this.dots.length; row++)
+                System.arraycopy (this.dots[row], 0, this.oldDots[row], 0, this.dots[row].length);
+
+            fillHeader (this.displayBuffer, 0);
             for (int j = 0; j < 72; j++)
             {
                 final int col = j / 8;
-                displayBuffer.put ((byte) this.bars[col][j - col * 8]);
+                this.displayBuffer.put ((byte) this.bars[col][j - col * 8]);
 
                 if (j % 8 == 7)
-                    displayBuffer.put ((byte) this.bars[col][8]);
+                    this.displayBuffer.put ((byte) this.bars[col][8]);
                 else
                 {
                     if (this.dots[0][j] && this.dots[1][j])
-                        displayBuffer.put ((byte) 255);
+                        this.displayBuffer.put ((byte) 255);
                     else if (this.dots[0][j])
-                        displayBuffer.put ((byte) 253);
+                        this.displayBuffer.put ((byte) 253);
                     else if (this.dots[1][j])
-                        displayBuffer.put ((byte) 254);
+                        this.displayBuffer.put ((byte) 254);
                     else
-                        displayBuffer.put ((byte) 0);
+                        this.displayBuffer.put ((byte) 0);
                 }
             }
-            padBuffer (displayBuffer);
-
-            final byte [] l0 = new byte [SIZE_DISPLAY];
-            displayBuffer.rewind ();
-            displayBuffer.get (l0);
-
-            if (!Arrays.equals (this.line0, l0))
-            {
-                System.arraycopy (l0, 0, this.line0, 0, this.line0.length);
-                this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
-            }
+            padBuffer (this.displayBuffer);
+            this.writer.send (this.displayReports[0], this.displayData);
+        }
 
-            for (int row = 1; row < 3; row++)
+        for (int row = 1; row < 3; row++)
+        {
+            if (!Arrays.equals (this.oldTexts[row - 1], this.texts[row - 1]))
             {
-                if (!Arrays.equals (this.oldTexts[row - 1], this.texts[row - 1]))
-                {
-                    System.arraycopy (this.texts[row - 1], 0, this.oldTexts[row - 1], 0, this.oldTexts[row - 1].length);
+                System.arraycopy (this.texts[row - 1], 0, this.oldTexts[row - 1], 0, this.oldTexts[row - 1].length);
 
-                    fillHeader (displayBuffer, row);
-                    for (int j = 0; j < 72; j++)
-                        displayBuffer.put (this.getCharacter (row - 1, j));
+                fillHeader (this.displayBuffer, row);
+                for (int j = 0; j < 72; j++)
+                    this.displayBuffer.put (this.getCharacter (row - 1, j));
 
-                    padBuffer (displayBuffer);
-                    this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
-                }
+                padBuffer (this.displayBuffer);
+                this.writer.send (this.displayReports[row], this.displayData);
             }
         }
     }
 
 
+    private boolean haveBarsOrDotsChanged ()
+    {
+        for (int col = 0; col < this.bars.length; col++)
+        {
+            if (!Arrays.equals (this.bars[col], this.oldBars[col]))
+                return true;
+        }
+        for (int row = 0; row < this.dots.length; row++)
+        {
+            if (!Arrays.equals (this.dots[row], this.oldDots[row]))
+                return true;
+        }
+        return false;
+    }
+
+
     /**
      * Stop sending USB data and close USB device.
      */
@@ -727,10 +779,32 @@ public class Kontrol1UsbDevice
             return;
         final IHidDevice device = this.hidDevice;
         this.hidDevice = null;
+
+        // Send the pending reports before the device is closed
+        try
+        {
+            if (!this.writer.shutdown (SHUTDOWN_TIMEOUT))
+                this.host.error (this.writer + " did not end in " + SHUTDOWN_TIMEOUT + " ms.");
+        }
+        catch (final InterruptedException ex)
+        {
+            this.host.error (this.writer + " interrupted.", ex);
+            Thread.currentThread ().interrupt ();
+        }
+
         device.close ();
     }
 
 
+    /**
+     * Log the statistics of the input event queue.
+     */
+    public void logStatistics ()
+    {
+        this.host.println ("Kontrol 1 input: " + this.inputQueue);
+    }
+
+
     /**
      * Set a button LED.
      *
@@ -753,18 +827,13 @@ public class Kontrol1UsbDevice
         if (this.hidDevice == null)
             return;
 
-        synchronized (this.ledBlock)
-        {
-            if (Arrays.equals (this.oldButtonStates, this.buttonStates))
-                return;
-            System.arraycopy (this.buttonStates, 0, this.oldButtonStates, 0, this.oldButtonStates.length);
+        if (Arrays.equals (this.oldButtonStates, this.buttonStates))
+            return;
+        System.arraycopy (this.buttonStates, 0, this.oldButtonStates, 0, this.oldButtonStates.length);
 
-            final ByteBuffer ledBuffer = this.ledBlock.createByteBuffer ();
-            ledBuffer.clear ();
-            ledBuffer.put (this.buttonStates);
-            padBuffer (ledBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_LEDS, this.ledBlock);
-        }
+        // The bytes after the button states stay 0
+        System.arraycopy (this.buttonStates, 0, this.ledData, 0, this.buttonStates.length);
+        this.writer.send (this.ledReport, this.ledData);
     }
 
 
@@ -783,7 +852,7 @@ public class Kontrol1UsbDevice
         if (key < 0 || key >= 88)
             return;
         final int pos = 3 * key;
-        synchronized (this.keyLedBlock)
+        synchronized (this.keyColors)
         {
             this.keyColors[pos] = (byte) red;
             this.keyColors[pos + 1] = (byte) green;
@@ -800,16 +869,13 @@ public class Kontrol1UsbDevice
         if (this.hidDevice == null)
             return;
 
-        synchronized (this.keyLedBlock)
+        synchronized (this.keyColors)
         {
             if (Arrays.equals (this.oldKeyColors, this.keyColors))
                 return;
             System.arraycopy (this.keyColors, 0, this.oldKeyColors, 0, this.oldKeyColors.length);
-            final ByteBuffer keyLedBuffer = this.keyLedBlock.createByteBuffer ();
-            keyLedBuffer.clear ();
-            keyLedBuffer.put (this.keyColors, 0, this.sizeKeyLEDs);
-            padBuffer (keyLedBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, this.keyLedBlock);
+            System.arraycopy (this.keyColors, 0, this.keyLedData, 0, this.sizeKeyLEDs);
+            this.writer.send (this.keyLedReport, this.keyLedData);
         }
     }
 
@@ -854,7 +920,7 @@ public class Kontrol1UsbDevice
             final boolean valueIncreased = (this.mainEncoderValue < currentEncoderValue || this.mainEncoderValue == 0x0F && currentEncoderValue == 0) && !(this.mainEncoderValue == 0 && currentEncoderValue == 0x0F);
             this.mainEncoderValue = currentEncoderValue;
             if (!this.isFirstStateMsg)
-                this.host.scheduleTask ( () -> this.callback.mainEncoderChanged (valueIncreased), 0);
+                this.inputQueue.add (EVENT_MAIN_ENCODER, 0, valueIncreased ? 1 : 0);
             encoderChange = true;
         }
 
@@ -879,15 +945,9 @@ public class Kontrol1UsbDevice
                     diff = diff - 999;
 
                 this.encoderValues[encIndex] = value;
+                // Slow down, minimum value seems to be 4
                 if (!this.isFirstStateMsg)
-                {
-                    final int ei = encIndex;
-
-                    // Slow down, minimum value seems to be 4
-                    final int control = diff / 4;
-
-                    this.host.scheduleTask ( () -> this.callback.encoderChanged (ei, control), 0);
-                }
+                    this.inputQueue.add (EVENT_ENCODER, encIndex, diff / 4);
                 encoderChange = true;
             }
         }
@@ -895,14 +955,14 @@ public class Kontrol1UsbDevice
         this.isFirstStateMsg = false;
 
         // Test the pressed buttons
-        this.testByteForButtons (data[0], BYTE_0);
-        this.testByteForButtons (data[1], BYTE_1);
-        this.testByteForButtons (data[2], BYTE_2);
+        this.testByteForButtons (0, data[0], BYTE_0);
+        this.testByteForButtons (1, data[1], BYTE_1);
+        this.testByteForButtons (2, data[2], BYTE_2);
         // Don't test touch events on encoder change to prevent flickering
         if (!encoderChange)
         {
-            this.testByteForButtons (data[3], BYTE_3);
-            this.testByteForButtons (data[4], BYTE_4);
+            this.testByteForButtons (3, data[3], BYTE_3);
+            this.testByteForButtons (4, data[4], BYTE_4);
         }
 
         // Changes the octave on the keyboard
@@ -910,7 +970,7 @@ public class Kontrol1UsbDevice
         {
             // Store the new start note
             this.firstNote = data[36];
-            this.host.scheduleTask ( () -> this.callback.octaveChanged (this.firstNote), 0);
+            this.inputQueue.add (EVENT_OCTAVE, 0, this.firstNote);
         }
     }
 
@@ -946,26 +1006,61 @@ public class Kontrol1UsbDevice
                 return BWD_SLASH;
 
             default:
-                return new byte []
-                {
-                    0,
-                    0
-                };
+                return EMPTY_CHARACTER;
         }
     }
 
 
-    private void testByteForButtons (final byte b, final int [] buttons)
+    private void testByteForButtons (final int byteIndex, final byte b, final int [] buttons)
     {
         if (this.callback == null)
             return;
 
+        // Only queue the buttons which have changed, otherwise the events of an encoder are never
+        // adjacent and cannot be summed up
         final int t = Byte.toUnsignedInt (b);
+        final int changed = t ^ this.buttonBytes[byteIndex];
+        this.buttonBytes[byteIndex] = t;
         for (int i = 0; i < buttons.length; i++)
         {
-            final int button = buttons[i];
+            if ((changed & TEST_BITS[i]) == 0)
+                continue;
             final boolean isPressed = (t & TEST_BITS[i]) > 0;
-            this.host.scheduleTask ( () -> this.callback.buttonChange (button, isPressed), 0);
+            this.inputQueue.add (EVENT_BUTTON, buttons[i], isPressed ? 1 : 0);
+        }
+    }
+
+
+    /**
+     * Handle an input event on the DAW thread.
+     *
+     * @param type The type of the event
+     * @param id The index of the encoder or the ID of the button
+     * @param value The value of the event
+     */
+    private void handleInputEvent (final int type, final int id, final int value)
+    {
+        if (this.callback == null)
+            return;
+
+        switch (type)
+        {
+            case EVENT_MAIN_ENCODER:
+                this.callback.mainEncoderChanged (value > 0);
+                break;
+            case EVENT_ENCODER:
+                // The summed up steps must fit into the 7 bit relative value
+                this.callback.encoderChanged (id, Math.max (-63, Math.min (63, value)));
+                break;
+            case EVENT_BUTTON:
+                this.callback.buttonChange (id, value > 0);
+                break;
+            case EVENT_OCTAVE:
+                this.callback.octaveChanged (value);
+                break;
+            default:
+                // Not used
+                break;
         }
     }
 
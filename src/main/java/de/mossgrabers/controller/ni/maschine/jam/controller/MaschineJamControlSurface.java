@@ -200,16 +200,6 @@ public class MaschineJamControlSurface extends AbstractMaschineControlSurface<Ma
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    protected void flushHardware ()
-    {
-        super.flushHardware ();
-
-        ((MaschinePadGrid) this.padGrid).flush ();
-    }
-
-
     /** {@inheritDoc} */
     @Override
     protected void internalShutdown ()
@@ -267,4 +257,4 @@ public class MaschineJamControlSurface extends AbstractMaschineControlSurface<Ma
         if (hasDualValueChanged)
             this.output.sendSysex (stripDualValues);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
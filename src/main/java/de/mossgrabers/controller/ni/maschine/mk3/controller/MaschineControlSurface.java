@@ -165,16 +165,6 @@ public class MaschineControlSurface extends AbstractMaschineControlSurface<Masch
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    protected void flushHardware ()
-    {
-        super.flushHardware ();
-
-        ((MaschinePadGrid) this.padGrid).flush ();
-    }
-
-
     /** {@inheritDoc} */
     @Override
     public void setTrigger (final BindType bindType, final int channel, final int cc, final int state)
@@ -198,4 +188,4 @@ public class MaschineControlSurface extends AbstractMaschineControlSurface<Masch
         this.ribbonValue = value;
         this.output.sendCC (1, value);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.novation.launchkey.maxi.controller;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.nio.charset.Charset;
@@ -22,9 +23,9 @@ import java.nio.charset.UnsupportedCharsetException;
  */
 public class LaunchkeyMk3Display extends AbstractTextDisplay
 {
-    private static final String SYSEX_DISPLAY_HEADER_BASE        = "F0 00 20 29 02 0F 04 ";
-    private static final String SYSEX_DISPLAY_HEADER_PARAM_NAME  = "F0 00 20 29 02 0F 07 ";
-    private static final String SYSEX_DISPLAY_HEADER_PARAM_VALUE = "F0 00 20 29 02 0F 08 ";
+    private static final int    SYSEX_DISPLAY_BASE               = 0x04;
+    private static final int    SYSEX_DISPLAY_PARAM_NAME         = 0x07;
+    private static final int    SYSEX_DISPLAY_PARAM_VALUE        = 0x08;
 
     /** The first row of the base screen. */
     public static final int     SCREEN_ROW_BASE                  = 0;
@@ -36,6 +37,7 @@ public class LaunchkeyMk3Display extends AbstractTextDisplay
     private static final int    SCREEN_ID_POT1                   = 56;
     private static final int    SCREEN_ID_FADER1                 = 80;
 
+    private final SysexBuilder  sysexBuilder                     = new SysexBuilder (0x00, 0x20, 0x29, 0x02, 0x0F);
     private CharsetEncoder      isoEncoder;
 
 
@@ -66,36 +68,35 @@ public class LaunchkeyMk3Display extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        final StringBuilder sb = new StringBuilder ();
+        final SysexBuilder sb = this.sysexBuilder.start ();
 
         if (row < SCREEN_ROW_POTS)
         {
             // Base screen
-            sb.append (SYSEX_DISPLAY_HEADER_BASE).append (StringUtils.toHexStr (row)).append (' ');
+            sb.add (SYSEX_DISPLAY_BASE, row);
         }
         else
         {
-            sb.append (row % 2 == 0 ? SYSEX_DISPLAY_HEADER_PARAM_NAME : SYSEX_DISPLAY_HEADER_PARAM_VALUE);
+            sb.add (row % 2 == 0 ? SYSEX_DISPLAY_PARAM_NAME : SYSEX_DISPLAY_PARAM_VALUE);
 
             if (row < SCREEN_ROW_FADERS)
             {
                 // Pot screens
                 final int index = (row - SCREEN_ROW_POTS) / 2;
-                sb.append (StringUtils.toHexStr (SCREEN_ID_POT1 + index));
+                sb.add (SCREEN_ID_POT1 + index);
             }
             else
             {
                 // Fader screens
                 final int index = (row - SCREEN_ROW_FADERS) / 2;
-                sb.append (StringUtils.toHexStr (SCREEN_ID_FADER1 + index));
+                sb.add (SCREEN_ID_FADER1 + index);
             }
-            sb.append (' ');
         }
 
         // Encode text into Launchkey specific ISO-8859-2 format
         if (this.isoEncoder == null)
         {
-            sb.append (StringUtils.asciiToHex (StringUtils.pad (StringUtils.fixASCII (text), 16)));
+            sb.addText (StringUtils.fixASCII (text), 16);
         }
         else
         {
@@ -105,14 +106,14 @@ public class LaunchkeyMk3Display extends AbstractTextDisplay
                 if (this.isoEncoder.canEncode (character))
                 {
                     if (character > 127)
-                        sb.append ("11 ").append (StringUtils.toHexStr (character - 0x80)).append (' ');
+                        sb.add (0x11, character - 0x80);
                     else
-                        sb.append (StringUtils.toHexStr (character)).append (' ');
+                        sb.add (character);
                 }
             }
         }
 
-        this.output.sendSysex (sb.append ("F7").toString ());
+        sb.send (this.output);
     }
 
 
@@ -122,4 +123,4 @@ public class LaunchkeyMk3Display extends AbstractTextDisplay
     {
         // Intentionally empty
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -177,5 +177,6 @@ public class LaunchkeyPadGrid extends PadGridImpl
     public void setView (final Views view)
     {
         this.activeView = view;
+        this.clearTranslationCache ();
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
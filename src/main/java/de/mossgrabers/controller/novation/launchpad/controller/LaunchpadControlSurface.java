@@ -265,16 +265,6 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    protected void flushHardware ()
-    {
-        super.flushHardware ();
-
-        ((LaunchpadPadGrid) this.padGrid).flush ();
-    }
-
-
     /**
      * Send system exclusive data to the launchpad.
      *
@@ -332,4 +322,4 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
             this.host.println ("Firmware version: " + (firmwareVersion.charAt (0) == '0' ? firmwareVersion.substring (1) : firmwareVersion));
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -6,13 +6,12 @@ package de.mossgrabers.controller.novation.launchpad.controller;
 
 import de.mossgrabers.controller.novation.launchpad.definition.ILaunchpadControllerDefinition;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.controller.grid.PadGridUpdates;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
 
 
 /**
@@ -44,7 +43,6 @@ public class LaunchpadPadGrid extends PadGridImpl
     }
 
     private final ILaunchpadControllerDefinition definition;
-    private final Map<Integer, LightInfo>        padInfos = new TreeMap<> ();
 
 
     /**
@@ -84,42 +82,11 @@ public class LaunchpadPadGrid extends PadGridImpl
     }
 
 
-    /**
-     * Flush the changed pad LEDs using system exclusive.
-     */
-    public void flush ()
-    {
-        synchronized (this.padInfos)
-        {
-            if (this.padInfos.isEmpty ())
-                return;
-            for (final String update: this.definition.buildLEDUpdate (this.padInfos))
-                this.output.sendSysex (update);
-            this.padInfos.clear ();
-        }
-    }
-
-
     /** {@inheritDoc} */
     @Override
-    protected void sendNoteState (final int channel, final int note, final int color)
+    protected void sendUpdates (final PadGridUpdates padUpdates)
     {
-        synchronized (this.padInfos)
-        {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
-        }
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
-    {
-        synchronized (this.padInfos)
-        {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
-        }
+        for (final byte [] update: this.definition.buildLEDUpdate (padUpdates))
+            this.output.sendSysex (update);
     }
-}
\ No newline at end of file
+}
@@ -8,13 +8,13 @@ import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlS
 import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetup;
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.DefaultControllerDefinition;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.PadGridUpdates;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,6 +28,8 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 {
     protected final ButtonSetup buttonSetup = new ButtonSetup ();
 
+    private SysexBuilder        ledUpdateBuilder;
+
 
     /**
      * Constructor.
@@ -111,36 +113,53 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public List<byte []> buildLEDUpdate (final PadGridUpdates padUpdates)
     {
-        final StringBuilder sb = new StringBuilder (this.getSysExHeader ()).append ("03 ");
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        if (this.ledUpdateBuilder == null)
+            this.ledUpdateBuilder = this.createSysexBuilder ();
+
+        final SysexBuilder builder = this.ledUpdateBuilder.start ().add (0x03);
+        for (int note = padUpdates.nextChange (0); note >= 0; note = padUpdates.nextChange (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            final int color = padUpdates.getColor (note);
+            final int blinkColor = padUpdates.getBlinkColor (note);
 
-            if (info.getBlinkColor () <= 0)
+            if (blinkColor <= 0)
             {
                 // 00h: Static color from palette, Lighting data is 1 byte specifying palette
                 // entry.
-                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                builder.add (0x00, note, color);
             }
             else
             {
-                if (info.isFast ())
+                if (padUpdates.isFast (note))
                 {
                     // 01h: Flashing color, Lighting data is 2 bytes specifying Color B and
                     // Color A.
-                    sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    builder.add (0x01, note, blinkColor, color);
                 }
                 else
                 {
                     // 02h: Pulsing color, Lighting data is 1 byte specifying palette entry.
-                    sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    builder.add (0x02, note, color);
                 }
             }
         }
-        return Collections.singletonList (sb.append ("F7").toString ());
+        return Collections.singletonList (builder.build ());
+    }
+
+
+    /**
+     * Create a system exclusive builder for messages which start with the header of the specific
+     * Launchpad.
+     *
+     * @return The builder
+     */
+    protected SysexBuilder createSysexBuilder ()
+    {
+        // Remove the spaces and the start byte (F0)
+        final int [] header = StringUtils.fromHexStr (this.getSysExHeader ().replace (" ", ""));
+        return new SysexBuilder (Arrays.copyOfRange (header, 1, header.length));
     }
 
 
@@ -6,10 +6,9 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetup;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.PadGridUpdates;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 
@@ -94,12 +93,13 @@ public interface ILaunchpadControllerDefinition
 
 
     /**
-     * Create an update system exclusive string for all given pads.
+     * Create the system exclusive messages to update all given pads. The returned arrays are
+     * re-used by the next call.
      *
      * @param padInfos The info how to update the pads
-     * @return The system exclusive string
+     * @return The system exclusive messages
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    List<byte []> buildLEDUpdate (PadGridUpdates padUpdates);
 
 
     /**
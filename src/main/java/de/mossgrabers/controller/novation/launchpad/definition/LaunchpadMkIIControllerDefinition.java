@@ -6,15 +6,13 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.PadGridUpdates;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
-import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -28,6 +26,10 @@ public class LaunchpadMkIIControllerDefinition extends AbstractLaunchpadDefiniti
     private static final UUID   EXTENSION_ID = UUID.fromString ("4E01A0B0-67B1-11E5-A837-0800200C9A66");
     private static final String SYSEX_HEADER = "F0 00 20 29 02 18 ";
 
+    private SysexBuilder        normalBuilder;
+    private SysexBuilder        flashBuilder;
+    private SysexBuilder        pulseBuilder;
+
 
     /**
      * Constructor.
@@ -109,37 +111,40 @@ public class LaunchpadMkIIControllerDefinition extends AbstractLaunchpadDefiniti
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public List<byte []> buildLEDUpdate (final PadGridUpdates padUpdates)
     {
-        final StringBuilder sbNormal = new StringBuilder ();
-        final StringBuilder sbFlash = new StringBuilder ();
-        final StringBuilder sbPulse = new StringBuilder ();
-
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        if (this.normalBuilder == null)
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            this.normalBuilder = this.createSysexBuilder ();
+            this.flashBuilder = this.createSysexBuilder ();
+            this.pulseBuilder = this.createSysexBuilder ();
+        }
 
-            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+        this.normalBuilder.start ().add (0x0A);
+        this.flashBuilder.start ().add (0x23);
+        this.pulseBuilder.start ().add (0x28);
+        final int headerLength = this.normalBuilder.getLength ();
+
+        for (int note = padUpdates.nextChange (0); note >= 0; note = padUpdates.nextChange (note + 1))
+        {
+            this.normalBuilder.add (note, padUpdates.getColor (note));
 
-            if (info.getBlinkColor () > 0)
+            final int blinkColor = padUpdates.getBlinkColor (note);
+            if (blinkColor > 0)
             {
                 // Note: The MkII has an additional prefixed 00 instead of the Pro!
-                if (info.isFast ())
-                    sbFlash.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
-                else
-                    sbPulse.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                final SysexBuilder builder = padUpdates.isFast (note) ? this.flashBuilder : this.pulseBuilder;
+                builder.add (0x00, note, blinkColor);
             }
         }
 
-        final List<String> result = new ArrayList<> (3);
-        final String sysExHeader = this.getSysExHeader ();
-        if (sbNormal.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("0A ").append (sbNormal).append ("F7").toString ());
-        if (sbFlash.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("23 ").append (sbFlash).append ("F7").toString ());
-        if (sbPulse.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("28 ").append (sbPulse).append ("F7").toString ());
+        final List<byte []> result = new ArrayList<> (3);
+        if (this.normalBuilder.getLength () > headerLength)
+            result.add (this.normalBuilder.build ());
+        if (this.flashBuilder.getLength () > headerLength)
+            result.add (this.flashBuilder.build ());
+        if (this.pulseBuilder.getLength () > headerLength)
+            result.add (this.pulseBuilder.build ());
         return result;
     }
 }
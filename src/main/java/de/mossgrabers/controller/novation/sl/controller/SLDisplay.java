@@ -71,30 +71,14 @@ public class SLDisplay extends AbstractTextDisplay
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    public ITextDisplay clearCell (final int row, final int column)
-    {
-        this.cells[row * this.noOfCells + column] = "         ";
-        return this;
-    }
-
-
     /** {@inheritDoc} */
     @Override
     public ITextDisplay setBlock (final int row, final int block, final String value)
     {
-        final int cell = 2 * block;
-        if (value.length () > 9)
-        {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = StringUtils.pad (value.substring (9), 8) + " ";
-        }
-        else
-        {
-            this.cells[row * 8 + cell] = StringUtils.pad (value, 9);
-            this.clearCell (row, cell + 1);
-        }
+        // Each cell has 9 characters, the last character of a block is always a space
+        final int position = 2 * block * 9;
+        this.writeText (row, position, 17, value);
+        this.cellLines[row][position + 17] = ' ';
         return this;
     }
 
@@ -105,9 +89,10 @@ public class SLDisplay extends AbstractTextDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = StringUtils.pad (value, 8) + " ";
+            this.writeText (row, column * 9, 8, value);
+            this.cellLines[row][column * 9 + 8] = ' ';
         }
-        catch (final ArrayIndexOutOfBoundsException ex)
+        catch (final IndexOutOfBoundsException ex)
         {
             this.host.error ("Display array index out of bounds.", ex);
         }
@@ -8,6 +8,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -18,12 +19,10 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class SLMkIIIDisplay extends AbstractTextDisplay
 {
-    private static final String  MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01 ";
-    private static final String  MKIII_SYSEX_LAYOUT_COMMAND       = MKIII_SYSEX_HEADER + "01 %02d F7";
-    private static final String  MKIII_SYSEX_PROPERTY_COMMAND     = MKIII_SYSEX_HEADER + "02 %02d %02d %02d %s F7";
-    private static final String  MKIII_SYSEX_LED_COMMAND          = MKIII_SYSEX_HEADER + "03 %02X 01 %02X %02X %02X F7";
-
-    private static final String  MKIII_SYSEX_NOTIFICATION_COMMAND = MKIII_SYSEX_HEADER + "04 %s F7";
+    private static final int     MKIII_SYSEX_LAYOUT_COMMAND       = 0x01;
+    private static final int     MKIII_SYSEX_PROPERTY_COMMAND     = 0x02;
+    private static final int     MKIII_SYSEX_LED_COMMAND          = 0x03;
+    private static final int     MKIII_SYSEX_NOTIFICATION_COMMAND = 0x04;
 
     /** The empty layout. */
     public static final Integer  SCREEN_LAYOUT_EMPTY              = Integer.valueOf (0);
@@ -39,6 +38,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     private final String []      ledCache                         = new String [8];
     private final int [] []      displayColorCache                = new int [9] [4];
     private final int [] []      displayValueCache                = new int [9] [4];
+    private final SysexBuilder   sysexBuilder                     = new SysexBuilder (0x00, 0x20, 0x29, 0x02, 0x0A, 0x01);
 
 
     /**
@@ -77,7 +77,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
      */
     public void setDisplayLayout (final Integer layout)
     {
-        this.output.sendSysex (String.format (MKIII_SYSEX_LAYOUT_COMMAND, layout));
+        this.sysexBuilder.start ().add (MKIII_SYSEX_LAYOUT_COMMAND, layout.intValue ()).send (this.output);
         this.clearDisplayCache ();
         this.forceFlush ();
     }
@@ -105,7 +105,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     public void setFaderLEDColor (final int led, final ColorEx color)
     {
         final int [] rgb = color.toIntRGB127 ();
-        this.output.sendSysex (String.format (MKIII_SYSEX_LED_COMMAND, Integer.valueOf (led), Integer.valueOf (rgb[0]), Integer.valueOf (rgb[1]), Integer.valueOf (rgb[2])));
+        this.sysexBuilder.start ().add (MKIII_SYSEX_LED_COMMAND, led, 0x01, rgb[0], rgb[1], rgb[2]).send (this.output);
     }
 
 
@@ -122,7 +122,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayColorCache[hPosition][vPosition] = color;
 
-        this.setProperty (PROPERTY_COLOR, hPosition, vPosition, StringUtils.toHexStr (color));
+        this.startProperty (PROPERTY_COLOR, hPosition, vPosition).add (color).send (this.output);
     }
 
 
@@ -139,8 +139,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
         String ascii = StringUtils.fixASCII (text);
         if (ascii.length () > 9)
             ascii = ascii.substring (0, 9);
-        final String value = StringUtils.toHexStr (ascii.getBytes ()) + "00";
-        this.setProperty (PROPERTY_TEXT, hPosition, vPosition, value);
+        this.startProperty (PROPERTY_TEXT, hPosition, vPosition).addText (ascii).add (0x00).send (this.output);
     }
 
 
@@ -157,22 +156,21 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayValueCache[hPosition][vPosition] = value;
 
-        this.setProperty (PROPERTY_VALUE, hPosition, vPosition, StringUtils.toHexStr (value));
+        this.startProperty (PROPERTY_VALUE, hPosition, vPosition).add (value).send (this.output);
     }
 
 
     /**
-     * Set a display property.
+     * Start a message to set a display property. The values of the property need to be added.
      *
      * @param property The property: PROPERTY_TEXT, PROPERTY_COLOR or PROPERTY_VALUE
      * @param hPosition The horizontal position (0-8)
      * @param vPosition The vertical position (0-5)
-     * @param values The formatted values to insert
+     * @return The builder of the message
      */
-    private void setProperty (final Integer property, final int hPosition, final int vPosition, final String values)
+    private SysexBuilder startProperty (final Integer property, final int hPosition, final int vPosition)
     {
-        final String msg = String.format (MKIII_SYSEX_PROPERTY_COMMAND, Integer.valueOf (hPosition), property, Integer.valueOf (vPosition), values);
-        this.output.sendSysex (msg);
+        return this.sysexBuilder.start ().add (MKIII_SYSEX_PROPERTY_COMMAND, hPosition, property.intValue (), vPosition);
     }
 
 
@@ -187,7 +185,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
         if (ascii.length () > 18)
         {
             text1 = ascii.substring (0, 18);
-            text2 = ascii.substring (18, message.length ());
+            text2 = ascii.substring (18);
         }
         else
         {
@@ -195,9 +193,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             text2 = "";
         }
 
-        final String content = StringUtils.asciiToHex (text1) + "00 " + StringUtils.asciiToHex (text2) + "00";
-        final String msg = String.format (MKIII_SYSEX_NOTIFICATION_COMMAND, content);
-        this.output.sendSysex (msg);
+        this.sysexBuilder.start ().add (MKIII_SYSEX_NOTIFICATION_COMMAND).addText (text1).add (0x00).addText (text2).add (0x00).send (this.output);
     }
 
 
@@ -234,4 +230,4 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
         this.clear ().setCell (1, 2, "Please").setCell (1, 3, "start").setCell (1, 4, this.host.getName () + "...").allDone ();
         this.flush ();
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -87,7 +87,7 @@ public class SLMkIIILightGuide extends LightGuideImpl
 
         final ITrack cursorTrack = this.model.getCursorTrack ();
         for (int i = this.keyboardScales.getStartNote (); i < this.keyboardScales.getEndNote (); i++)
-            this.light (i - 36, this.getGridColor (isEnabled, isRecording, cursorTrack, i));
+            this.lightHandle (i - 36, this.getGridColor (isEnabled, isRecording, cursorTrack, i));
     }
 
 
@@ -105,14 +105,14 @@ public class SLMkIIILightGuide extends LightGuideImpl
     }
 
 
-    private String getGridColor (final boolean isEnabled, final boolean isRecording, final ITrack track, final int note)
+    private int getGridColor (final boolean isEnabled, final boolean isRecording, final ITrack track, final int note)
     {
         if (!isEnabled)
-            return AbstractPlayView.COLOR_OFF;
+            return AbstractPlayView.COLOR_OFF_HANDLE;
 
         if (this.keyboardManager.isKeyPressed (note))
-            return isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY;
+            return isRecording ? AbstractPlayView.COLOR_RECORD_HANDLE : AbstractPlayView.COLOR_PLAY_HANDLE;
 
-        return AbstractView.replaceOctaveColorWithTrackColor (track, this.keyboardManager.getColor (note));
+        return AbstractView.replaceOctaveColorWithTrackColor (track, this.keyboardManager.getColorHandle (note));
     }
 }
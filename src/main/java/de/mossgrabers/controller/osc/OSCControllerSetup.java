@@ -80,6 +80,15 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        this.host.releaseOSC ();
+        super.exit ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void createScales ()
@@ -6,6 +6,7 @@ package de.mossgrabers.controller.osc.module;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCRouter;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -14,6 +15,7 @@ import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.parameter.IParameter;
 
+import java.util.BitSet;
 import java.util.LinkedList;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -49,6 +51,8 @@ public abstract class AbstractModule implements IModule
     protected final IModel            model;
     protected IOpenSoundControlWriter writer;
 
+    private final BitSet              cleanItems        = new BitSet ();
+
 
     /**
      * Constructor.
@@ -65,6 +69,14 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerRoutes (final OSCRouter router)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
@@ -195,6 +207,79 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /**
+     * Flush all data of a parameter.
+     *
+     * @param writer Where to send the messages to
+     * @param slots The slots of the parameter addresses, created with createParameterSlots
+     * @param fxParam The parameter
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    protected void flushParameterData (final IOpenSoundControlWriter writer, final int [] slots, final IParameter fxParam, final boolean dump)
+    {
+        writer.sendOSC (slots[0], fxParam.doesExist (), dump);
+        writer.sendOSC (slots[1], fxParam.getName (), dump);
+        writer.sendOSC (slots[2], fxParam.getDisplayedValue (), dump);
+        writer.sendOSC (slots[3], fxParam.getValue (), dump);
+        writer.sendOSC (slots[4], fxParam.getModulatedValue (), dump);
+    }
+
+
+    /**
+     * Get the writer slots of all addresses of a parameter.
+     *
+     * @param writer The writer which provides the slots
+     * @param fxAddress The start address for the effect
+     * @param isSend True if the parameter is a send
+     * @return The slots for exists, name, displayed value, value and modulated value
+     */
+    protected static int [] createParameterSlots (final IOpenSoundControlWriter writer, final String fxAddress, final boolean isSend)
+    {
+        return new int []
+        {
+            writer.getSlot (fxAddress + TAG_EXISTS),
+            writer.getSlot (fxAddress + TAG_NAME),
+            writer.getSlot (fxAddress + (isSend ? "volumeStr" : "valueStr")),
+            writer.getSlot (fxAddress + (isSend ? TAG_VOLUME : "value")),
+            writer.getSlot (fxAddress + "modulatedValue")
+        };
+    }
+
+
+    /**
+     * Check if an item (e.g. a track) of the module is clean, which means that all of its values
+     * were flushed and it can be skipped if none of them has changed. No item is clean until it is
+     * marked as clean.
+     *
+     * @param index The index of the item
+     * @return True if clean
+     */
+    protected boolean isClean (final int index)
+    {
+        return this.cleanItems.get (index);
+    }
+
+
+    /**
+     * Mark an item as clean after all of its values were flushed.
+     *
+     * @param index The index of the item
+     */
+    protected void markClean (final int index)
+    {
+        this.cleanItems.set (index);
+    }
+
+
+    /**
+     * Mark all items as not clean, which means that they need to be flushed completely.
+     */
+    protected void clearCleanItems ()
+    {
+        this.cleanItems.clear ();
+    }
+
+
     protected static Optional<ColorEx> matchColor (final String value)
     {
         final Matcher matcher = RGB_COLOR_PATTERN.matcher (value);
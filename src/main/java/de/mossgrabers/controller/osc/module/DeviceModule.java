@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCRouter;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -100,6 +101,30 @@ public class DeviceModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerRoutes (final OSCRouter router)
+    {
+        final String paramAddress = "/" + TAG_PARAM + "/" + OSCRouter.NUMBER + "/";
+        router.addRoute ("/device" + paramAddress + "value", (numbers, value) -> this.getCursorDeviceParameter (numbers[0]).setValue (toInteger (value)));
+        router.addRoute ("/device" + paramAddress + TAG_TOUCHED, (numbers, value) -> this.getCursorDeviceParameter (numbers[0]).touchValue (isTrigger (value)));
+        router.addRoute ("/primary" + paramAddress + "value", (numbers, value) -> this.getPrimaryDeviceParameter (numbers[0]).setValue (toInteger (value)));
+        router.addRoute ("/primary" + paramAddress + TAG_TOUCHED, (numbers, value) -> this.getPrimaryDeviceParameter (numbers[0]).touchValue (isTrigger (value)));
+    }
+
+
+    private IParameter getCursorDeviceParameter (final int paramNo)
+    {
+        return this.model.getCursorDevice ().getParameterBank ().getItem (paramNo - 1);
+    }
+
+
+    private IParameter getPrimaryDeviceParameter (final int paramNo)
+    {
+        return this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT).getParameterBank ().getItem (paramNo - 1);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCRouter;
 
 import java.util.LinkedList;
 
@@ -26,6 +27,15 @@ public interface IModule
     String [] getSupportedCommands ();
 
 
+    /**
+     * Register handlers for frequently used commands, which are then dispatched directly by the
+     * router instead of being parsed by execute.
+     *
+     * @param router The router to register the handlers with
+     */
+    void registerRoutes (OSCRouter router);
+
+
     /**
      * Parse and execute an OSC command.
      *
@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCRouter;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
@@ -34,7 +35,34 @@ import java.util.Optional;
  */
 public class TrackModule extends AbstractModule
 {
+    private static final String [] CLIP_TAGS                = new String []
+    {
+        TAG_NAME,
+        "isSelected",
+        "hasContent",
+        "isPlaying",
+        "isRecording",
+        "isPlayingQueued",
+        "isRecordingQueued",
+        "isStopQueued",
+        TAG_COLOR
+    };
+
+    private static final int       CLIP_NAME                = 0;
+    private static final int       CLIP_IS_SELECTED         = 1;
+    private static final int       CLIP_HAS_CONTENT         = 2;
+    private static final int       CLIP_IS_PLAYING          = 3;
+    private static final int       CLIP_IS_RECORDING        = 4;
+    private static final int       CLIP_IS_PLAYING_QUEUED   = 5;
+    private static final int       CLIP_IS_RECORDING_QUEUED = 6;
+    private static final int       CLIP_IS_STOP_QUEUED      = 7;
+    private static final int       CLIP_COLOR               = 8;
+
     private final OSCConfiguration configuration;
+    private TrackAddresses []      trackAddresses           = new TrackAddresses [0];
+    private ValueSnapshot []       trackSnapshots           = new ValueSnapshot [0];
+    private TrackAddresses         masterAddresses;
+    private TrackAddresses         selectedAddresses;
 
 
     /**
@@ -50,6 +78,8 @@ public class TrackModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+
+        this.model.addTrackBankObserver (trackBank -> this.clearCleanItems ());
     }
 
 
@@ -99,11 +129,48 @@ public class TrackModule extends AbstractModule
     public void flush (final boolean dump)
     {
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
-        for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), dump);
+        final int pageSize = trackBank.getPageSize ();
+        if (this.trackAddresses.length != pageSize)
+        {
+            this.trackAddresses = new TrackAddresses [pageSize];
+            this.trackSnapshots = new ValueSnapshot [pageSize];
+            for (int i = 0; i < pageSize; i++)
+                this.trackSnapshots[i] = new ValueSnapshot ();
+            this.clearCleanItems ();
+        }
+
+        for (int i = 0; i < pageSize; i++)
+        {
+            final ITrack track = trackBank.getItem (i);
+
+            // A track can be skipped completely if none of its values has changed since the last
+            // flush
+            final boolean hasChanged = this.readTrack (this.trackSnapshots[i], track);
+            if (dump || hasChanged || !this.isClean (i))
+            {
+                if (TrackAddresses.needsUpdate (this.trackAddresses[i], track))
+                    this.trackAddresses[i] = new TrackAddresses (this.writer, "/track/" + (i + 1) + "/", track);
+                this.flushTrack (this.writer, this.trackAddresses[i], track, dump);
+                this.markClean (i);
+            }
+
+            // The VU is not part of the snapshot since the writer drops meter values if its budget
+            // is exhausted and only re-sends them on the next call
+            this.flushVu (this.writer, this.trackAddresses[i], track, dump);
+        }
+
+        final ITrack masterTrack = this.model.getMasterTrack ();
+        if (TrackAddresses.needsUpdate (this.masterAddresses, masterTrack))
+            this.masterAddresses = new TrackAddresses (this.writer, "/master/", masterTrack);
+        this.flushTrack (this.writer, this.masterAddresses, masterTrack, dump);
+        this.flushVu (this.writer, this.masterAddresses, masterTrack, dump);
+
         final ICursorTrack cursorTrack = this.model.getCursorTrack ();
-        this.flushTrack (this.writer, "/track/selected/", cursorTrack, dump);
+        if (TrackAddresses.needsUpdate (this.selectedAddresses, cursorTrack))
+            this.selectedAddresses = new TrackAddresses (this.writer, "/track/selected/", cursorTrack);
+        this.flushTrack (this.writer, this.selectedAddresses, cursorTrack, dump);
+        this.flushVu (this.writer, this.selectedAddresses, cursorTrack, dump);
+
         this.writer.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
         this.writer.sendOSC ("/track/hasParent", trackBank.hasParent (), dump);
     }
@@ -113,66 +180,219 @@ public class TrackModule extends AbstractModule
      * Flush all data of a track.
      *
      * @param writer Where to send the messages to
-     * @param trackAddress The start address for the track
+     * @param addresses The addresses for the track
      * @param track The track
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final IOpenSoundControlWriter writer, final TrackAddresses addresses, final ITrack track, final boolean dump)
     {
-        writer.sendOSC (trackAddress + TAG_EXISTS, track.doesExist (), dump);
+        writer.sendOSC (addresses.exists, track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        writer.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (Locale.US), dump);
-        writer.sendOSC (trackAddress + "activated", track.isActivated (), dump);
-        writer.sendOSC (trackAddress + TAG_SELECTED, track.isSelected (), dump);
-        writer.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        writer.sendOSC (trackAddress + TAG_NAME, track.getName (), dump);
-        writer.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        writer.sendOSC (trackAddress + TAG_VOLUME, track.getVolume (), dump);
-        writer.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        writer.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        writer.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        writer.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        writer.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        writer.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        writer.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        writer.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        writer.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        writer.sendOSC (trackAddress + "position", track.getPosition (), dump);
+        writer.sendOSC (addresses.type, type == null ? null : type.name ().toLowerCase (Locale.US), dump);
+        writer.sendOSC (addresses.activated, track.isActivated (), dump);
+        writer.sendOSC (addresses.selected, track.isSelected (), dump);
+        writer.sendOSC (addresses.isGroup, track.isGroup (), dump);
+        writer.sendOSC (addresses.name, track.getName (), dump);
+        writer.sendOSC (addresses.volumeStr, track.getVolumeStr (), dump);
+        writer.sendOSC (addresses.volume, track.getVolume (), dump);
+        writer.sendOSC (addresses.panStr, track.getPanStr (), dump);
+        writer.sendOSC (addresses.pan, track.getPan (), dump);
+        writer.sendOSC (addresses.mute, track.isMute (), dump);
+        writer.sendOSC (addresses.solo, track.isSolo (), dump);
+        writer.sendOSC (addresses.recarm, track.isRecArm (), dump);
+        writer.sendOSC (addresses.monitor, track.isMonitor (), dump);
+        writer.sendOSC (addresses.autoMonitor, track.isAutoMonitor (), dump);
+        writer.sendOSC (addresses.canHoldNotes, track.canHoldNotes (), dump);
+        writer.sendOSC (addresses.canHoldAudioData, track.canHoldAudioData (), dump);
+        writer.sendOSC (addresses.position, track.getPosition (), dump);
 
         if (track instanceof final ICursorTrack cursorTrack)
-            writer.sendOSC (trackAddress + "pinned", cursorTrack.isPinned (), dump);
+            writer.sendOSC (addresses.pinned, cursorTrack.isPinned (), dump);
 
         final ISendBank sendBank = track.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, addresses.sends[i], sendBank.getItem (i), dump);
 
         final ISlotBank slotBank = track.getSlotBank ();
         for (int i = 0; i < slotBank.getPageSize (); i++)
         {
             final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            writer.sendOSC (clipAddress + TAG_NAME, slot.getName (), dump);
-            writer.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            writer.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            writer.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            writer.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            writer.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+            final int [] clipSlots = addresses.clips[i];
+            writer.sendOSC (clipSlots[CLIP_NAME], slot.getName (), dump);
+            writer.sendOSC (clipSlots[CLIP_IS_SELECTED], slot.isSelected (), dump);
+            writer.sendOSC (clipSlots[CLIP_HAS_CONTENT], slot.hasContent (), dump);
+            writer.sendOSC (clipSlots[CLIP_IS_PLAYING], slot.isPlaying (), dump);
+            writer.sendOSC (clipSlots[CLIP_IS_RECORDING], slot.isRecording (), dump);
+            writer.sendOSC (clipSlots[CLIP_IS_PLAYING_QUEUED], slot.isPlayingQueued (), dump);
+            writer.sendOSC (clipSlots[CLIP_IS_RECORDING_QUEUED], slot.isRecordingQueued (), dump);
+            writer.sendOSC (clipSlots[CLIP_IS_STOP_QUEUED], slot.isStopQueued (), dump);
 
             final ColorEx color = slot.getColor ();
-            writer.sendOSCColor (clipAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+            writer.sendOSCColor (clipSlots[CLIP_COLOR], color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
 
         final ColorEx color = track.getColor ();
-        writer.sendOSCColor (trackAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (addresses.color, color.getRed (), color.getGreen (), color.getBlue (), dump);
 
         final String crossfadeMode = track.getCrossfadeParameter ().getDisplayedValue ();
-        writer.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+        writer.sendOSC (addresses.crossfadeModeA, "A".equals (crossfadeMode), dump);
+        writer.sendOSC (addresses.crossfadeModeB, "B".equals (crossfadeMode), dump);
+        writer.sendOSC (addresses.crossfadeModeAB, "AB".equals (crossfadeMode), dump);
+    }
+
+
+    /**
+     * Flush the VU of a track.
+     *
+     * @param writer Where to send the messages to
+     * @param addresses The addresses for the track
+     * @param track The track
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushVu (final IOpenSoundControlWriter writer, final TrackAddresses addresses, final ITrack track, final boolean dump)
+    {
+        writer.sendOSC (addresses.vu, this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+    }
+
+
+    /**
+     * Read all values of a track which are sent by flushTrack into its snapshot. Must read the
+     * same values as flushTrack, otherwise changes of the missing values are not sent. The VU is
+     * sent separately by flushVu.
+     *
+     * @param snapshot The snapshot of the track
+     * @param track The track
+     * @return True if at least one value has changed since the last flush
+     */
+    private boolean readTrack (final ValueSnapshot snapshot, final ITrack track)
+    {
+        snapshot.begin ();
+
+        snapshot.add (track.doesExist ());
+        final ChannelType type = track.getType ();
+        snapshot.add (type == null ? -1 : type.ordinal ());
+        snapshot.add (track.isActivated ());
+        snapshot.add (track.isSelected ());
+        snapshot.add (track.isGroup ());
+        snapshot.add (track.getName ());
+        snapshot.add (track.getVolumeStr ());
+        snapshot.add (track.getVolume ());
+        snapshot.add (track.getPanStr ());
+        snapshot.add (track.getPan ());
+        snapshot.add (track.isMute ());
+        snapshot.add (track.isSolo ());
+        snapshot.add (track.isRecArm ());
+        snapshot.add (track.isMonitor ());
+        snapshot.add (track.isAutoMonitor ());
+        snapshot.add (track.canHoldNotes ());
+        snapshot.add (track.canHoldAudioData ());
+        snapshot.add (track.getPosition ());
+
+        final ISendBank sendBank = track.getSendBank ();
+        for (int i = 0; i < sendBank.getPageSize (); i++)
+        {
+            final ISend send = sendBank.getItem (i);
+            snapshot.add (send.doesExist ());
+            snapshot.add (send.getName ());
+            snapshot.add (send.getDisplayedValue ());
+            snapshot.add (send.getValue ());
+            snapshot.add (send.getModulatedValue ());
+        }
+
+        final ISlotBank slotBank = track.getSlotBank ();
+        for (int i = 0; i < slotBank.getPageSize (); i++)
+        {
+            final ISlot slot = slotBank.getItem (i);
+            snapshot.add (slot.getName ());
+            snapshot.add (slot.isSelected ());
+            snapshot.add (slot.hasContent ());
+            snapshot.add (slot.isPlaying ());
+            snapshot.add (slot.isRecording ());
+            snapshot.add (slot.isPlayingQueued ());
+            snapshot.add (slot.isRecordingQueued ());
+            snapshot.add (slot.isStopQueued ());
+            addColor (snapshot, slot.getColor ());
+        }
+
+        addColor (snapshot, track.getColor ());
+        snapshot.add (track.getCrossfadeParameter ().getDisplayedValue ());
+
+        return snapshot.end ();
+    }
+
+
+    private static void addColor (final ValueSnapshot snapshot, final ColorEx color)
+    {
+        snapshot.add (color.getRed ());
+        snapshot.add (color.getGreen ());
+        snapshot.add (color.getBlue ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void registerRoutes (final OSCRouter router)
+    {
+        this.addTrackRoutes (router, TAG_VOLUME, (track, value) -> track.setVolume (toInteger (value)));
+        this.addTrackRoutes (router, TAG_VOLUME + "/" + TAG_TOUCHED, (track, value) -> track.touchVolume (isTrigger (value)));
+        this.addTrackRoutes (router, "pan", (track, value) -> track.setPan (toInteger (value)));
+        this.addTrackRoutes (router, "pan/" + TAG_TOUCHED, (track, value) -> track.touchPan (isTrigger (value)));
+        this.addTrackRoutes (router, "mute", TrackModule::setMute);
+        this.addTrackRoutes (router, "solo", TrackModule::setSolo);
+        this.addTrackRoutes (router, "recarm", TrackModule::setRecArm);
+
+        router.addRoute ("/track/" + OSCRouter.NUMBER + "/send/" + OSCRouter.NUMBER + "/" + TAG_VOLUME, (numbers, value) -> {
+            final ISend send = this.model.getCurrentTrackBank ().getItem (numbers[0] - 1).getSendBank ().getItem (numbers[1] - 1);
+            if (send != null)
+                send.setValue (toInteger (value));
+        });
+    }
+
+
+    /**
+     * Register a route for the tracks of the current track bank, the master track and the selected
+     * track.
+     *
+     * @param router The router
+     * @param command The command part of the address following the track
+     * @param route The handler to execute for the track
+     */
+    private void addTrackRoutes (final OSCRouter router, final String command, final ITrackRoute route)
+    {
+        router.addRoute ("/track/" + OSCRouter.NUMBER + "/" + command, (numbers, value) -> route.execute (this.model.getCurrentTrackBank ().getItem (numbers[0] - 1), value));
+        router.addRoute ("/master/" + command, (numbers, value) -> route.execute (this.model.getMasterTrack (), value));
+        router.addRoute ("/track/" + TAG_SELECTED + "/" + command, (numbers, value) -> {
+            final ITrack cursorTrack = this.model.getCursorTrack ();
+            if (cursorTrack.doesExist ())
+                route.execute (cursorTrack, value);
+        });
+    }
 
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+
+    private static void setMute (final ITrack track, final Object value)
+    {
+        if (value == null)
+            track.toggleMute ();
+        else
+            track.setMute (isTrigger (value));
+    }
+
+
+    private static void setSolo (final ITrack track, final Object value)
+    {
+        if (value == null)
+            track.toggleSolo ();
+        else
+            track.setSolo (isTrigger (value));
+    }
+
+
+    private static void setRecArm (final ITrack track, final Object value)
+    {
+        if (value == null)
+            track.toggleRecArm ();
+        else
+            track.setRecArm (isTrigger (value));
     }
 
 
@@ -381,24 +601,15 @@ public class TrackModule extends AbstractModule
                 break;
 
             case "mute":
-                if (value == null)
-                    track.toggleMute ();
-                else
-                    track.setMute (isTrigger (value));
+                setMute (track, value);
                 break;
 
             case "solo":
-                if (value == null)
-                    track.toggleSolo ();
-                else
-                    track.setSolo (isTrigger (value));
+                setSolo (track, value);
                 break;
 
             case "recarm":
-                if (value == null)
-                    track.toggleRecArm ();
-                else
-                    track.setRecArm (isTrigger (value));
+                setRecArm (track, value);
                 break;
 
             case "monitor":
@@ -523,4 +734,121 @@ public class TrackModule extends AbstractModule
         else if (TAG_TOUCHED.equals (path.get (0)))
             send.touchValue (isTrigger (value));
     }
+
+
+    /**
+     * A handler for a command of a track.
+     */
+    @FunctionalInterface
+    private interface ITrackRoute
+    {
+        /**
+         * Execute the command.
+         *
+         * @param track The track
+         * @param value A value parameter for the command, may be null
+         * @throws IllegalParameterException Wrong or missing value parameter
+         */
+        void execute (ITrack track, Object value) throws IllegalParameterException;
+    }
+
+
+    /**
+     * The writer slots of all OSC addresses of a track. The addresses are created once and only
+     * re-created if the layout of the banks changes, which prevents creating thousands of strings
+     * on each flush.
+     */
+    private static class TrackAddresses
+    {
+        private final int         exists;
+        private final int         type;
+        private final int         activated;
+        private final int         selected;
+        private final int         isGroup;
+        private final int         name;
+        private final int         volumeStr;
+        private final int         volume;
+        private final int         panStr;
+        private final int         pan;
+        private final int         mute;
+        private final int         solo;
+        private final int         recarm;
+        private final int         monitor;
+        private final int         autoMonitor;
+        private final int         canHoldNotes;
+        private final int         canHoldAudioData;
+        private final int         position;
+        private final int         pinned;
+        private final int         color;
+        private final int         crossfadeModeA;
+        private final int         crossfadeModeB;
+        private final int         crossfadeModeAB;
+        private final int         vu;
+        private final int [] []   sends;
+        private final int [] []   clips;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer which provides the slots
+         * @param trackAddress The start address for the track
+         * @param track The track
+         */
+        private TrackAddresses (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track)
+        {
+            this.exists = writer.getSlot (trackAddress + TAG_EXISTS);
+            this.type = writer.getSlot (trackAddress + "type");
+            this.activated = writer.getSlot (trackAddress + "activated");
+            this.selected = writer.getSlot (trackAddress + TAG_SELECTED);
+            this.isGroup = writer.getSlot (trackAddress + "isGroup");
+            this.name = writer.getSlot (trackAddress + TAG_NAME);
+            this.volumeStr = writer.getSlot (trackAddress + "volumeStr");
+            this.volume = writer.getSlot (trackAddress + TAG_VOLUME);
+            this.panStr = writer.getSlot (trackAddress + "panStr");
+            this.pan = writer.getSlot (trackAddress + "pan");
+            this.mute = writer.getSlot (trackAddress + "mute");
+            this.solo = writer.getSlot (trackAddress + "solo");
+            this.recarm = writer.getSlot (trackAddress + "recarm");
+            this.monitor = writer.getSlot (trackAddress + "monitor");
+            this.autoMonitor = writer.getSlot (trackAddress + "autoMonitor");
+            this.canHoldNotes = writer.getSlot (trackAddress + "canHoldNotes");
+            this.canHoldAudioData = writer.getSlot (trackAddress + "canHoldAudioData");
+            this.position = writer.getSlot (trackAddress + "position");
+            this.pinned = writer.getSlot (trackAddress + "pinned");
+            this.color = writer.getSlot (trackAddress + TAG_COLOR);
+            this.crossfadeModeA = writer.getSlot (trackAddress + "crossfadeMode/A");
+            this.crossfadeModeB = writer.getSlot (trackAddress + "crossfadeMode/B");
+            this.crossfadeModeAB = writer.getSlot (trackAddress + "crossfadeMode/AB");
+            this.vu = writer.getSlot (trackAddress + "vu");
+
+            final int numSends = track.getSendBank ().getPageSize ();
+            this.sends = new int [numSends][];
+            for (int i = 0; i < numSends; i++)
+                this.sends[i] = createParameterSlots (writer, trackAddress + "send/" + (i + 1) + "/", true);
+
+            final int numClips = track.getSlotBank ().getPageSize ();
+            this.clips = new int [numClips][CLIP_TAGS.length];
+            for (int i = 0; i < numClips; i++)
+            {
+                final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
+                for (int j = 0; j < CLIP_TAGS.length; j++)
+                    this.clips[i][j] = writer.getSlot (clipAddress + CLIP_TAGS[j]);
+            }
+        }
+
+
+        /**
+         * Check if the addresses need to be (re-)created since they do not match the layout of the
+         * track.
+         *
+         * @param addresses The current addresses, might be null
+         * @param track The track
+         * @return True if the addresses need to be created
+         */
+        private static boolean needsUpdate (final TrackAddresses addresses, final ITrack track)
+        {
+            return addresses == null || addresses.sends.length != track.getSendBank ().getPageSize () || addresses.clips.length != track.getSlotBank ().getPageSize ();
+        }
+    }
 }
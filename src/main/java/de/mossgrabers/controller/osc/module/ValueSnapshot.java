@@ -0,0 +1,113 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.module;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+
+/**
+ * The values of an item (e.g. a track) which were read on the last flush. Allows to skip an item
+ * completely if none of its values has changed. The values must be added in the same order on each
+ * flush, since they are compared by their position.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class ValueSnapshot
+{
+    private long []   numbers         = new long [64];
+    private String [] texts           = new String [16];
+    private int       numberCount;
+    private int       textCount;
+    private int       lastNumberCount = -1;
+    private int       lastTextCount   = -1;
+    private boolean   hasChanged;
+
+
+    /**
+     * Start reading the values of the item.
+     */
+    void begin ()
+    {
+        this.numberCount = 0;
+        this.textCount = 0;
+        this.hasChanged = false;
+    }
+
+
+    /**
+     * Add the next value.
+     *
+     * @param value The value
+     */
+    void add (final boolean value)
+    {
+        this.add (value ? 1L : 0L);
+    }
+
+
+    /**
+     * Add the next value.
+     *
+     * @param value The value
+     */
+    void add (final double value)
+    {
+        this.add (Double.doubleToLongBits (value));
+    }
+
+
+    /**
+     * Add the next value.
+     *
+     * @param value The value
+     */
+    void add (final long value)
+    {
+        if (this.numberCount == this.numbers.length)
+            this.numbers = Arrays.copyOf (this.numbers, this.numbers.length * 2);
+        if (this.numbers[this.numberCount] != value)
+        {
+            this.numbers[this.numberCount] = value;
+            this.hasChanged = true;
+        }
+        this.numberCount++;
+    }
+
+
+    /**
+     * Add the next value.
+     *
+     * @param value The value, might be null
+     */
+    void add (final String value)
+    {
+        if (this.textCount == this.texts.length)
+            this.texts = Arrays.copyOf (this.texts, this.texts.length * 2);
+        if (!Objects.equals (this.texts[this.textCount], value))
+        {
+            this.texts[this.textCount] = value;
+            this.hasChanged = true;
+        }
+        this.textCount++;
+    }
+
+
+    /**
+     * Finish reading the values of the item.
+     *
+     * @return True if at least one value has changed since the last time (or the number of values)
+     */
+    boolean end ()
+    {
+        if (this.numberCount != this.lastNumberCount || this.textCount != this.lastTextCount)
+        {
+            this.lastNumberCount = this.numberCount;
+            this.lastTextCount = this.textCount;
+            this.hasChanged = true;
+        }
+        return this.hasChanged;
+    }
+}
\ No newline at end of file
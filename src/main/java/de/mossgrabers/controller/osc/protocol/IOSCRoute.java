@@ -0,0 +1,28 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+
+
+/**
+ * A handler which is bound to an OSC address pattern in the router.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface IOSCRoute
+{
+    /**
+     * Execute the command of the route.
+     *
+     * @param numbers The numbers of the number segments of the address in the order of their
+     *            appearance, e.g. 3 and 2 for /track/3/send/2/volume. The array is reused, do not
+     *            keep a reference
+     * @param value A value parameter for the command, may be null
+     * @throws IllegalParameterException Wrong or missing value parameter
+     */
+    void execute (int [] numbers, Object value) throws IllegalParameterException;
+}
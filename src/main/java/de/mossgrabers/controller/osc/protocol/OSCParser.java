@@ -34,6 +34,7 @@ public class OSCParser extends AbstractOpenSoundControlParser
 {
     private final OSCControlSurface    surface;
     private final Map<String, IModule> modules = new HashMap<> ();
+    private final OSCRouter            router  = new OSCRouter ();
 
 
     /**
@@ -64,6 +65,22 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
+        // Try the fast path first
+        final int numValues = message.getNumValues ();
+        if (numValues <= 1)
+        {
+            try
+            {
+                if (this.router.route (message.getAddress (), numValues == 0 ? null : message.getValue (0)))
+                    return;
+            }
+            catch (final IllegalParameterException ex)
+            {
+                this.host.println ("Illegal parameter: " + message.getAddress () + " " + ex.getMessage ());
+                return;
+            }
+        }
+
         final LinkedList<String> oscParts = parseAddress (message);
         if (oscParts.isEmpty ())
             return;
@@ -126,5 +143,6 @@ public class OSCParser extends AbstractOpenSoundControlParser
     public void registerModule (final IModule module)
     {
         Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.modules.put (command, module));
+        module.registerRoutes (this.router);
     }
 }
\ No newline at end of file
@@ -0,0 +1,194 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+
+import java.util.Arrays;
+
+
+/**
+ * A tree of pre-compiled OSC address patterns which dispatches an address directly to the bound
+ * handler. Walking the tree works directly on the characters of the address, therefore neither
+ * the address is split nor are any exceptions used to detect numbers. Frequently sent commands
+ * (e.g. fader movements) are registered here, all other addresses are handled by the modules.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OSCRouter
+{
+    /** A segment in a pattern which matches a positive number, e.g. /track/{n}/volume. */
+    public static final String NUMBER      = "{n}";
+
+    private static final int   MAX_NUMBERS = 8;
+    private static final int   MAX_DIGITS  = 9;
+
+    private final Node         root        = new Node (null);
+    private final int []       numbers     = new int [MAX_NUMBERS];
+
+
+    /**
+     * Bind a handler to an address pattern. Use the NUMBER segment for number segments.
+     *
+     * @param pattern The pattern, e.g. /track/{n}/volume
+     * @param route The handler to bind
+     */
+    public void addRoute (final String pattern, final IOSCRoute route)
+    {
+        Node node = this.root;
+        int numNumbers = 0;
+        for (final String segment: pattern.substring (1).split ("/"))
+        {
+            if (NUMBER.equals (segment))
+            {
+                numNumbers++;
+                if (node.numberChild == null)
+                    node.numberChild = new Node (null);
+                node = node.numberChild;
+            }
+            else
+                node = node.getOrAddChild (segment);
+        }
+
+        if (numNumbers > MAX_NUMBERS)
+            throw new IllegalArgumentException ("Too many number segments: " + pattern);
+        node.route = route;
+    }
+
+
+    /**
+     * Dispatch the address to the bound handler.
+     *
+     * @param address The OSC address
+     * @param value A value parameter for the command, may be null
+     * @return True if a handler is bound to the address and was executed, false if the address
+     *         needs to be handled otherwise
+     * @throws IllegalParameterException Wrong or missing value parameter
+     */
+    public boolean route (final String address, final Object value) throws IllegalParameterException
+    {
+        final int length = address.length ();
+        if (length < 2 || address.charAt (0) != '/')
+            return false;
+
+        Node node = this.root;
+        int numNumbers = 0;
+        int pos = 1;
+        while (pos < length)
+        {
+            int end = address.indexOf ('/', pos);
+            if (end < 0)
+                end = length;
+
+            Node next = node.getChild (address, pos, end);
+            if (next == null && node.numberChild != null && numNumbers < MAX_NUMBERS)
+            {
+                final int number = parseNumber (address, pos, end);
+                if (number >= 0)
+                {
+                    this.numbers[numNumbers] = number;
+                    numNumbers++;
+                    next = node.numberChild;
+                }
+            }
+            if (next == null)
+                return false;
+
+            node = next;
+            pos = end + 1;
+        }
+
+        if (node.route == null)
+            return false;
+        node.route.execute (this.numbers, value);
+        return true;
+    }
+
+
+    /**
+     * Parses the digits of a segment.
+     *
+     * @param address The address
+     * @param start The start of the segment
+     * @param end The end of the segment (exclusive)
+     * @return The number or -1 if the segment is not a (supported) number
+     */
+    private static int parseNumber (final String address, final int start, final int end)
+    {
+        if (start == end || end - start > MAX_DIGITS)
+            return -1;
+
+        int number = 0;
+        for (int i = start; i < end; i++)
+        {
+            final char c = address.charAt (i);
+            if (c < '0' || c > '9')
+                return -1;
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+
+
+    /**
+     * A node in the tree, represents one segment of a pattern.
+     */
+    private static class Node
+    {
+        private final String segment;
+        private Node []      children = new Node [0];
+        private Node         numberChild;
+        private IOSCRoute    route;
+
+
+        /**
+         * Constructor.
+         *
+         * @param segment The segment text, null for the root and number nodes
+         */
+        public Node (final String segment)
+        {
+            this.segment = segment;
+        }
+
+
+        /**
+         * Get the child node which matches the segment of the address.
+         *
+         * @param address The address
+         * @param start The start of the segment
+         * @param end The end of the segment (exclusive)
+         * @return The node or null if not found
+         */
+        public Node getChild (final String address, final int start, final int end)
+        {
+            final int length = end - start;
+            for (final Node child: this.children)
+            {
+                if (child.segment.length () == length && address.regionMatches (start, child.segment, 0, length))
+                    return child;
+            }
+            return null;
+        }
+
+
+        /**
+         * Get the child node with the given segment text, creates it if it does not exist.
+         *
+         * @param segment The segment text
+         * @return The node
+         */
+        public Node getOrAddChild (final String segment)
+        {
+            final Node child = this.getChild (segment, 0, segment.length ());
+            if (child != null)
+                return child;
+            final Node newChild = new Node (segment);
+            this.children = Arrays.copyOf (this.children, this.children.length + 1);
+            this.children[this.children.length - 1] = newChild;
+            return newChild;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlWriter;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.OpenSoundControlPriority;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -69,6 +70,20 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected OpenSoundControlPriority getPriority (final String address)
+    {
+        if (address.endsWith ("/vu"))
+            return OpenSoundControlPriority.METER;
+        if (HEARTBEAT_MESSAGES.contains (address) || address.startsWith ("/time/") || address.startsWith ("/beat/") || "/play".equals (address) || "/record".equals (address) || "/tempo/raw".equals (address))
+            return OpenSoundControlPriority.TRANSPORT;
+        if (address.endsWith ("/name"))
+            return OpenSoundControlPriority.NAME;
+        return OpenSoundControlPriority.STATE;
+    }
+
+
     /**
      * Register a command module.
      *
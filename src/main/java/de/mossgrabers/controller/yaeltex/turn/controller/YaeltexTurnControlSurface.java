@@ -91,16 +91,6 @@ public class YaeltexTurnControlSurface extends AbstractControlSurface<YaeltexTur
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    protected void flushHardware ()
-    {
-        super.flushHardware ();
-
-        ((YaeltexTurnPadGrid) this.padGrid).flush ();
-    }
-
-
     /**
      * Set an LED ring on the device. Values are cached and only sent if changed.
      *
@@ -149,4 +139,4 @@ public class YaeltexTurnControlSurface extends AbstractControlSurface<YaeltexTur
             this.output.sendNoteEx (YaeltexTurnControlSurface.MIDI_CHANNEL_SET_INTENSITY, cc, isLow ? 0 : 127);
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -132,6 +132,8 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer      PREFERRED_NOTE_VIEW             = Integer.valueOf (44);
     /** Start with session view if active. */
     public static final Integer      START_WITH_SESSION_VIEW         = Integer.valueOf (45);
+    /** Log performance statistics. */
+    public static final Integer      LOG_PERFORMANCE_STATISTICS      = Integer.valueOf (46);
 
     // Implementation IDs start at 50
 
@@ -456,6 +458,7 @@ public abstract class AbstractConfiguration implements Configuration
     private Views                                     preferredNoteView                   = Views.PLAY;
     protected Views                                   preferredAudioView                  = Views.PLAY;
     private boolean                                   startWithSessionView                = false;
+    private boolean                                   logPerformanceStatistics            = false;
     private boolean                                   useCombinationButtonToSoundDrumPads = false;
 
 
@@ -1650,6 +1653,23 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Activate the log performance statistics setting.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateLogPerformanceStatisticsSetting (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting logPerformanceStatisticsSetting = settingsUI.getEnumSetting ("Log performance statistics", CATEGORY_DEBUG, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        logPerformanceStatisticsSetting.addValueObserver (value -> {
+            this.logPerformanceStatistics = "On".equals (value);
+            this.notifyObservers (LOG_PERFORMANCE_STATISTICS);
+        });
+
+        this.isSettingActive.add (LOG_PERFORMANCE_STATISTICS);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void notifyAllObservers ()
@@ -1822,6 +1842,14 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isLogPerformanceStatistics ()
+    {
+        return this.logPerformanceStatistics;
+    }
+
+
     /**
      * Should the master track and group-master tracks be included in the track list?
      *
@@ -538,4 +538,12 @@ public interface Configuration
      * @return True if session view should be active
      */
     boolean shouldStartWithSessionView ();
+
+
+    /**
+     * Should performance statistics (e.g. the frame timings) be logged?
+     *
+     * @return True to log the statistics
+     */
+    boolean isLogPerformanceStatistics ();
 }
@@ -92,6 +92,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     private final Object                                  updateCounterLock              = new Object ();
     private int                                           updateCounter                  = 0;
+    private FrameScheduler                                frameScheduler;
 
     private boolean                                       knobSensitivityIsSlow          = false;
     private final List<ISensitivityCallback>              knobSensitivityObservers       = new ArrayList<> ();
@@ -698,6 +699,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.continuous.forEach ( (id, control) -> control.turnOff ());
 
         this.surfaceFactory.flush ();
+        if (this.padGrid != null)
+            this.padGrid.flush ();
     }
 
 
@@ -705,6 +708,12 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void flush ()
     {
+        if (this.frameScheduler != null)
+        {
+            this.frameScheduler.requestFrame (this, this.graphicsDisplays.isEmpty () ? FrameCategory.TEXT_DISPLAYS : FrameCategory.GRAPHIC_DISPLAYS);
+            return;
+        }
+
         synchronized (this.updateCounterLock)
         {
             this.updateCounter++;
@@ -713,6 +722,32 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setFrameScheduler (final FrameScheduler frameScheduler)
+    {
+        this.frameScheduler = frameScheduler;
+        frameScheduler.register (this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flushFrame (final FrameCategory category)
+    {
+        if (category == FrameCategory.LIGHTS)
+        {
+            this.updateGrid ();
+            this.flushHardware ();
+        }
+        else
+        {
+            this.updateViewControls ();
+            this.flushTextDisplays ();
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void forceFlush ()
@@ -771,9 +806,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     protected void internalFlushHandler ()
     {
-        this.updateViewControls ();
-        this.updateGrid ();
-        this.flushHardware ();
+        this.flushFrame (FrameCategory.TEXT_DISPLAYS);
+        this.flushFrame (FrameCategory.LIGHTS);
     }
 
 
@@ -790,6 +824,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public final synchronized void shutdown ()
     {
         this.internalShutdown ();
+        this.flushTextDisplays ();
         this.flushHardware ();
     }
 
@@ -1079,12 +1114,24 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
 
     /**
-     * Flush all changes to the hardware.
+     * Flush all changes of the text displays to the hardware.
      */
-    protected void flushHardware ()
+    protected void flushTextDisplays ()
     {
         this.textDisplays.forEach (ITextDisplay::flush);
+    }
+
+
+    /**
+     * Flush all changes of the lights and controls to the hardware.
+     */
+    protected void flushHardware ()
+    {
         this.surfaceFactory.flush ();
+        if (this.padGrid != null)
+            this.padGrid.flush ();
+        if (this.lightGuide != null)
+            this.lightGuide.flush ();
         this.continuous.values ().forEach (IHwContinuousControl::update);
     }
-}
\ No newline at end of file
+}
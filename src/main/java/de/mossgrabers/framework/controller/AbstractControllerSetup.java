@@ -10,6 +10,7 @@ import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.controller.color.ColorHandles;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
@@ -31,10 +32,12 @@ import de.mossgrabers.framework.featuregroup.IView;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.InterestManager;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.ConsoleLogger;
 import de.mossgrabers.framework.utils.IntConsumerSupplier;
+import de.mossgrabers.framework.utils.OutputScheduler;
 import de.mossgrabers.framework.utils.TestCallback;
 import de.mossgrabers.framework.utils.TestFramework;
 import de.mossgrabers.framework.view.Views;
@@ -67,6 +70,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     protected ColorManager        colorManager;
     protected IValueChanger       valueChanger;
     protected Modes               currentMode = null;
+    protected FrameScheduler      frameScheduler;
 
 
     /**
@@ -136,6 +140,18 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.createScales ();
         this.createModel ();
         this.createSurface ();
+        this.frameScheduler = new FrameScheduler (this.host);
+        for (final S surface: this.surfaces)
+            surface.setFrameScheduler (this.frameScheduler);
+        if (this.model != null)
+        {
+            final InterestManager interestManager = this.model.getInterestManager ();
+            for (final S surface: this.surfaces)
+            {
+                surface.getModeManager ().setInterestManager (interestManager);
+                surface.getViewManager ().setInterestManager (interestManager);
+            }
+        }
         this.createModes ();
         this.createObservers ();
         this.createViews ();
@@ -154,8 +170,16 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     public void exit ()
     {
         this.configuration.clearSettingObservers ();
+        if (this.frameScheduler != null)
+            this.frameScheduler.shutdown ();
         for (final S surface: this.surfaces)
             surface.shutdown ();
+        if (this.configuration.isLogPerformanceStatistics ())
+        {
+            if (this.frameScheduler != null)
+                this.frameScheduler.logStatistics ();
+            this.host.println ("Display output: " + OutputScheduler.getInstance ());
+        }
         this.host.releaseUsbDevices ();
         this.host.println ("Exited.");
     }
@@ -850,12 +874,13 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
      */
     protected void addLight (final S surface, final OutputID outputID, final ButtonID buttonID, final IHwButton button, final BindType bindType, final int midiChannel, final int midiControl, final IntSupplier supplier, final String... colorIds)
     {
+        // Color is the state if there are no colors provided!
+        final int [] colorHandles = colorIds == null ? new int [0] : ColorHandles.getHandles (colorIds);
         surface.createLight (outputID, () -> {
             final int state = supplier.getAsInt ();
-            // Color is the state if there are no colors provided!
-            if (colorIds == null || colorIds.length == 0)
+            if (colorHandles.length == 0)
                 return state;
-            return this.colorManager.getColorIndex (state < 0 ? ColorManager.BUTTON_STATE_OFF : colorIds[state]);
+            return this.colorManager.getColorIndexByHandle (state < 0 ? ColorManager.BUTTON_STATE_OFF_HANDLE : colorHandles[state]);
         }, color -> surface.setTrigger (bindType, midiChannel, midiControl, color), state -> this.colorManager.getColor (state, buttonID), button);
     }
 
@@ -0,0 +1,21 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+/**
+ * The categories of the updates of a frame, each category has its own budget in the frame
+ * scheduler.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum FrameCategory
+{
+    /** Update the pad grid, button and knob LEDs. */
+    LIGHTS,
+    /** Update the content of the displays and send the text displays. */
+    TEXT_DISPLAYS,
+    /** Update the content of the displays, the surface has at least one graphics display. */
+    GRAPHIC_DISPLAYS
+}
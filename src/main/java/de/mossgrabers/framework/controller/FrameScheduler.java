@@ -0,0 +1,236 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.utils.TimeoutOptimizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Runs the frame updates of all control surfaces of a controller setup on one tick. A surface
+ * requests a frame on each flush of the host, several requests until the next tick are coalesced.
+ * Each category of a frame (lights, text displays and graphics displays) has a budget, which is the
+ * minimum time between two updates of that category of a surface. Updates which are not yet due
+ * are deferred to a later tick. The delay of the tick is corrected with the measured latency of the
+ * host.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FrameScheduler
+{
+    private static final int          TICK                    = 5;
+    private static final int          LIGHTS_BUDGET           = 0;
+    private static final int          TEXT_DISPLAYS_BUDGET    = 20;
+    private static final int          GRAPHIC_DISPLAYS_BUDGET = 16;
+
+    private static final int          NUM_CATEGORIES          = FrameCategory.values ().length;
+
+    private final IHost               host;
+    private final TimeoutOptimizer    timeoutOptimizer;
+    private final Object              lock                    = new Object ();
+    private final List<SurfaceFrames> surfaces                = new ArrayList<> ();
+    private final int []              budgets                 = new int [NUM_CATEGORIES];
+    private boolean                   isTickScheduled;
+    private boolean                   isShutdown;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public FrameScheduler (final IHost host)
+    {
+        this.host = host;
+        this.timeoutOptimizer = new TimeoutOptimizer (host, TICK);
+
+        this.budgets[FrameCategory.LIGHTS.ordinal ()] = LIGHTS_BUDGET;
+        this.budgets[FrameCategory.TEXT_DISPLAYS.ordinal ()] = TEXT_DISPLAYS_BUDGET;
+        this.budgets[FrameCategory.GRAPHIC_DISPLAYS.ordinal ()] = GRAPHIC_DISPLAYS_BUDGET;
+    }
+
+
+    /**
+     * Set the budget of a category.
+     *
+     * @param category The category
+     * @param budget The minimum time between two updates of the category of a surface in
+     *            milliseconds, 0 updates on every tick
+     */
+    public void setBudget (final FrameCategory category, final int budget)
+    {
+        synchronized (this.lock)
+        {
+            this.budgets[category.ordinal ()] = Math.max (0, budget);
+        }
+    }
+
+
+    /**
+     * Register a surface.
+     *
+     * @param surface The surface
+     */
+    public void register (final IControlSurface<?> surface)
+    {
+        synchronized (this.lock)
+        {
+            if (this.lookup (surface) == null)
+                this.surfaces.add (new SurfaceFrames (surface));
+        }
+    }
+
+
+    /**
+     * Request a frame update of a surface on the next tick.
+     *
+     * @param surface The surface, must be registered
+     * @param displayCategory The category of the display update of the surface, either
+     *            TEXT_DISPLAYS or GRAPHIC_DISPLAYS
+     */
+    public void requestFrame (final IControlSurface<?> surface, final FrameCategory displayCategory)
+    {
+        synchronized (this.lock)
+        {
+            final SurfaceFrames frames = this.lookup (surface);
+            if (frames == null)
+                return;
+            frames.pending |= 1 << displayCategory.ordinal () | 1 << FrameCategory.LIGHTS.ordinal ();
+            this.scheduleTick ();
+        }
+    }
+
+
+    /**
+     * Stop the ticks.
+     */
+    public void shutdown ()
+    {
+        synchronized (this.lock)
+        {
+            this.isShutdown = true;
+        }
+    }
+
+
+    /**
+     * Log the timing of all surfaces.
+     */
+    public void logStatistics ()
+    {
+        synchronized (this.lock)
+        {
+            for (int i = 0; i < this.surfaces.size (); i++)
+            {
+                final SurfaceFrames frames = this.surfaces.get (i);
+                this.host.println (String.format ("Frames of surface %d (%s): %s", Integer.valueOf (i), frames.surface.getClass ().getSimpleName (), frames.statistics));
+            }
+        }
+    }
+
+
+    private void scheduleTick ()
+    {
+        if (this.isTickScheduled || this.isShutdown)
+            return;
+        this.isTickScheduled = true;
+        this.host.scheduleTask (this::tick, this.timeoutOptimizer.getTimeout ());
+    }
+
+
+    private void tick ()
+    {
+        final List<SurfaceFrames> frameList;
+        synchronized (this.lock)
+        {
+            this.isTickScheduled = false;
+            if (this.isShutdown)
+                return;
+            frameList = new ArrayList<> (this.surfaces);
+        }
+
+        final long now = System.currentTimeMillis ();
+        for (final SurfaceFrames frames: frameList)
+        {
+            // Displays first since the modes might change lights while updating the display
+            this.update (frames, FrameCategory.GRAPHIC_DISPLAYS, now);
+            this.update (frames, FrameCategory.TEXT_DISPLAYS, now);
+            this.update (frames, FrameCategory.LIGHTS, now);
+        }
+
+        synchronized (this.lock)
+        {
+            for (final SurfaceFrames frames: frameList)
+            {
+                if (frames.pending != 0)
+                {
+                    this.scheduleTick ();
+                    break;
+                }
+            }
+        }
+    }
+
+
+    private void update (final SurfaceFrames frames, final FrameCategory category, final long now)
+    {
+        final int index = category.ordinal ();
+        final int mask = 1 << index;
+        synchronized (this.lock)
+        {
+            if ((frames.pending & mask) == 0)
+                return;
+            if (now - frames.lastUpdates[index] < this.budgets[index])
+            {
+                frames.statistics.addDeferred ();
+                return;
+            }
+            // Clear before the update, a request during the update needs another frame
+            frames.pending &= ~mask;
+            frames.lastUpdates[index] = now;
+        }
+
+        final long start = System.nanoTime ();
+        try
+        {
+            frames.surface.flushFrame (category);
+        }
+        catch (final RuntimeException ex)
+        {
+            this.host.error ("Crash during flush.", ex);
+        }
+        frames.statistics.add (category, System.nanoTime () - start);
+    }
+
+
+    private SurfaceFrames lookup (final IControlSurface<?> surface)
+    {
+        for (final SurfaceFrames frames: this.surfaces)
+        {
+            if (frames.surface == surface)
+                return frames;
+        }
+        return null;
+    }
+
+
+    /** The frame state of one surface. */
+    private static class SurfaceFrames
+    {
+        private final IControlSurface<?> surface;
+        private final FrameStatistics    statistics  = new FrameStatistics ();
+        private final long []            lastUpdates = new long [NUM_CATEGORIES];
+        private int                      pending;
+
+
+        SurfaceFrames (final IControlSurface<?> surface)
+        {
+            this.surface = surface;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+/**
+ * Timing of the frame updates of one control surface, separated by category.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FrameStatistics
+{
+    private static final int NUM_CATEGORIES = FrameCategory.values ().length;
+
+    private final long []    numUpdates     = new long [NUM_CATEGORIES];
+    private final long []    totalTimes     = new long [NUM_CATEGORIES];
+    private final long []    maxTimes       = new long [NUM_CATEGORIES];
+    private final long []    lastTimes      = new long [NUM_CATEGORIES];
+    private long             numDeferred;
+
+
+    /**
+     * Add the duration of an update.
+     *
+     * @param category The category of the update
+     * @param duration The duration in nanoseconds
+     */
+    synchronized void add (final FrameCategory category, final long duration)
+    {
+        final int index = category.ordinal ();
+        this.numUpdates[index]++;
+        this.totalTimes[index] += duration;
+        this.lastTimes[index] = duration;
+        if (duration > this.maxTimes[index])
+            this.maxTimes[index] = duration;
+    }
+
+
+    /**
+     * Count an update which was deferred to a later tick since the budget of its category was
+     * exhausted.
+     */
+    synchronized void addDeferred ()
+    {
+        this.numDeferred++;
+    }
+
+
+    /**
+     * Get the number of executed updates.
+     *
+     * @param category The category
+     * @return The number of updates
+     */
+    public synchronized long getNumUpdates (final FrameCategory category)
+    {
+        return this.numUpdates[category.ordinal ()];
+    }
+
+
+    /**
+     * Get the average duration of the updates.
+     *
+     * @param category The category
+     * @return The duration in nanoseconds
+     */
+    public synchronized long getAverageTime (final FrameCategory category)
+    {
+        final int index = category.ordinal ();
+        return this.numUpdates[index] == 0 ? 0 : this.totalTimes[index] / this.numUpdates[index];
+    }
+
+
+    /**
+     * Get the longest duration of an update.
+     *
+     * @param category The category
+     * @return The duration in nanoseconds
+     */
+    public synchronized long getMaxTime (final FrameCategory category)
+    {
+        return this.maxTimes[category.ordinal ()];
+    }
+
+
+    /**
+     * Get the duration of the last update.
+     *
+     * @param category The category
+     * @return The duration in nanoseconds
+     */
+    public synchronized long getLastTime (final FrameCategory category)
+    {
+        return this.lastTimes[category.ordinal ()];
+    }
+
+
+    /**
+     * Get the number of updates which were deferred to a later tick.
+     *
+     * @return The number of updates
+     */
+    public synchronized long getNumDeferred ()
+    {
+        return this.numDeferred;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized String toString ()
+    {
+        final StringBuilder sb = new StringBuilder ();
+        for (final FrameCategory category: FrameCategory.values ())
+        {
+            final int index = category.ordinal ();
+            if (this.numUpdates[index] == 0)
+                continue;
+            if (!sb.isEmpty ())
+                sb.append (", ");
+            sb.append (category).append (": ").append (this.numUpdates[index]).append (" updates, avg ").append (this.getAverageTime (category) / 1000).append (" us, max ").append (this.maxTimes[index] / 1000).append (" us");
+        }
+        if (sb.isEmpty ())
+            sb.append ("No updates");
+        return sb.append (", deferred: ").append (this.numDeferred).toString ();
+    }
+}
@@ -496,6 +496,23 @@ public interface IControlSurface<C extends Configuration>
     void flush ();
 
 
+    /**
+     * Set the scheduler which runs the frame updates of the surface. If set, a flush requests a
+     * frame from the scheduler instead of updating the surface directly.
+     *
+     * @param frameScheduler The frame scheduler
+     */
+    void setFrameScheduler (FrameScheduler frameScheduler);
+
+
+    /**
+     * Update one category of the current frame. Called by the frame scheduler.
+     *
+     * @param category The category to update
+     */
+    void flushFrame (FrameCategory category);
+
+
     /**
      * Forces to send all output states to the device again.
      */
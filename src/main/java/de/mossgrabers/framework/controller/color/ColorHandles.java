@@ -0,0 +1,116 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.color;
+
+import de.mossgrabers.framework.daw.DAWColor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Registry which assigns a unique integer handle to each color ID. The handles are shared by all
+ * color managers, which resolve them to their color indices with a simple array access. Therefore,
+ * the hashing of the color ID is only required once, when the handle is created.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class ColorHandles
+{
+    /** The handle which represents no color. */
+    public static final int                   NO_HANDLE         = -1;
+
+    private static final Map<String, Integer> HANDLES           = new HashMap<> ();
+    private static final List<String>         KEYS              = new ArrayList<> ();
+    private static final int []               DAW_COLOR_HANDLES = new int [DAWColor.values ().length];
+
+    static
+    {
+        for (final DAWColor dawColor: DAWColor.values ())
+            DAW_COLOR_HANDLES[dawColor.ordinal ()] = getHandle (dawColor.name ());
+    }
+
+
+    /**
+     * Private due to utility class.
+     */
+    private ColorHandles ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Get the handle of a color ID. If there is no handle for the ID yet, a new one is created.
+     *
+     * @param key The color ID
+     * @return The handle
+     */
+    public static synchronized int getHandle (final String key)
+    {
+        final Integer handle = HANDLES.get (key);
+        if (handle != null)
+            return handle.intValue ();
+
+        final int newHandle = KEYS.size ();
+        KEYS.add (key);
+        HANDLES.put (key, Integer.valueOf (newHandle));
+        return newHandle;
+    }
+
+
+    /**
+     * Get the handle of a DAW color.
+     *
+     * @param dawColor The DAW color
+     * @return The handle
+     */
+    public static int getHandle (final DAWColor dawColor)
+    {
+        return DAW_COLOR_HANDLES[dawColor.ordinal ()];
+    }
+
+
+    /**
+     * Get the handles of several color IDs.
+     *
+     * @param keys The color IDs
+     * @return The handles in the same order
+     */
+    public static int [] getHandles (final String... keys)
+    {
+        final int [] handles = new int [keys.length];
+        for (int i = 0; i < keys.length; i++)
+            handles[i] = getHandle (keys[i]);
+        return handles;
+    }
+
+
+    /**
+     * Get the color ID of a handle.
+     *
+     * @param handle The handle
+     * @return The color ID
+     */
+    public static synchronized String getKey (final int handle)
+    {
+        if (handle < 0 || handle >= KEYS.size ())
+            throw new ColorIndexException ("Color handle " + handle + " is not registered!");
+        return KEYS.get (handle);
+    }
+
+
+    /**
+     * Get the number of created handles.
+     *
+     * @return The number of handles
+     */
+    static synchronized int getNumHandles ()
+    {
+        return KEYS.size ();
+    }
+}
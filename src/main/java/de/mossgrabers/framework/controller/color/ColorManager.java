@@ -7,6 +7,7 @@ package de.mossgrabers.framework.controller.color;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.daw.DAWColor;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -20,14 +21,19 @@ import java.util.Map;
 public class ColorManager
 {
     /** ID for color when button is turned off. */
-    public static final String            BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
+    public static final String            BUTTON_STATE_OFF        = "BUTTON_STATE_OFF";
     /** ID for color when button is turned on. */
-    public static final String            BUTTON_STATE_ON  = "BUTTON_STATE_ON";
+    public static final String            BUTTON_STATE_ON         = "BUTTON_STATE_ON";
     /** ID for color when button is highlighted. */
-    public static final String            BUTTON_STATE_HI  = "BUTTON_STATE_HI";
+    public static final String            BUTTON_STATE_HI         = "BUTTON_STATE_HI";
+    /** Handle of the color ID when button is turned off. */
+    public static final int               BUTTON_STATE_OFF_HANDLE = ColorHandles.getHandle (BUTTON_STATE_OFF);
 
-    protected final Map<String, Integer>  colorIndexByKey  = new HashMap<> ();
-    protected final Map<Integer, ColorEx> colorByIndex     = new HashMap<> ();
+    private static final int              UNREGISTERED            = Integer.MIN_VALUE;
+
+    protected final Map<String, Integer>  colorIndexByKey         = new HashMap<> ();
+    protected final Map<Integer, ColorEx> colorByIndex            = new HashMap<> ();
+    private int []                        colorIndexByHandle      = new int [0];
 
 
     /**
@@ -53,6 +59,16 @@ public class ColorManager
     public void updateColorIndex (final String key, final int colorIndex)
     {
         this.colorIndexByKey.put (key, Integer.valueOf (colorIndex));
+
+        final int handle = ColorHandles.getHandle (key);
+        if (handle >= this.colorIndexByHandle.length)
+        {
+            final int length = Math.max (handle + 1, ColorHandles.getNumHandles ());
+            final int [] indices = Arrays.copyOf (this.colorIndexByHandle, length);
+            Arrays.fill (indices, this.colorIndexByHandle.length, length, UNREGISTERED);
+            this.colorIndexByHandle = indices;
+        }
+        this.colorIndexByHandle[handle] = colorIndex;
     }
 
 
@@ -83,6 +99,22 @@ public class ColorManager
     }
 
 
+    /**
+     * Get the color index which is registered with the given color handle. This is faster than
+     * looking up the color ID.
+     *
+     * @param colorHandle The handle of a color ID, see ColorHandles
+     * @return The color index
+     */
+    public int getColorIndexByHandle (final int colorHandle)
+    {
+        final int [] indices = this.colorIndexByHandle;
+        if (colorHandle >= 0 && colorHandle < indices.length && indices[colorHandle] != UNREGISTERED)
+            return indices[colorHandle];
+        throw new ColorIndexException ("Color for key " + ColorHandles.getKey (colorHandle) + " is not registered!");
+    }
+
+
     /**
      * Registers the real RGB color which is represented by the given color index.
      *
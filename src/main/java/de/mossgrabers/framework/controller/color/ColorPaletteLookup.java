@@ -0,0 +1,178 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.color;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+/**
+ * Maps RGB colors to the index of the closest color of a palette. Colors which are part of the
+ * palette are found by a binary search. All other colors are quantized to a 32x32x32 cube. The
+ * closest palette color of a cube cell is calculated when the cell is accessed for the first time
+ * and cached afterwards. Therefore, a lookup does not allocate any objects and only the first
+ * lookup of a cell needs to scan the whole palette.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ColorPaletteLookup
+{
+    private static final int   CELL_BITS  = 5;
+    private static final int   CELL_SHIFT = 8 - CELL_BITS;
+    private static final int   NUM_CELLS  = 1 << 3 * CELL_BITS;
+    private static final short UNKNOWN    = -1;
+
+    private final double []    reds;
+    private final double []    greens;
+    private final double []    blues;
+    private final int          startIndex;
+    private final boolean      useColorMetric;
+    private final int []       exactColors;
+    private final int []       exactIndices;
+    private final short []     cells      = new short [NUM_CELLS];
+
+
+    /**
+     * Constructor. Uses the color metric for calculating the distances.
+     *
+     * @param palette The palette to pick the colors from, maximum 32767 colors
+     */
+    public ColorPaletteLookup (final ColorEx [] palette)
+    {
+        this (palette, 0, true);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param palette The palette to pick the colors from, maximum 32767 colors
+     * @param startIndex The palette colors below this index are ignored
+     * @param useColorMetric If true uses color metrics to calculate the distance, see
+     *            https://www.compuphase.com/cmetric.htm
+     */
+    public ColorPaletteLookup (final ColorEx [] palette, final int startIndex, final boolean useColorMetric)
+    {
+        if (palette.length > Short.MAX_VALUE)
+            throw new IllegalArgumentException ("Palette must not contain more than " + Short.MAX_VALUE + " colors.");
+
+        this.startIndex = startIndex;
+        this.useColorMetric = useColorMetric;
+
+        this.reds = new double [palette.length];
+        this.greens = new double [palette.length];
+        this.blues = new double [palette.length];
+
+        // The first entry of duplicated colors wins like in the linear search
+        final Map<Integer, Integer> exact = new TreeMap<> ();
+        for (int i = palette.length - 1; i >= 0; i--)
+        {
+            final ColorEx color = palette[i];
+            this.reds[i] = color.getRed ();
+            this.greens[i] = color.getGreen ();
+            this.blues[i] = color.getBlue ();
+            if (i >= startIndex)
+                exact.put (Integer.valueOf (encode (this.reds[i], this.greens[i], this.blues[i])), Integer.valueOf (i));
+        }
+
+        this.exactColors = new int [exact.size ()];
+        this.exactIndices = new int [exact.size ()];
+        int pos = 0;
+        for (final Map.Entry<Integer, Integer> e: exact.entrySet ())
+        {
+            this.exactColors[pos] = e.getKey ().intValue ();
+            this.exactIndices[pos] = e.getValue ().intValue ();
+            pos++;
+        }
+
+        Arrays.fill (this.cells, UNKNOWN);
+    }
+
+
+    /**
+     * Get the index of the palette color which is the closest to the given color.
+     *
+     * @param color The color
+     * @return The index of the closest color from the palette
+     */
+    public int getIndex (final ColorEx color)
+    {
+        return this.getIndex (color.getRed (), color.getGreen (), color.getBlue ());
+    }
+
+
+    /**
+     * Get the index of the palette color which is the closest to the given color.
+     *
+     * @param red The red component (0..1)
+     * @param green The green component (0..1)
+     * @param blue The blue component (0..1)
+     * @return The index of the closest color from the palette
+     */
+    public int getIndex (final double red, final double green, final double blue)
+    {
+        final int rgb = encode (red, green, blue);
+        final int pos = Arrays.binarySearch (this.exactColors, rgb);
+        if (pos >= 0)
+            return this.exactIndices[pos];
+
+        final int r = (rgb >> 16 & 0xFF) >> CELL_SHIFT;
+        final int g = (rgb >> 8 & 0xFF) >> CELL_SHIFT;
+        final int b = (rgb & 0xFF) >> CELL_SHIFT;
+        final int cell = r << 2 * CELL_BITS | g << CELL_BITS | b;
+
+        int index = this.cells[cell];
+        if (index == UNKNOWN)
+        {
+            index = this.findClosest (getCellCenter (r), getCellCenter (g), getCellCenter (b));
+            this.cells[cell] = (short) index;
+        }
+        return index;
+    }
+
+
+    /**
+     * Scan the whole palette for the closest color.
+     *
+     * @param red The red component (0..1)
+     * @param green The green component (0..1)
+     * @param blue The blue component (0..1)
+     * @return The index of the closest color
+     */
+    private int findClosest (final double red, final double green, final double blue)
+    {
+        double minError = Double.MAX_VALUE;
+        int closest = this.startIndex;
+        for (int i = this.startIndex; i < this.reds.length; i++)
+        {
+            final double error = ColorEx.calcDistance (this.reds[i], this.greens[i], this.blues[i], red, green, blue, this.useColorMetric);
+            if (error < minError)
+            {
+                closest = i;
+                minError = error;
+            }
+        }
+        return closest;
+    }
+
+
+    private static double getCellCenter (final int cellValue)
+    {
+        return ((cellValue << CELL_SHIFT) + ((1 << CELL_SHIFT) - 1) / 2.0) / 255.0;
+    }
+
+
+    private static int encode (final double red, final double green, final double blue)
+    {
+        return toByte (red) << 16 | toByte (green) << 8 | toByte (blue);
+    }
+
+
+    private static int toByte (final double value)
+    {
+        return Math.max (0, Math.min (255, (int) Math.round (value * 255.0)));
+    }
+}
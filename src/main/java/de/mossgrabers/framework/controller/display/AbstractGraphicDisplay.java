@@ -32,15 +32,21 @@ import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
 import de.mossgrabers.framework.graphics.display.ModelInfo;
+import de.mossgrabers.framework.utils.OutputScheduler;
+import de.mossgrabers.framework.utils.OutputSlot;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 
@@ -52,41 +58,54 @@ import java.util.concurrent.atomic.AtomicReference;
 public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 {
     /** Display only a channel name for selection. */
-    public static final int                GRID_ELEMENT_CHANNEL_SELECTION  = 0;
+    public static final int                  GRID_ELEMENT_CHANNEL_SELECTION  = 0;
     /** Display a channel, edit volume. */
-    public static final int                GRID_ELEMENT_CHANNEL_VOLUME     = 1;
+    public static final int                  GRID_ELEMENT_CHANNEL_VOLUME     = 1;
     /** Display a channel, edit panorama. */
-    public static final int                GRID_ELEMENT_CHANNEL_PAN        = 2;
+    public static final int                  GRID_ELEMENT_CHANNEL_PAN        = 2;
     /** Display a channel, edit crossfader. */
-    public static final int                GRID_ELEMENT_CHANNEL_CROSSFADER = 3;
+    public static final int                  GRID_ELEMENT_CHANNEL_CROSSFADER = 3;
     /** Display a channel sends. */
-    public static final int                GRID_ELEMENT_CHANNEL_SENDS      = 4;
+    public static final int                  GRID_ELEMENT_CHANNEL_SENDS      = 4;
     /** Display a channel, edit all parameters. */
-    public static final int                GRID_ELEMENT_CHANNEL_ALL        = 5;
+    public static final int                  GRID_ELEMENT_CHANNEL_ALL        = 5;
     /** Display a parameter with name and value. */
-    public static final int                GRID_ELEMENT_PARAMETERS         = 6;
+    public static final int                  GRID_ELEMENT_PARAMETERS         = 6;
     /** Display options on top and bottom. */
-    public static final int                GRID_ELEMENT_OPTIONS            = 7;
+    public static final int                  GRID_ELEMENT_OPTIONS            = 7;
     /** Display a list. */
-    public static final int                GRID_ELEMENT_LIST               = 8;
+    public static final int                  GRID_ELEMENT_LIST               = 8;
 
     /** Timeout for displaying the notification message. */
-    private static final int               TIMEOUT                         = 1;
+    private static final int                 TIMEOUT                         = 1;
 
-    private final AtomicInteger            counter                         = new AtomicInteger ();
-    private final ScheduledExecutorService executor                        = Executors.newSingleThreadScheduledExecutor ();
-    private final Object                   counterSync                     = new Object ();
+    private final AtomicInteger              counter                         = new AtomicInteger ();
+    private final ScheduledFuture<?>         notificationTask;
+    private final Object                     counterSync                     = new Object ();
 
-    private final List<IComponent>         columns                         = new ArrayList<> (8);
-    private final AtomicReference<String>  notificationMessage             = new AtomicReference<> ();
-    private ModelInfo                      info                            = new ModelInfo (null, Collections.emptyList ());
+    private final OutputSlot                 renderSlot;
+    private final AtomicReference<ModelInfo> pendingInfo                     = new AtomicReference<> ();
+    private final AtomicBoolean              isRenderScheduled               = new AtomicBoolean ();
+    private final AtomicLong                 numRenderedFrames               = new AtomicLong ();
+    private final AtomicLong                 numDroppedFrames                = new AtomicLong ();
+    private volatile long                    lastRenderTime;
 
-    protected final IHost                  host;
-    protected final IGraphicsConfiguration configuration;
-    protected final IGraphicsDimensions    dimensions;
-    private final IBitmap                  image;
+    private final List<IComponent>           columns                         = new ArrayList<> (8);
+    private final AtomicReference<String>    notificationMessage             = new AtomicReference<> ();
+    private ModelInfo                        info                            = new ModelInfo (null, Collections.emptyList ());
+    private final Map<Integer, IBitmap []>   tiles                           = new HashMap<> ();
+    private IComponent []                    tileComponents                  = new IComponent [0];
+    private int                              renderedConfigurationHash;
+    private boolean                          hadNotification;
+    private boolean                          hadOverflow;
 
-    private IHwGraphicsDisplay             hardwareDisplay;
+    protected final IHost                    host;
+    protected final IGraphicsConfiguration   configuration;
+    protected final IGraphicsDimensions      dimensions;
+    private final String                     windowTitle;
+    private final IBitmap                    image;
+
+    private IHwGraphicsDisplay               hardwareDisplay;
 
 
     /**
@@ -102,14 +121,17 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
         this.host = host;
         this.configuration = configuration;
         this.dimensions = dimensions;
+        this.windowTitle = windowTitle;
 
         ResourceHandler.init (host);
 
         this.image = host.createBitmap (dimensions.getWidth (), dimensions.getHeight ());
         this.image.setDisplayWindowTitle (windowTitle);
 
+        this.renderSlot = OutputScheduler.getInstance ().createSlot (windowTitle);
+
         // Manage notification message display time
-        this.executor.scheduleAtFixedRate (this::checkNotificationCounter, 1, 1, TimeUnit.SECONDS);
+        this.notificationTask = OutputScheduler.getInstance ().scheduleAtFixedRate (this::checkNotificationCounter, 1000);
     }
 
 
@@ -147,27 +169,50 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void shutdown ()
     {
-        this.executor.shutdown ();
+        this.shutdownRendering ();
+        this.notificationTask.cancel (false);
+    }
+
+
+    /**
+     * Renders and sends the last pending frame and stops the render thread afterwards.
+     */
+    protected void shutdownRendering ()
+    {
+        if (this.renderSlot.isShutdown ())
+            return;
+
+        this.renderSlot.shutdown ();
         try
         {
-            if (!this.executor.awaitTermination (5, TimeUnit.SECONDS))
-                this.host.error ("Display send executor did not end in 5 seconds.");
+            if (!this.renderSlot.awaitTermination (5, TimeUnit.SECONDS))
+                this.host.error ("Display render slot did not end in 5 seconds.");
         }
         catch (final InterruptedException ex)
         {
-            this.host.error ("Display send executor interrupted.", ex);
+            this.host.error ("Display render slot interrupted.", ex);
             Thread.currentThread ().interrupt ();
         }
     }
 
 
+    /**
+     * Log the number of rendered and dropped frames.
+     */
+    protected void logStatistics ()
+    {
+        this.host.println (String.format ("%s: %d frames rendered, %d frames dropped.", this.windowTitle, Long.valueOf (this.numRenderedFrames.get ()), Long.valueOf (this.numDroppedFrames.get ())));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void send ()
     {
-        if (this.executor.isShutdown ())
+        if (this.notificationTask.isCancelled () || this.renderSlot.isShutdown ())
             return;
 
+        final ModelInfo newInfo;
         try
         {
             final String notification;
@@ -176,21 +221,48 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
                 notification = this.notificationMessage.get ();
             }
 
-            final ModelInfo newInfo = new ModelInfo (notification, this.columns);
-
-            // Only render image if there is a change in the data
-            if (!this.info.equals (newInfo))
-            {
-                this.info = newInfo;
-                this.renderImage ();
-            }
+            // The model info contains a copy of the components, which are immutable and do not
+            // reference the model since they are drawn on the render thread
+            newInfo = new ModelInfo (notification, this.columns);
         }
         finally
         {
             this.columns.clear ();
         }
 
-        this.send (this.image);
+        // Latest frame wins, a frame which was not yet rendered is replaced
+        if (this.pendingInfo.getAndSet (newInfo) != null)
+            this.numDroppedFrames.incrementAndGet ();
+
+        if (!this.isRenderScheduled.compareAndSet (false, true))
+            return;
+
+        // Limit the number of frames per second
+        final long frameTime = 1000L / Math.max (1, this.configuration.getMaxFramesPerSecond ());
+        final long delay = Math.max (0, this.lastRenderTime + frameTime - System.currentTimeMillis ());
+        this.renderSlot.execute (this::renderFrame, delay);
+    }
+
+
+    /**
+     * Get the number of rendered frames.
+     *
+     * @return The number of frames
+     */
+    public long getNumRenderedFrames ()
+    {
+        return this.numRenderedFrames.get ();
+    }
+
+
+    /**
+     * Get the number of frames which were replaced by a newer frame before they were rendered.
+     *
+     * @return The number of frames
+     */
+    public long getNumDroppedFrames ()
+    {
+        return this.numDroppedFrames.get ();
     }
 
 
@@ -427,34 +499,122 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /**
+     * Renders the latest pending frame and sends it to the device. Runs on the render thread.
+     */
+    private void renderFrame ()
+    {
+        this.isRenderScheduled.set (false);
+
+        final ModelInfo newInfo = this.pendingInfo.getAndSet (null);
+        if (newInfo == null)
+            return;
+        this.lastRenderTime = System.currentTimeMillis ();
+
+        try
+        {
+            // Only render image if there is a change in the data
+            if (!this.info.equals (newInfo))
+            {
+                this.info = newInfo;
+                this.renderImage ();
+            }
+
+            this.send (this.image);
+            this.numRenderedFrames.incrementAndGet ();
+        }
+        catch (final RuntimeException ex)
+        {
+            this.host.error ("Could not render display.", ex);
+        }
+    }
+
+
+    /**
+     * Render the image. Each column is rendered into its own tile bitmap, which is only rendered
+     * again if the component of the column has changed. The changed tiles are then drawn into the
+     * image. Components which draw outside of their column are drawn directly onto the image after
+     * all tiles.
+     */
     private void renderImage ()
     {
-        this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
-            final int width = this.dimensions.getWidth ();
-            final int height = this.dimensions.getHeight ();
-            final double separatorSize = this.dimensions.getSeparatorSize ();
+        final int width = this.dimensions.getWidth ();
+        final int height = this.dimensions.getHeight ();
+        final boolean isAntialiasEnabled = this.configuration.isAntialiasEnabled ();
+        final ColorEx colorBorder = this.configuration.getColorBorder ();
 
-            // Clear display
-            final ColorEx colorBorder = this.configuration.getColorBorder ();
-            gc.fillRectangle (0, 0, width, height, colorBorder);
+        final List<IComponent> elements = this.info.getComponents ();
+        final int size = elements.size ();
+        final String notification = this.info.getNotification ();
 
-            final List<IComponent> elements = this.info.getComponents ();
-            final int size = elements.size ();
-            if (size == 0)
-                return;
-            final int gridWidth = width / size;
-            final double paintWidth = gridWidth - separatorSize;
-            final double offsetX = separatorSize / 2.0;
+        // All tiles need to be rendered again if the layout or the configuration has changed
+        final int configurationHash = this.getConfigurationHash ();
+        final boolean isLayoutChanged = size != this.tileComponents.length || configurationHash != this.renderedConfigurationHash;
+        if (isLayoutChanged)
+        {
+            this.tileComponents = new IComponent [size];
+            this.renderedConfigurationHash = configurationHash;
+        }
+
+        final boolean [] isOverflowing = new boolean [size];
+        boolean isAnyOverflowing = false;
+        for (int i = 0; i < size; i++)
+        {
+            final IComponent component = elements.get (i);
+            isOverflowing[i] = component != null && component.isOverflowing ();
+            isAnyOverflowing |= isOverflowing[i];
+        }
+        final boolean hasOverflow = isAnyOverflowing;
+
+        // Overflowing components draw over neighbour columns, therefore the whole image needs to
+        // be drawn again if they are present or were present in the previous frame
+        final boolean isFullRedraw = isLayoutChanged || notification != null || this.hadNotification || hasOverflow || this.hadOverflow;
+        this.hadNotification = notification != null;
+        this.hadOverflow = hasOverflow;
+
+        final int gridWidth = size == 0 ? width : width / size;
+        final IBitmap [] tiles = size == 0 ? null : this.tiles.computeIfAbsent (Integer.valueOf (size), key -> this.createTiles (key.intValue (), gridWidth, height));
+        final boolean [] isTileChanged = new boolean [size];
+        for (int i = 0; i < size; i++)
+        {
+            final IComponent component = elements.get (i);
+            if (isOverflowing[i])
+            {
+                // Drawn directly onto the image, the tile is rendered again when the component
+                // is replaced by one which is not overflowing
+                this.tileComponents[i] = component;
+                continue;
+            }
+            if (!isLayoutChanged && Objects.equals (component, this.tileComponents[i]))
+                continue;
+            this.tileComponents[i] = component;
+            isTileChanged[i] = true;
+            this.renderTile (tiles[i], component, gridWidth, isAntialiasEnabled, colorBorder);
+        }
+
+        this.image.render (isAntialiasEnabled, gc -> {
+
+            // Clear display
+            if (isFullRedraw)
+                gc.fillRectangle (0, 0, width, height, colorBorder);
 
-            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
             for (int i = 0; i < size; i++)
             {
-                final IComponent component = elements.get (i);
-                if (component != null)
-                    component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
+                if (!isOverflowing[i] && (isFullRedraw || isTileChanged[i]))
+                    gc.drawBitmap (tiles[i], i * (double) gridWidth, 0);
+            }
+
+            if (hasOverflow)
+            {
+                final double separatorSize = this.dimensions.getSeparatorSize ();
+                final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+                for (int i = 0; i < size; i++)
+                {
+                    if (isOverflowing[i])
+                        elements.get (i).draw (graphicsInfo.withBounds (i * gridWidth + separatorSize / 2.0, 0, gridWidth - separatorSize, height));
+                }
             }
 
-            final String notification = this.info.getNotification ();
             if (notification == null)
                 return;
 
@@ -464,6 +624,56 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /**
+     * Render a component into a tile.
+     *
+     * @param tile The tile
+     * @param component The component to draw, might be null
+     * @param gridWidth The width of the tile
+     * @param isAntialiasEnabled True to enable anti aliasing
+     * @param colorBorder The background color
+     */
+    private void renderTile (final IBitmap tile, final IComponent component, final int gridWidth, final boolean isAntialiasEnabled, final ColorEx colorBorder)
+    {
+        tile.render (isAntialiasEnabled, gc -> {
+
+            final int height = this.dimensions.getHeight ();
+            final double separatorSize = this.dimensions.getSeparatorSize ();
+
+            gc.fillRectangle (0, 0, gridWidth, height, colorBorder);
+            if (component == null)
+                return;
+
+            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+            component.draw (graphicsInfo.withBounds (separatorSize / 2.0, 0, gridWidth - separatorSize, height));
+        });
+    }
+
+
+    /**
+     * Create the tiles for a layout with the given number of columns. The tiles are kept since
+     * bitmaps are only freed when the extension exits.
+     *
+     * @param numColumns The number of columns
+     * @param gridWidth The width of a column
+     * @param height The height of a column
+     * @return The tiles
+     */
+    private IBitmap [] createTiles (final int numColumns, final int gridWidth, final int height)
+    {
+        final IBitmap [] newTiles = new IBitmap [numColumns];
+        for (int i = 0; i < numColumns; i++)
+            newTiles[i] = this.host.createBitmap (gridWidth, height);
+        return newTiles;
+    }
+
+
+    private int getConfigurationHash ()
+    {
+        return Objects.hash (Boolean.valueOf (this.configuration.isAntialiasEnabled ()), this.configuration.getColorText (), this.configuration.getColorBackground (), this.configuration.getColorBackgroundDarker (), this.configuration.getColorBackgroundLighter (), this.configuration.getColorBorder (), this.configuration.getColorEdit (), this.configuration.getColorFader (), this.configuration.getColorVu (), this.configuration.getColorRecord (), this.configuration.getColorSolo (), this.configuration.getColorMute ());
+    }
+
+
     private void checkNotificationCounter ()
     {
         synchronized (this.counterSync)
@@ -9,38 +9,46 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+
 
 /**
- * Abstract implementation of a display.
+ * Abstract implementation of a display. The cells are written into a character buffer of the
+ * lines. When a row is done, the line is stored and marked as dirty if it has changed. A flush only
+ * sends the dirty lines which differ from the line which was sent before.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public abstract class AbstractTextDisplay implements ITextDisplay
 {
     /** Time to keep a notification displayed in milliseconds. */
-    public static final int  NOTIFICATION_TIME   = 1000;
+    public static final int    NOTIFICATION_TIME   = 1000;
 
-    protected IHost          host;
-    protected IMidiOutput    output;
+    protected IHost            host;
+    protected IMidiOutput      output;
 
-    protected int            noOfLines;
-    protected int            noOfCells;
-    protected int            noOfCharacters;
-    protected int            charactersOfCell;
+    protected int              noOfLines;
+    protected int              noOfCells;
+    protected int              noOfCharacters;
+    protected int              charactersOfCell;
 
-    protected final String   emptyLine;
-    protected String         notificationMessage;
-    protected boolean        centerNotification  = true;
-    protected int            notificationTimeout = 0;
-    protected final Object   notificationLock    = new Object ();
+    protected final String     emptyLine;
+    protected String           notificationMessage;
+    protected boolean          centerNotification  = true;
+    protected int              notificationTimeout = 0;
+    protected final Object     notificationLock    = new Object ();
 
-    private final String     emptyCell;
-    protected String []      currentMessage;
-    protected String []      message;
-    protected String []      fullRows;
-    protected String []      cells;
+    protected final char [] [] cellLines;
+    protected String []        fullRows;
+    private final char [] []   lines;
+    private final int []       lineLengths;
+    private final char [] []   sentLines;
+    private final int []       sentLengths;
+    private final boolean []   isDirty;
+    private char []            rowBuffer;
+    private String             sentNotification;
 
-    protected IHwTextDisplay hwDisplay;
+    protected IHwTextDisplay   hwDisplay;
 
 
     /**
@@ -62,18 +70,25 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         this.noOfCharacters = noOfCharacters;
         this.charactersOfCell = this.noOfCharacters / this.noOfCells;
 
-        this.emptyCell = "                                                                     ".substring (0, this.charactersOfCell);
-
         final StringBuilder sb = new StringBuilder (this.noOfCharacters);
         for (int i = 0; i < this.noOfCharacters; i++)
             sb.append (' ');
         this.emptyLine = sb.toString ();
         this.notificationMessage = this.emptyLine;
 
-        this.currentMessage = new String [this.noOfLines];
-        this.message = new String [this.noOfLines];
+        this.cellLines = new char [this.noOfLines] [this.noOfCharacters];
+        for (final char [] line: this.cellLines)
+            Arrays.fill (line, ' ');
         this.fullRows = new String [this.noOfLines];
-        this.cells = new String [this.noOfLines * this.noOfCells];
+        this.lines = new char [this.noOfLines] [this.noOfCharacters];
+        this.lineLengths = new int [this.noOfLines];
+        this.sentLines = new char [this.noOfLines] [this.noOfCharacters];
+        this.sentLengths = new int [this.noOfLines];
+        this.isDirty = new boolean [this.noOfLines];
+        // No line was stored or sent yet
+        Arrays.fill (this.lineLengths, -1);
+        Arrays.fill (this.sentLengths, -1);
+        this.rowBuffer = new char [this.noOfCharacters];
     }
 
 
@@ -155,19 +170,20 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public ITextDisplay done (final int row)
     {
-        if (this.fullRows[row] != null)
-        {
-            this.message[row] = this.fullRows[row];
-            this.fullRows[row] = null;
-        }
-        else
+        final String fullRow = this.fullRows[row];
+        if (fullRow == null)
         {
-            final int index = row * this.noOfCells;
-            this.message[row] = "";
-            for (int i = 0; i < this.noOfCells; i++)
-                this.message[row] += this.cells[index + i];
+            this.storeLine (row, this.cellLines[row], this.noOfCharacters);
+            return this;
         }
 
+        // A full row is sent as it is, therefore it can be shorter or longer than the line
+        this.fullRows[row] = null;
+        final int length = fullRow.length ();
+        if (this.rowBuffer.length < length)
+            this.rowBuffer = new char [length];
+        fullRow.getChars (0, length, this.rowBuffer, 0);
+        this.storeLine (row, this.rowBuffer, length);
         return this;
     }
 
@@ -186,7 +202,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public ITextDisplay clearCell (final int row, final int column)
     {
-        this.cells[row * this.noOfCells + column] = this.emptyCell;
+        this.writeText (row, column * this.charactersOfCell, this.charactersOfCell, null);
         return this;
     }
 
@@ -206,9 +222,9 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = StringUtils.pad (value, this.charactersOfCell);
+            this.writeText (row, column * this.charactersOfCell, this.charactersOfCell, value);
         }
-        catch (final ArrayIndexOutOfBoundsException ex)
+        catch (final IndexOutOfBoundsException ex)
         {
             this.host.error ("Display array index out of bounds.", ex);
         }
@@ -220,17 +236,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public ITextDisplay setBlock (final int row, final int block, final String value)
     {
-        final int cell = 2 * block;
-        if (value.length () >= this.charactersOfCell)
-        {
-            this.cells[row * this.noOfCells + cell] = StringUtils.pad (value.substring (0, this.charactersOfCell), this.charactersOfCell);
-            this.cells[row * this.noOfCells + cell + 1] = StringUtils.pad (value.substring (this.charactersOfCell), this.charactersOfCell);
-        }
-        else
-        {
-            this.setCell (row, cell, value);
-            this.clearCell (row, cell + 1);
-        }
+        this.writeText (row, 2 * block * this.charactersOfCell, 2 * this.charactersOfCell, value);
         return this;
     }
 
@@ -316,24 +322,39 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         {
             if (this.notificationTimeout > 0)
             {
+                // The lines of a notification are only sent once
+                final String notification = this.notificationMessage;
+                if (notification.equals (this.sentNotification))
+                    return;
+                this.sentNotification = notification;
+
+                final int length = notification.length ();
                 for (int row = 0; row < this.noOfLines; row++)
                 {
                     final int pos = row * this.noOfCharacters;
-                    final int length = this.notificationMessage.length ();
-                    this.updateLine (row, StringUtils.pad (pos < length ? this.notificationMessage.substring (pos, Math.min (length, pos + this.noOfCharacters)) : "", this.noOfCharacters));
+                    this.updateLine (row, StringUtils.pad (pos < length ? notification.substring (pos, Math.min (length, pos + this.noOfCharacters)) : "", this.noOfCharacters));
                 }
                 return;
             }
         }
+        this.sentNotification = null;
 
         for (int row = 0; row < this.noOfLines; row++)
         {
-            // Has anything changed?
-            if (this.currentMessage[row] != null && this.currentMessage[row].equals (this.message[row]))
+            if (!this.isDirty[row])
                 continue;
-            this.currentMessage[row] = this.message[row];
-            if (this.currentMessage[row] != null)
-                this.updateLine (row, this.currentMessage[row]);
+            this.isDirty[row] = false;
+
+            // Changed back to the line which was sent before?
+            final int length = this.lineLengths[row];
+            if (this.sentLengths[row] == length && Arrays.equals (this.sentLines[row], 0, length, this.lines[row], 0, length))
+                continue;
+
+            if (this.sentLines[row].length < length)
+                this.sentLines[row] = new char [length];
+            System.arraycopy (this.lines[row], 0, this.sentLines[row], 0, length);
+            this.sentLengths[row] = length;
+            this.updateLine (row, new String (this.lines[row], 0, length));
         }
     }
 
@@ -367,8 +388,51 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public void forceFlush ()
     {
+        this.sentNotification = null;
         for (int row = 0; row < this.noOfLines; row++)
-            this.currentMessage[row] = "";
+        {
+            this.sentLengths[row] = -1;
+            this.isDirty[row] = this.lineLengths[row] >= 0;
+        }
+    }
+
+
+    /**
+     * Write a text into the line buffer of the cells. The text is padded with spaces or cut to the
+     * given length.
+     *
+     * @param row The row
+     * @param position The index of the first character in the line
+     * @param length The number of characters to write
+     * @param text The text, null writes only spaces
+     */
+    protected void writeText (final int row, final int position, final int length, final String text)
+    {
+        final char [] line = this.cellLines[row];
+        final int textLength = text == null ? 0 : Math.min (text.length (), length);
+        if (textLength > 0)
+            text.getChars (0, textLength, line, position);
+        Arrays.fill (line, position + textLength, position + length, ' ');
+    }
+
+
+    /**
+     * Store the line of a row and mark it as dirty, if it is different from the previous one.
+     *
+     * @param row The row
+     * @param source The characters of the line
+     * @param length The number of characters of the line
+     */
+    private void storeLine (final int row, final char [] source, final int length)
+    {
+        if (this.lineLengths[row] == length && Arrays.equals (this.lines[row], 0, length, source, 0, length))
+            return;
+
+        if (this.lines[row].length < length)
+            this.lines[row] = new char [length];
+        System.arraycopy (source, 0, this.lines[row], 0, length);
+        this.lineLengths[row] = length;
+        this.isDirty[row] = true;
     }
 
 
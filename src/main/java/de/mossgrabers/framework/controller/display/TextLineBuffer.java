@@ -0,0 +1,179 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.display;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * Keeps the characters of a display line which were sent to the device and calculates the
+ * characters which need to be updated for a new text. The changed characters are collected into
+ * runs of consecutive characters. Two runs are merged if the unchanged characters between them are
+ * cheaper to resend than the overhead of an additional message. A buffer must only be used from
+ * one thread, only {@link #invalidate()} can be called from any thread. The buffer itself provides
+ * the characters of the line as sent.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TextLineBuffer implements CharSequence
+{
+    private final char []       sent;
+    private final boolean []    dirty;
+    private final int []        runStarts;
+    private final int []        runEnds;
+    private final int           messageOverhead;
+    private final AtomicBoolean isValid = new AtomicBoolean (false);
+    private int                 runCount;
+
+
+    /**
+     * Constructor.
+     *
+     * @param length The number of characters of the line
+     * @param messageOverhead The number of bytes a message needs in addition to the characters
+     *            (e.g. the header and the address), used to decide if runs are merged
+     */
+    public TextLineBuffer (final int length, final int messageOverhead)
+    {
+        this.sent = new char [length];
+        this.dirty = new boolean [length];
+        this.runStarts = new int [length];
+        this.runEnds = new int [length];
+        this.messageOverhead = messageOverhead;
+    }
+
+
+    /**
+     * Mark all characters as unknown, the next update sends the whole line.
+     */
+    public void invalidate ()
+    {
+        this.isValid.set (false);
+    }
+
+
+    /**
+     * Compare the text with the characters sent before and calculate the runs of changed
+     * characters. The text is stored as sent, therefore the runs must be sent afterwards. If the
+     * text is shorter than the line it is padded with spaces, if it is longer it is cut.
+     *
+     * @param text The new text of the line
+     * @return The number of runs to send, 0 if nothing has changed
+     */
+    public int update (final CharSequence text)
+    {
+        // Atomically, an invalidation from another thread must not get lost
+        final boolean sendAll = !this.isValid.getAndSet (true);
+
+        final int textLength = Math.min (text.length (), this.sent.length);
+        for (int i = 0; i < this.sent.length; i++)
+        {
+            final char c = i < textLength ? text.charAt (i) : ' ';
+            this.dirty[i] = sendAll || this.sent[i] != c;
+            this.sent[i] = c;
+        }
+
+        this.runCount = 0;
+        int position = 0;
+        while (position < this.sent.length)
+        {
+            if (!this.dirty[position])
+            {
+                position++;
+                continue;
+            }
+
+            final int start = position;
+            while (position < this.sent.length && this.dirty[position])
+                position++;
+
+            // Resending the gap is cheaper than an additional message?
+            if (this.runCount > 0 && start - this.runEnds[this.runCount - 1] <= this.messageOverhead)
+                this.runEnds[this.runCount - 1] = position;
+            else
+            {
+                this.runStarts[this.runCount] = start;
+                this.runEnds[this.runCount] = position;
+                this.runCount++;
+            }
+        }
+        return this.runCount;
+    }
+
+
+    /**
+     * Get the index of the first character of a run.
+     *
+     * @param run The index of the run
+     * @return The index of the first character
+     */
+    public int getRunStart (final int run)
+    {
+        return this.runStarts[run];
+    }
+
+
+    /**
+     * Get the number of characters of a run.
+     *
+     * @param run The index of the run
+     * @return The number of characters
+     */
+    public int getRunLength (final int run)
+    {
+        return this.runEnds[run] - this.runStarts[run];
+    }
+
+
+    /**
+     * Check if one of the characters in the given range was changed by the last update.
+     *
+     * @param start The index of the first character
+     * @param length The number of characters
+     * @return True if at least one character has changed
+     */
+    public boolean isDirty (final int start, final int length)
+    {
+        final int end = Math.min (start + length, this.dirty.length);
+        for (int i = start; i < end; i++)
+        {
+            if (this.dirty[i])
+                return true;
+        }
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int length ()
+    {
+        return this.sent.length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public char charAt (final int index)
+    {
+        return this.sent[index];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public CharSequence subSequence (final int start, final int end)
+    {
+        return this.toString ().subSequence (start, end);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return new String (this.sent);
+    }
+}
\ No newline at end of file
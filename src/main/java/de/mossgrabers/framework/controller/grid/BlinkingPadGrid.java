@@ -7,11 +7,6 @@ package de.mossgrabers.framework.controller.grid;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.TreeMap;
-
 
 /**
  * Implementation of a grid of pads with software simulated blinking pads.
@@ -20,12 +15,12 @@ import java.util.TreeMap;
  */
 public abstract class BlinkingPadGrid extends PadGridImpl
 {
-    protected static final int              BLINK_SPEED    = 600;
+    protected static final int BLINK_SPEED    = 600;
 
-    protected final Map<Integer, LightInfo> blinkingLights = new HashMap<> ();
-    protected final Map<Integer, LightInfo> padInfos       = new TreeMap<> ();
-    protected boolean                       isBlink;
-    protected long                          updateTime     = System.currentTimeMillis ();
+    /** The color (bits 0-6) and blink color (bits 8-14) of each blinking pad, 0 if not blinking. */
+    protected final int []     blinkingStates = new int [NUM_NOTES];
+    protected boolean          isBlink;
+    protected long             updateTime     = System.currentTimeMillis ();
 
 
     /**
@@ -55,15 +50,14 @@ public abstract class BlinkingPadGrid extends PadGridImpl
     }
 
 
-    /**
-     * Flush the changed pad LEDs using system exclusive.
-     */
+    /** {@inheritDoc} */
+    @Override
     public void flush ()
     {
-        synchronized (this.padInfos)
+        synchronized (this.updates)
         {
             this.updateController ();
-            this.padInfos.clear ();
+            this.updates.clear ();
         }
     }
 
@@ -73,52 +67,50 @@ public abstract class BlinkingPadGrid extends PadGridImpl
      */
     protected void updateController ()
     {
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
-        {
-            final Integer note = e.getKey ();
-            final LightInfo info = e.getValue ();
-            this.sendPadUpdate (note.intValue (), info.getColor ());
-
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (note, info);
-            else
-                this.blinkingLights.remove (note);
-        }
+        this.updateBlinkingStates ();
+
+        for (int note = this.updates.nextChange (0); note >= 0; note = this.updates.nextChange (note + 1))
+            this.sendPadUpdate (note, this.updates.getColor (note));
 
         // Toggle blink colors every 600ms
         if (!this.checkBlinking ())
             return;
-        for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
+        for (int note = 0; note < NUM_NOTES; note++)
         {
-            final LightInfo info = value.getValue ();
-            final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-            final int note = value.getKey ().intValue ();
-            this.sendPadUpdate (note, colorIndex);
+            final int state = this.blinkingStates[note];
+            if (state != 0)
+                this.sendPadUpdate (note, this.isBlink ? state >> 8 : state & 0x7F);
         }
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    protected void sendNoteState (final int channel, final int note, final int color)
+    /**
+     * Stores the blink state of all changed pads.
+     */
+    protected void updateBlinkingStates ()
     {
-        synchronized (this.padInfos)
+        for (int note = this.updates.nextChange (0); note >= 0; note = this.updates.nextChange (note + 1))
         {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
+            final int blinkColor = this.updates.getBlinkColor (note);
+            this.blinkingStates[note] = blinkColor > 0 ? blinkColor << 8 | this.updates.getColor (note) : 0;
         }
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
+    /**
+     * Get the number of blinking pads.
+     *
+     * @return The number of pads
+     */
+    protected int getNumBlinking ()
     {
-        synchronized (this.padInfos)
+        int count = 0;
+        for (final int state: this.blinkingStates)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            if (state != 0)
+                count++;
         }
+        return count;
     }
 
 
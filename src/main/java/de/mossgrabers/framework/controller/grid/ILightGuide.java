@@ -51,6 +51,27 @@ public interface ILightGuide
     void light (int note, String colorID, String blinkColorID, boolean fast);
 
 
+    /**
+     * Set the lighting state of a LED.
+     *
+     * @param note The MIDI note of the LED
+     * @param colorHandle The handle of a registered color ID, see ColorHandles
+     */
+    void lightHandle (int note, int colorHandle);
+
+
+    /**
+     * Set the lighting state of a LED.
+     *
+     * @param note The MIDI note of the LED
+     * @param colorHandle The handle of a registered color ID, see ColorHandles
+     * @param blinkColorHandle The handle of a registered color ID of the blinking color, -1 for no
+     *            blinking
+     * @param fast Blinking is fast if true
+     */
+    void lightHandle (int note, int colorHandle, int blinkColorHandle, boolean fast);
+
+
     /**
      * Resets the caching which forces a complete flush.
      */
@@ -111,4 +132,10 @@ public interface ILightGuide
      * @param note The note (0-127)
      */
     void sendState (int note);
-}
\ No newline at end of file
+
+
+    /**
+     * Send the collected state changes of the current frame to the controller.
+     */
+    void flush ();
+}
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.controller.grid;
 
+import de.mossgrabers.framework.controller.color.ColorHandles;
+
+
 /**
  * Interface to a grid of pads.
  *
@@ -12,7 +15,9 @@ package de.mossgrabers.framework.controller.grid;
 public interface IPadGrid extends ILightGuide
 {
     /** The ID for the pad state off. Can the value can be retrieved from the color manager. */
-    String GRID_OFF = "GRID_COLOR_OFF";
+    String GRID_OFF        = "GRID_COLOR_OFF";
+    /** The handle of the color ID for the pad state off. */
+    int    GRID_OFF_HANDLE = ColorHandles.getHandle (GRID_OFF);
 
 
     /**
@@ -59,6 +64,29 @@ public interface IPadGrid extends ILightGuide
     void lightEx (int x, int y, String colorID, String blinkColorID, boolean fast);
 
 
+    /**
+     * Set the lighting state of a pad.
+     *
+     * @param x The x position of the pad in the grid
+     * @param y The y position of the pad in the grid
+     * @param colorHandle The handle of a registered color ID, see ColorHandles
+     */
+    void lightExHandle (int x, int y, int colorHandle);
+
+
+    /**
+     * Set the lighting state of a pad.
+     *
+     * @param x The x position of the pad in the grid
+     * @param y The y position of the pad in the grid
+     * @param colorHandle The handle of a registered color ID, see ColorHandles
+     * @param blinkColorHandle The handle of a registered color ID of the blinking color, -1 for no
+     *            blinking
+     * @param fast Blinking is fast if true
+     */
+    void lightExHandle (int x, int y, int colorHandle, int blinkColorHandle, boolean fast);
+
+
     /**
      * Plug for grids not sending notes in the range of 36-100.
      *
@@ -74,4 +102,4 @@ public interface IPadGrid extends ILightGuide
      * @return The number of rows of the grid
      */
     int getRows ();
-}
\ No newline at end of file
+}
\ No newline at end of file
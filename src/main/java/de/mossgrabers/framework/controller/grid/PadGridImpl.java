@@ -7,6 +7,8 @@ package de.mossgrabers.framework.controller.grid;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
+import java.util.Arrays;
+
 
 /**
  * Implementation of a grid of pads.
@@ -15,17 +17,22 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
  */
 public class PadGridImpl implements IPadGrid
 {
-    protected static final int   NUM_NOTES = 128;
+    protected static final int     NUM_NOTES          = 128;
+
+    protected final IMidiOutput    output;
+    protected final ColorManager   colorManager;
 
-    protected final IMidiOutput  output;
-    protected final ColorManager colorManager;
+    protected LightInfo []         padStates;
+    protected final PadGridUpdates updates            = new PadGridUpdates ();
 
-    protected LightInfo []       padStates;
+    private final int []           translatedChannels = new int [NUM_NOTES];
+    private final int []           translatedNotes    = new int [NUM_NOTES];
+    private final boolean []       isTranslated       = new boolean [NUM_NOTES];
 
-    protected int                rows;
-    protected int                cols;
-    protected int                startNote;
-    protected int                endNote;
+    protected int                  rows;
+    protected int                  cols;
+    protected int                  startNote;
+    protected int                  endNote;
 
 
     /**
@@ -131,6 +138,38 @@ public class PadGridImpl implements IPadGrid
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void lightHandle (final int note, final int colorHandle)
+    {
+        this.light (note, this.colorManager.getColorIndexByHandle (colorHandle), -1, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightHandle (final int note, final int colorHandle, final int blinkColorHandle, final boolean fast)
+    {
+        this.light (note, this.colorManager.getColorIndexByHandle (colorHandle), blinkColorHandle < 0 ? -1 : this.colorManager.getColorIndexByHandle (blinkColorHandle), fast);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightExHandle (final int x, final int y, final int colorHandle)
+    {
+        this.lightEx (x, y, this.colorManager.getColorIndexByHandle (colorHandle), -1, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightExHandle (final int x, final int y, final int colorHandle, final int blinkColorHandle, final boolean fast)
+    {
+        this.lightEx (x, y, this.colorManager.getColorIndexByHandle (colorHandle), blinkColorHandle < 0 ? -1 : this.colorManager.getColorIndexByHandle (blinkColorHandle), fast);
+    }
+
+
     /**
      * Set the lighting state of a pad.
      *
@@ -141,7 +180,7 @@ public class PadGridImpl implements IPadGrid
      */
     protected void setLight (final int note, final int color, final int blinkColor, final boolean fast)
     {
-        this.padStates[note].setColors (color, blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndex (GRID_OFF), fast);
+        this.padStates[note].setColors (color, blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndexByHandle (GRID_OFF_HANDLE), fast);
     }
 
 
@@ -174,18 +213,78 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void sendState (final int note)
     {
-        final LightInfo state = note < this.padStates.length ? this.padStates[note] : new LightInfo ();
-        final int [] translated = this.translateToController (note);
+        if (note < 0 || note >= NUM_NOTES)
+        {
+            final int [] translated = this.translateToController (note);
+            this.sendNoteState (translated[0], translated[1], 0);
+            return;
+        }
+
+        if (!this.isTranslated[note])
+        {
+            final int [] translated = this.translateToController (note);
+            this.translatedChannels[note] = translated[0];
+            this.translatedNotes[note] = translated[1];
+            this.isTranslated[note] = true;
+        }
+
+        final LightInfo state = this.padStates[note];
+        final int channel = this.translatedChannels[note];
+        final int controllerNote = this.translatedNotes[note];
         final int color = state.getColor ();
-        this.sendNoteState (translated[0], translated[1], color < 0 ? 0 : color);
+        this.sendNoteState (channel, controllerNote, color < 0 ? 0 : color);
         final int blinkColor = state.getBlinkColor ();
         if (blinkColor > 0 && blinkColor < 128)
-            this.sendBlinkState (translated[0], translated[1], blinkColor, state.isFast ());
+            this.sendBlinkState (channel, controllerNote, blinkColor, state.isFast ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        synchronized (this.updates)
+        {
+            if (!this.updates.hasChanges ())
+                return;
+            this.sendUpdates (this.updates);
+            this.updates.clear ();
+        }
     }
 
 
     /**
-     * Send the note/pad update to the controller.
+     * Send the pad changes of the current frame to the controller. The default implementation
+     * sends one note per changed pad and an additional note for blinking pads.
+     *
+     * @param padUpdates The changed pads
+     */
+    protected void sendUpdates (final PadGridUpdates padUpdates)
+    {
+        for (int note = padUpdates.nextChange (0); note >= 0; note = padUpdates.nextChange (note + 1))
+        {
+            this.output.sendNoteEx (padUpdates.getChannel (note), note, padUpdates.getColor (note));
+            final int blinkColor = padUpdates.getBlinkColor (note);
+            if (blinkColor > 0)
+                this.output.sendNoteEx (padUpdates.isFast (note) ? 14 : 10, note, blinkColor);
+        }
+    }
+
+
+    /**
+     * Clear the cached translations of the grid notes to the controller notes. Needs to be called
+     * if the result of translateToController changes, e.g. since it depends on the active view.
+     */
+    protected void clearTranslationCache ()
+    {
+        Arrays.fill (this.isTranslated, false);
+    }
+
+
+    /**
+     * Send the note/pad update to the controller. The default implementation collects the update,
+     * which is sent on the next flush. If a grid sends the update directly, it needs to do the same
+     * in sendBlinkState to keep the color and blink updates in order.
      *
      * @param channel The channel
      * @param note The note
@@ -193,12 +292,17 @@ public class PadGridImpl implements IPadGrid
      */
     protected void sendNoteState (final int channel, final int note, final int color)
     {
-        this.output.sendNoteEx (channel, note, color);
+        synchronized (this.updates)
+        {
+            this.updates.setColor (channel, note, color);
+        }
     }
 
 
     /**
-     * Set the given pad/note to blink.
+     * Set the given pad/note to blink. The default implementation collects the update, which is
+     * sent on the next flush. If a grid sends the blink state directly, it needs to do the same in
+     * sendNoteState to keep the color and blink updates in order.
      *
      * @param channel The channel
      * @param note The note
@@ -207,7 +311,10 @@ public class PadGridImpl implements IPadGrid
      */
     protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
     {
-        this.output.sendNoteEx (fast ? 14 : 10, note, blinkColor);
+        synchronized (this.updates)
+        {
+            this.updates.setBlink (note, blinkColor, fast);
+        }
     }
 
 
@@ -215,12 +322,13 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void turnOff ()
     {
-        final int color = this.colorManager.getColorIndex (GRID_OFF);
+        final int color = this.colorManager.getColorIndexByHandle (GRID_OFF_HANDLE);
         for (int i = this.startNote; i <= this.endNote; i++)
         {
             this.light (i, color, -1, false);
             this.sendState (i);
         }
+        this.flush ();
     }
 
 
@@ -266,4 +374,4 @@ public class PadGridImpl implements IPadGrid
     {
         return this.startNote;
     }
-}
\ No newline at end of file
+}
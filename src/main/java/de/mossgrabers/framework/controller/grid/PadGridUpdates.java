@@ -0,0 +1,174 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+import java.util.Arrays;
+
+
+/**
+ * Collects the changed pad states of one frame, addressed by the note of the controller. The state
+ * of a pad is packed into one integer (color, blink color, fast blinking and MIDI channel) and the
+ * changed pads are marked in a bit set. If a pad changes several times during a frame only the last
+ * state is kept. The changes can be iterated in the order of the notes, which allows to send them
+ * as one batch (e.g. a system exclusive message) at the end of the frame.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PadGridUpdates
+{
+    private static final int   NUM_NOTES     = 128;
+
+    private static final int   SHIFT_BLINK   = 8;
+    private static final int   SHIFT_CHANNEL = 16;
+    private static final int   FLAG_FAST     = 1 << 15;
+
+    private final int []       states        = new int [NUM_NOTES];
+    private final long []      changed       = new long [NUM_NOTES / 64];
+
+
+    /**
+     * Set the color of a pad. Clears the blink state.
+     *
+     * @param channel The MIDI channel (0-15)
+     * @param note The note on the controller (0-127)
+     * @param color The color (0-127)
+     */
+    public void setColor (final int channel, final int note, final int color)
+    {
+        if (note < 0 || note >= NUM_NOTES)
+            return;
+        this.states[note] = (channel & 0x0F) << SHIFT_CHANNEL | color & 0x7F;
+        this.changed[note >> 6] |= 1L << note;
+    }
+
+
+    /**
+     * Set the blink state of a pad. The color needs to be set first.
+     *
+     * @param note The note on the controller (0-127)
+     * @param blinkColor The color to blink with (1-127), 0 for no blinking
+     * @param fast Blink fast or slow
+     */
+    public void setBlink (final int note, final int blinkColor, final boolean fast)
+    {
+        if (note < 0 || note >= NUM_NOTES)
+            return;
+        final int state = this.states[note] & ~(0x7F << SHIFT_BLINK | FLAG_FAST);
+        this.states[note] = state | (blinkColor & 0x7F) << SHIFT_BLINK | (fast ? FLAG_FAST : 0);
+        this.changed[note >> 6] |= 1L << note;
+    }
+
+
+    /**
+     * Are there any changes?
+     *
+     * @return True if at least one pad has changed
+     */
+    public boolean hasChanges ()
+    {
+        for (final long bits: this.changed)
+        {
+            if (bits != 0)
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Get the number of changed pads.
+     *
+     * @return The number of pads
+     */
+    public int getNumChanges ()
+    {
+        int count = 0;
+        for (final long bits: this.changed)
+            count += Long.bitCount (bits);
+        return count;
+    }
+
+
+    /**
+     * Get the next changed pad. Use like:
+     * <code>for (int note = updates.nextChange (0); note >= 0; note = updates.nextChange (note + 1))</code>
+     *
+     * @param from The note to start the search from (inclusive)
+     * @return The note of the next changed pad or -1 if there is none
+     */
+    public int nextChange (final int from)
+    {
+        int index = from >> 6;
+        if (index >= this.changed.length)
+            return -1;
+        long bits = this.changed[index] & -1L << from;
+        while (true)
+        {
+            if (bits != 0)
+                return index * 64 + Long.numberOfTrailingZeros (bits);
+            index++;
+            if (index == this.changed.length)
+                return -1;
+            bits = this.changed[index];
+        }
+    }
+
+
+    /**
+     * Get the MIDI channel of a changed pad.
+     *
+     * @param note The note on the controller
+     * @return The channel
+     */
+    public int getChannel (final int note)
+    {
+        return this.states[note] >> SHIFT_CHANNEL & 0x0F;
+    }
+
+
+    /**
+     * Get the color of a changed pad.
+     *
+     * @param note The note on the controller
+     * @return The color
+     */
+    public int getColor (final int note)
+    {
+        return this.states[note] & 0x7F;
+    }
+
+
+    /**
+     * Get the blink color of a changed pad.
+     *
+     * @param note The note on the controller
+     * @return The blink color, 0 if the pad does not blink
+     */
+    public int getBlinkColor (final int note)
+    {
+        return this.states[note] >> SHIFT_BLINK & 0x7F;
+    }
+
+
+    /**
+     * Does the changed pad blink fast?
+     *
+     * @param note The note on the controller
+     * @return True if fast
+     */
+    public boolean isFast (final int note)
+    {
+        return (this.states[note] & FLAG_FAST) > 0;
+    }
+
+
+    /**
+     * Clear all changes, call after the changes have been sent.
+     */
+    public void clear ()
+    {
+        Arrays.fill (this.changed, 0);
+    }
+}
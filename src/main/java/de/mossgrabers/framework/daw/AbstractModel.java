@@ -19,15 +19,20 @@ import de.mossgrabers.framework.daw.data.bank.IMarkerBank;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.daw.data.bank.ISceneBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
+import de.mossgrabers.framework.observer.IObserverManagement;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.Interest;
+import de.mossgrabers.framework.observer.InterestManager;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.FrameworkException;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -65,6 +70,7 @@ public abstract class AbstractModel implements IModel
     protected IParameterBank                        userParameterBank;
     protected Map<String, INoteClip>                cursorClips           = new HashMap<> ();
     protected final Map<DeviceID, ISpecificDevice>  specificDevices       = new EnumMap<> (DeviceID.class);
+    protected final InterestManager                 interestManager       = new InterestManager ();
 
     private int                                     lastSelection;
 
@@ -365,4 +371,81 @@ public abstract class AbstractModel implements IModel
         }
         return false;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public InterestManager getInterestManager ()
+    {
+        return this.interestManager;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void manageObservers (final Interest... interests)
+    {
+        for (final Interest interest: interests)
+        {
+            final List<IObserverManagement> observers = new ArrayList<> ();
+            switch (interest)
+            {
+                case MIXER:
+                    observers.add (this.mixer);
+                    break;
+                case ARRANGER:
+                    observers.add (this.arranger);
+                    break;
+                case GROOVE:
+                    observers.add (this.groove);
+                    break;
+                case BROWSER:
+                    observers.add (this.browser);
+                    break;
+                case SENDS:
+                    for (final ITrack track: this.getAllTracks ())
+                        observers.add (track.getSendBank ());
+                    break;
+                case CLIPS:
+                    for (final ITrack track: this.getAllTracks ())
+                        observers.add (track.getSlotBank ());
+                    break;
+                case DEVICE_PARAMETERS:
+                    if (this.cursorDevice != null)
+                        observers.add (this.cursorDevice.getParameterBank ());
+                    for (final ISpecificDevice device: this.specificDevices.values ())
+                        observers.add (device.getParameterBank ());
+                    break;
+            }
+            observers.removeIf (Objects::isNull);
+            this.interestManager.manage (interest, observers);
+        }
+    }
+
+
+    /**
+     * Get the tracks of the track banks, the cursor track and the master track.
+     *
+     * @return The tracks
+     */
+    private List<ITrack> getAllTracks ()
+    {
+        final List<ITrack> tracks = new ArrayList<> ();
+        addTracks (tracks, this.trackBank);
+        addTracks (tracks, this.effectTrackBank);
+        if (this.cursorTrack != null)
+            tracks.add (this.cursorTrack);
+        if (this.masterTrack != null)
+            tracks.add (this.masterTrack);
+        return tracks;
+    }
+
+
+    private static void addTracks (final List<ITrack> tracks, final ITrackBank bank)
+    {
+        if (bank == null)
+            return;
+        for (int i = 0; i < bank.getPageSize (); i++)
+            tracks.add (bank.getItem (i));
+    }
 }
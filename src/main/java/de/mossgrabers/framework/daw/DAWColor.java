@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.color.ColorPaletteLookup;
 
 import java.util.List;
 
@@ -164,7 +165,7 @@ public enum DAWColor
      */
     public static String getColorID (final double red, final double green, final double blue)
     {
-        return getColorID (new ColorEx (red, green, blue));
+        return LookupHolder.VALUES[LookupHolder.LOOKUP.getIndex (red, green, blue)].name ();
     }
 
 
@@ -176,19 +177,19 @@ public enum DAWColor
      */
     public static String getColorID (final ColorEx color)
     {
-        final DAWColor [] values = DAWColor.values ();
-        DAWColor cid = values[0];
-        double minError = 5.0;
-        for (int i = 1; i < values.length; i++)
-        {
-            final double error = ColorEx.calcDistance (values[i].getColor (), color, true);
-            if (error < minError)
-            {
-                cid = values[i];
-                minError = error;
-            }
-        }
-        return cid.name ();
+        return getDAWColor (color).name ();
+    }
+
+
+    /**
+     * Get the DAW color that is closest to the given RGB values.
+     *
+     * @param color The color
+     * @return The DAW color or COLOR_OFF if none is mapped
+     */
+    public static DAWColor getDAWColor (final ColorEx color)
+    {
+        return LookupHolder.VALUES[LookupHolder.LOOKUP.getIndex (color)];
     }
 
 
@@ -208,4 +209,24 @@ public enum DAWColor
 
         return color;
     }
+
+
+    /**
+     * Creates the lookup table on first use.
+     */
+    private static class LookupHolder
+    {
+        private static final DAWColor []        VALUES = DAWColor.values ();
+        // COLOR_OFF is never the result of a lookup
+        private static final ColorPaletteLookup LOOKUP = createLookup ();
+
+
+        private static ColorPaletteLookup createLookup ()
+        {
+            final ColorEx [] palette = new ColorEx [VALUES.length];
+            for (int i = 0; i < VALUES.length; i++)
+                palette[i] = VALUES[i].getColor ();
+            return new ColorPaletteLookup (palette, 1, true);
+        }
+    }
 }
@@ -11,7 +11,6 @@ import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IImage;
 import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
-import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.parameter.NoteAttribute;
 import de.mossgrabers.framework.usb.IUsbDevice;
@@ -130,16 +129,6 @@ public interface IHost
     IOpenSoundControlServer createOSCServer (IOpenSoundControlCallback callback);
 
 
-    /**
-     * Create an OSC message.
-     *
-     * @param address The OSC address
-     * @param values The values for the message
-     * @return The created message
-     */
-    IOpenSoundControlMessage createOSCMessage (String address, List<?> values);
-
-
     /**
      * Call on shutdown to release all OSC resources.
      */
@@ -207,4 +196,4 @@ public interface IHost
      * @return The metadata
      */
     List<IDeviceMetadata> getAudioEffectMetadata ();
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -21,6 +21,8 @@ import de.mossgrabers.framework.daw.data.bank.ISceneBank;
 import de.mossgrabers.framework.daw.data.bank.ISlotBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.Interest;
+import de.mossgrabers.framework.observer.InterestManager;
 import de.mossgrabers.framework.scale.Scales;
 
 import java.util.Optional;
@@ -359,4 +361,22 @@ public interface IModel
      * @return True if recording
      */
     boolean hasRecordingState ();
+
+
+    /**
+     * Get the manager which counts the references of the active modes and views to the facets of
+     * the model.
+     *
+     * @return The interest manager
+     */
+    InterestManager getInterestManager ();
+
+
+    /**
+     * Let the interest manager handle the observers of the given facets. Their observers are only
+     * enabled while at least one active mode or view is interested in them.
+     *
+     * @param interests The facets to manage
+     */
+    void manageObservers (Interest... interests);
 }
\ No newline at end of file
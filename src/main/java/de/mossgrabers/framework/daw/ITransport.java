@@ -306,6 +306,24 @@ public interface ITransport extends IObserverManagement
     String getBeatText ();
 
 
+    /**
+     * Get the default formatted play position (Minutes, Seconds, ...). The returned buffer is
+     * reused and only updated if the displayed value has changed.
+     *
+     * @return The formatted text
+     */
+    CharSequence getPositionChars ();
+
+
+    /**
+     * Get the play position formatted as measures and beats. The returned buffer is reused and only
+     * updated if the displayed value has changed.
+     *
+     * @return The formatted text
+     */
+    CharSequence getBeatChars ();
+
+
     /**
      * Sets the transport playback position to the given beat time value.
      *
@@ -664,4 +682,4 @@ public interface ITransport extends IObserverManagement
      * Toggle the fill mode.
      */
     void toggleFillModeActive ();
-}
\ No newline at end of file
+}
\ No newline at end of file
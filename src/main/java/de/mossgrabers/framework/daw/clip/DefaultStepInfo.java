@@ -14,6 +14,49 @@ import de.mossgrabers.framework.daw.constants.Resolution;
  */
 public class DefaultStepInfo implements IStepInfo
 {
+    /** Flag for a changed muted state. */
+    public static final int DIRTY_MUTED                 = 1 << 0;
+    /** Flag for a changed duration. */
+    public static final int DIRTY_DURATION              = 1 << 1;
+    /** Flag for a changed velocity. */
+    public static final int DIRTY_VELOCITY              = 1 << 2;
+    /** Flag for a changed velocity spread. */
+    public static final int DIRTY_VELOCITY_SPREAD       = 1 << 3;
+    /** Flag for a changed release velocity. */
+    public static final int DIRTY_RELEASE_VELOCITY      = 1 << 4;
+    /** Flag for a changed pressure. */
+    public static final int DIRTY_PRESSURE              = 1 << 5;
+    /** Flag for a changed timbre. */
+    public static final int DIRTY_TIMBRE                = 1 << 6;
+    /** Flag for a changed panorama. */
+    public static final int DIRTY_PAN                   = 1 << 7;
+    /** Flag for a changed transpose. */
+    public static final int DIRTY_TRANSPOSE             = 1 << 8;
+    /** Flag for a changed gain. */
+    public static final int DIRTY_GAIN                  = 1 << 9;
+    /** Flag for a changed chance enabled state. */
+    public static final int DIRTY_CHANCE_ENABLED        = 1 << 10;
+    /** Flag for a changed chance. */
+    public static final int DIRTY_CHANCE                = 1 << 11;
+    /** Flag for a changed occurrence enabled state. */
+    public static final int DIRTY_OCCURRENCE_ENABLED    = 1 << 12;
+    /** Flag for a changed occurrence. */
+    public static final int DIRTY_OCCURRENCE            = 1 << 13;
+    /** Flag for a changed recurrence enabled state. */
+    public static final int DIRTY_RECURRENCE_ENABLED    = 1 << 14;
+    /** Flag for a changed recurrence length and mask. */
+    public static final int DIRTY_RECURRENCE            = 1 << 15;
+    /** Flag for a changed repeat enabled state. */
+    public static final int DIRTY_REPEAT_ENABLED        = 1 << 16;
+    /** Flag for a changed repeat count. */
+    public static final int DIRTY_REPEAT_COUNT          = 1 << 17;
+    /** Flag for a changed repeat curve. */
+    public static final int DIRTY_REPEAT_CURVE          = 1 << 18;
+    /** Flag for a changed repeat velocity curve. */
+    public static final int DIRTY_REPEAT_VELOCITY_CURVE = 1 << 19;
+    /** Flag for a changed repeat velocity end. */
+    public static final int DIRTY_REPEAT_VELOCITY_END   = 1 << 20;
+
     protected StepState          state    = StepState.OFF;
     protected double             duration = Resolution.RES_1_16.getValue ();
     protected double             velocity;
@@ -37,6 +80,7 @@ public class DefaultStepInfo implements IStepInfo
     protected double             repeatVelocityCurve;
     protected double             repeatVelocityEnd;
     protected boolean            isMuted;
+    protected int                dirtyFields;
 
 
     /**
@@ -286,6 +330,20 @@ public class DefaultStepInfo implements IStepInfo
     }
 
 
+    /**
+     * Get the flags of all fields which were changed by one of the setters since the last call to
+     * this method and reset them.
+     *
+     * @return The DIRTY_* flags of the changed fields
+     */
+    public int takeDirtyFields ()
+    {
+        final int fields = this.dirtyFields;
+        this.dirtyFields = 0;
+        return fields;
+    }
+
+
     /**
      * Set the state.
      *
@@ -305,7 +363,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setMuted (final boolean isMuted)
     {
+        if (this.isMuted == isMuted)
+            return;
         this.isMuted = isMuted;
+        this.dirtyFields |= DIRTY_MUTED;
     }
 
 
@@ -316,7 +377,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setDuration (final double duration)
     {
+        if (this.duration == duration)
+            return;
         this.duration = duration;
+        this.dirtyFields |= DIRTY_DURATION;
     }
 
 
@@ -327,7 +391,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setVelocity (final double velocity)
     {
+        if (this.velocity == velocity)
+            return;
         this.velocity = velocity;
+        this.dirtyFields |= DIRTY_VELOCITY;
     }
 
 
@@ -338,7 +405,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setVelocitySpread (final double velocitySpread)
     {
+        if (this.velocitySpread == velocitySpread)
+            return;
         this.velocitySpread = velocitySpread;
+        this.dirtyFields |= DIRTY_VELOCITY_SPREAD;
     }
 
 
@@ -349,7 +419,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setReleaseVelocity (final double releaseVelocity)
     {
+        if (this.releaseVelocity == releaseVelocity)
+            return;
         this.releaseVelocity = releaseVelocity;
+        this.dirtyFields |= DIRTY_RELEASE_VELOCITY;
     }
 
 
@@ -360,7 +433,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setPressure (final double pressure)
     {
+        if (this.pressure == pressure)
+            return;
         this.pressure = pressure;
+        this.dirtyFields |= DIRTY_PRESSURE;
     }
 
 
@@ -371,7 +447,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setTimbre (final double timbre)
     {
+        if (this.timbre == timbre)
+            return;
         this.timbre = timbre;
+        this.dirtyFields |= DIRTY_TIMBRE;
     }
 
 
@@ -382,7 +461,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setPan (final double pan)
     {
+        if (this.pan == pan)
+            return;
         this.pan = pan;
+        this.dirtyFields |= DIRTY_PAN;
     }
 
 
@@ -393,7 +475,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setTranspose (final double transpose)
     {
+        if (this.transpose == transpose)
+            return;
         this.transpose = transpose;
+        this.dirtyFields |= DIRTY_TRANSPOSE;
     }
 
 
@@ -404,7 +489,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setGain (final double gain)
     {
+        if (this.gain == gain)
+            return;
         this.gain = gain;
+        this.dirtyFields |= DIRTY_GAIN;
     }
 
 
@@ -415,7 +503,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setIsChanceEnabled (final boolean isEnabled)
     {
+        if (this.isChanceEnabled == isEnabled)
+            return;
         this.isChanceEnabled = isEnabled;
+        this.dirtyFields |= DIRTY_CHANCE_ENABLED;
     }
 
 
@@ -426,7 +517,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setChance (final double chance)
     {
+        if (this.chance == chance)
+            return;
         this.chance = chance;
+        this.dirtyFields |= DIRTY_CHANCE;
     }
 
 
@@ -437,7 +531,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setIsOccurrenceEnabled (final boolean isEnabled)
     {
+        if (this.isOccurrenceEnabled == isEnabled)
+            return;
         this.isOccurrenceEnabled = isEnabled;
+        this.dirtyFields |= DIRTY_OCCURRENCE_ENABLED;
     }
 
 
@@ -448,7 +545,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setOccurrence (final NoteOccurrenceType occurrence)
     {
+        if (this.occurrence == occurrence)
+            return;
         this.occurrence = occurrence;
+        this.dirtyFields |= DIRTY_OCCURRENCE;
     }
 
 
@@ -459,7 +559,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setIsRecurrenceEnabled (final boolean isEnabled)
     {
+        if (this.isRecurrenceEnabled == isEnabled)
+            return;
         this.isRecurrenceEnabled = isEnabled;
+        this.dirtyFields |= DIRTY_RECURRENCE_ENABLED;
     }
 
 
@@ -470,7 +573,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setRecurrenceLength (final int recurrenceLength)
     {
+        if (this.recurrenceLength == recurrenceLength)
+            return;
         this.recurrenceLength = recurrenceLength;
+        this.dirtyFields |= DIRTY_RECURRENCE;
     }
 
 
@@ -481,7 +587,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setRecurrenceMask (final int recurrenceMask)
     {
+        if (this.recurrenceMask == recurrenceMask)
+            return;
         this.recurrenceMask = recurrenceMask;
+        this.dirtyFields |= DIRTY_RECURRENCE;
     }
 
 
@@ -492,7 +601,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setIsRepeatEnabled (final boolean isEnabled)
     {
+        if (this.isRepeatEnabled == isEnabled)
+            return;
         this.isRepeatEnabled = isEnabled;
+        this.dirtyFields |= DIRTY_REPEAT_ENABLED;
     }
 
 
@@ -503,7 +615,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setRepeatCount (final int repeatCount)
     {
+        if (this.repeatCount == repeatCount)
+            return;
         this.repeatCount = repeatCount;
+        this.dirtyFields |= DIRTY_REPEAT_COUNT;
     }
 
 
@@ -514,7 +629,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setRepeatCurve (final double repeatCurve)
     {
+        if (this.repeatCurve == repeatCurve)
+            return;
         this.repeatCurve = repeatCurve;
+        this.dirtyFields |= DIRTY_REPEAT_CURVE;
     }
 
 
@@ -525,7 +643,10 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setRepeatVelocityCurve (final double repeatVelocityCurve)
     {
+        if (this.repeatVelocityCurve == repeatVelocityCurve)
+            return;
         this.repeatVelocityCurve = repeatVelocityCurve;
+        this.dirtyFields |= DIRTY_REPEAT_VELOCITY_CURVE;
     }
 
 
@@ -536,6 +657,9 @@ public class DefaultStepInfo implements IStepInfo
      */
     public void setRepeatVelocityEnd (final double repeatVelocityEnd)
     {
+        if (this.repeatVelocityEnd == repeatVelocityEnd)
+            return;
         this.repeatVelocityEnd = repeatVelocityEnd;
+        this.dirtyFields |= DIRTY_REPEAT_VELOCITY_END;
     }
 }
@@ -0,0 +1,254 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+
+
+/**
+ * Builds system exclusive messages directly as bytes, which removes the need to format the message
+ * as a hex string which is parsed again by the host. A builder is intended to be re-used for the
+ * same kind of message: the header is stored once and the array of the built message is re-used as
+ * long as the length of the messages does not change. Therefore, a builder must not be shared
+ * between threads.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexBuilder
+{
+    private static final int SYSEX_START = 0xF0;
+    private static final int SYSEX_END   = 0xF7;
+
+    private final byte []    header;
+    private byte []          data        = new byte [128];
+    private int              length;
+    private byte []          message     = new byte [0];
+
+
+    /**
+     * Constructor.
+     *
+     * @param header The bytes which follow the start byte (F0) of each message, e.g. the
+     *            manufacturer and device ID
+     */
+    public SysexBuilder (final int... header)
+    {
+        this.header = new byte [header.length + 1];
+        this.header[0] = (byte) SYSEX_START;
+        for (int i = 0; i < header.length; i++)
+            this.header[i + 1] = (byte) (header[i] & 0x7F);
+        this.start ();
+    }
+
+
+    /**
+     * Start a new message. Discards the current content and adds the header.
+     *
+     * @return The builder
+     */
+    public SysexBuilder start ()
+    {
+        this.length = 0;
+        this.ensureCapacity (this.header.length);
+        System.arraycopy (this.header, 0, this.data, 0, this.header.length);
+        this.length = this.header.length;
+        return this;
+    }
+
+
+    /**
+     * Add a data byte. Only the lower 7 bits are used.
+     *
+     * @param value The value to add
+     * @return The builder
+     */
+    public SysexBuilder add (final int value)
+    {
+        this.ensureCapacity (1);
+        this.data[this.length++] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add several data bytes. Only the lower 7 bits of each value are used.
+     *
+     * @param values The values to add
+     * @return The builder
+     */
+    public SysexBuilder add (final int... values)
+    {
+        this.ensureCapacity (values.length);
+        for (final int value: values)
+            this.data[this.length++] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add several data bytes. Only the lower 7 bits of each value are used.
+     *
+     * @param values The values to add
+     * @param offset The index of the first value to add
+     * @param count The number of values to add
+     * @return The builder
+     */
+    public SysexBuilder add (final byte [] values, final int offset, final int count)
+    {
+        this.ensureCapacity (count);
+        for (int i = 0; i < count; i++)
+            this.data[this.length++] = (byte) (values[offset + i] & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add the characters of a text. Characters which are not ASCII are replaced by a question
+     * mark.
+     *
+     * @param text The text to add
+     * @return The builder
+     */
+    public SysexBuilder addText (final String text)
+    {
+        return this.addText (text, text.length ());
+    }
+
+
+    /**
+     * Add the characters of a text. Characters which are not ASCII are replaced by a question
+     * mark. If the text is shorter than the given length, it is padded with spaces, if it is longer
+     * it is cut.
+     *
+     * @param text The text to add
+     * @param length The number of characters to add
+     * @return The builder
+     */
+    public SysexBuilder addText (final String text, final int length)
+    {
+        this.ensureCapacity (length);
+        final int textLength = Math.min (text.length (), length);
+        for (int i = 0; i < textLength; i++)
+        {
+            final char c = text.charAt (i);
+            this.data[this.length++] = (byte) (c < 0x80 ? c : '?');
+        }
+        for (int i = textLength; i < length; i++)
+            this.data[this.length++] = ' ';
+        return this;
+    }
+
+
+    /**
+     * Add a range of characters of a text. Characters which are not ASCII are replaced by a
+     * question mark.
+     *
+     * @param text The text to add
+     * @param start The index of the first character to add
+     * @param length The number of characters to add
+     * @return The builder
+     */
+    public SysexBuilder addText (final CharSequence text, final int start, final int length)
+    {
+        this.ensureCapacity (length);
+        for (int i = start; i < start + length; i++)
+        {
+            final char c = text.charAt (i);
+            this.data[this.length++] = (byte) (c < 0x80 ? c : '?');
+        }
+        return this;
+    }
+
+
+    /**
+     * Add 8-bit data packed into 7-bit data bytes. Each group of up to 7 bytes is preceded by a
+     * byte which contains the highest bits of the group (bit 0 for the first byte of the group).
+     *
+     * @param values The values to add
+     * @param offset The index of the first value to add
+     * @param count The number of values to add
+     * @return The builder
+     */
+    public SysexBuilder add7BitPacked (final byte [] values, final int offset, final int count)
+    {
+        this.ensureCapacity (count + (count + 6) / 7);
+        for (int group = 0; group < count; group += 7)
+        {
+            final int groupSize = Math.min (7, count - group);
+            int highBits = 0;
+            for (int i = 0; i < groupSize; i++)
+                highBits |= (values[offset + group + i] & 0x80) >> 7 << i;
+            this.data[this.length++] = (byte) highBits;
+            for (int i = 0; i < groupSize; i++)
+                this.data[this.length++] = (byte) (values[offset + group + i] & 0x7F);
+        }
+        return this;
+    }
+
+
+    /**
+     * Add a checksum of the data bytes which were added after the given position. The checksum is
+     * calculated as used by Roland: the value which makes the sum of all bytes (including the
+     * checksum) a multiple of 128.
+     *
+     * @param start The position in the message of the first byte to include, use
+     *            {@link #getLength()} to get the position
+     * @return The builder
+     */
+    public SysexBuilder addChecksum (final int start)
+    {
+        int sum = 0;
+        for (int i = start; i < this.length; i++)
+            sum += this.data[i];
+        return this.add (128 - sum % 128);
+    }
+
+
+    /**
+     * Get the current length of the message (without the end byte).
+     *
+     * @return The length
+     */
+    public int getLength ()
+    {
+        return this.length;
+    }
+
+
+    /**
+     * Finish the message by adding the end byte (F7). The returned array is re-used by the next
+     * call if the message has the same length.
+     *
+     * @return The message
+     */
+    public byte [] build ()
+    {
+        final int size = this.length + 1;
+        if (this.message.length != size)
+            this.message = new byte [size];
+        System.arraycopy (this.data, 0, this.message, 0, this.length);
+        this.message[this.length] = (byte) SYSEX_END;
+        return this.message;
+    }
+
+
+    /**
+     * Finish the message and send it.
+     *
+     * @param output The output to send the message to
+     */
+    public void send (final IMidiOutput output)
+    {
+        output.sendSysex (this.build ());
+    }
+
+
+    private void ensureCapacity (final int additional)
+    {
+        final int required = this.length + additional;
+        if (required > this.data.length)
+            this.data = Arrays.copyOf (this.data, Math.max (required, this.data.length * 2));
+    }
+}
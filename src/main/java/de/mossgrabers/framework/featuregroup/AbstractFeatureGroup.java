@@ -11,8 +11,12 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.Interest;
 import de.mossgrabers.framework.view.Views;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  * Abstract implementation of a feature group.
@@ -35,6 +39,7 @@ public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C exten
 
     protected final ColorManager   colorManager;
     protected final MVHelper<S, C> mvHelper;
+    protected final Set<Interest>  interests        = EnumSet.noneOf (Interest.class);
 
 
     /**
@@ -63,6 +68,14 @@ public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C exten
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<Interest> getInterests ()
+    {
+        return this.interests;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getButtonColor (final ButtonID buttonID)
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.command.core.AftertouchCommand;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandles;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
@@ -137,6 +138,20 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /**
+     * Get the handle of the color to use for a pad with respect to the current scale settings.
+     *
+     * @param pad The MIDI note of the pad
+     * @param track A track to use the track color for coloring the octave notes, set to null to use
+     *            the default color
+     * @return The color handle
+     */
+    protected int getPadColorHandle (final int pad, final ITrack track)
+    {
+        return replaceOctaveColorWithTrackColor (track, this.keyManager.getColorHandle (pad));
+    }
+
+
     /**
      * If the given color ID is the octave color ID it will be replaced with the track color ID.
      *
@@ -158,6 +173,23 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /**
+     * If the given color handle is the octave color handle it will be replaced with the handle of
+     * the track color.
+     *
+     * @param track A track to use the track color for coloring the octave notes, set to null to use
+     *            the default color
+     * @param colorHandle The color handle
+     * @return The color handle
+     */
+    public static int replaceOctaveColorWithTrackColor (final ITrack track, final int colorHandle)
+    {
+        if (colorHandle != Scales.SCALE_COLOR_OCTAVE_HANDLE || track == null)
+            return colorHandle;
+        return ColorHandles.getHandle (DAWColor.getDAWColor (track.getColor ()));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateNoteMapping ()
@@ -227,4 +259,4 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
         triggerCommand.executeShifted (ButtonEvent.DOWN);
         triggerCommand.executeShifted (ButtonEvent.UP);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.featuregroup;
 
+import de.mossgrabers.framework.observer.InterestManager;
 import de.mossgrabers.framework.utils.FrameworkException;
 
 import java.util.ArrayList;
@@ -32,6 +33,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
 
     private final List<FeatureGroupChangeListener<E>> changeListeners   = new ArrayList<> ();
     private final List<FeatureGroupManager<E, F>>     connectedManagers = new ArrayList<> ();
+    private InterestManager                           interestManager   = null;
 
 
     /**
@@ -125,13 +127,13 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         // Deactivate the current temporary or active feature group
         final F deactivate = this.getActive ();
         if (deactivate != null)
-            deactivate.onDeactivate ();
+            this.deactivate (deactivate);
         this.temporaryID = null;
 
         // Activate the feature group
         this.previousID = this.activeID;
         this.activeID = id;
-        this.get (this.activeID).onActivate ();
+        this.activate (this.get (this.activeID));
 
         if (syncSiblings)
             this.connectedManagers.forEach (sibling -> sibling.setActive (featureGroupID, false));
@@ -171,14 +173,14 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         // Deactivate the current temporary or active feature group
         final F deactivate = this.getActive ();
         if (deactivate != null)
-            deactivate.onDeactivate ();
+            this.deactivate (deactivate);
 
         // Activate the new temporary feature group
         this.temporaryID = featureGroupID;
         final F featureGroup = this.get (this.temporaryID);
         if (featureGroup == null)
             throw new FrameworkException ("Attempt to set the temporary feature group to non-existing: " + featureGroupID);
-        featureGroup.onActivate ();
+        this.activate (featureGroup);
 
         if (syncSiblings)
             this.connectedManagers.forEach (sibling -> sibling.setActive (featureGroupID, false));
@@ -320,7 +322,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         if (this.temporaryID != null)
         {
             oldID = this.temporaryID;
-            this.get (this.temporaryID).onDeactivate ();
+            this.deactivate (this.get (this.temporaryID));
             this.temporaryID = null;
             F featureGroup = this.get (this.activeID);
             if (featureGroup == null)
@@ -328,12 +330,12 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
                 this.activeID = this.defaultID;
                 featureGroup = this.get (this.activeID);
             }
-            featureGroup.onActivate ();
+            this.activate (featureGroup);
         }
         else if (this.previousID != null)
         {
             oldID = this.activeID;
-            this.get (this.activeID).onDeactivate ();
+            this.deactivate (this.get (this.activeID));
             this.activeID = this.previousID;
             F featureGroup = this.get (this.activeID);
             if (featureGroup == null)
@@ -341,7 +343,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
                 this.activeID = this.defaultID;
                 featureGroup = this.get (this.activeID);
             }
-            featureGroup.onActivate ();
+            this.activate (featureGroup);
         }
 
         if (syncSiblings)
@@ -375,6 +377,47 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     }
 
 
+    /**
+     * Set the manager which gets the interests of the feature groups while they are active.
+     *
+     * @param interestManager The interest manager
+     */
+    public void setInterestManager (final InterestManager interestManager)
+    {
+        this.interestManager = interestManager;
+
+        final F active = this.getActive ();
+        if (active != null && this.interestManager != null)
+            this.interestManager.acquire (active.getInterests ());
+    }
+
+
+    /**
+     * Activate a feature group and reference the facets of the model it reads.
+     *
+     * @param featureGroup The feature group to activate
+     */
+    private void activate (final F featureGroup)
+    {
+        if (this.interestManager != null)
+            this.interestManager.acquire (featureGroup.getInterests ());
+        featureGroup.onActivate ();
+    }
+
+
+    /**
+     * Deactivate a feature group and release the facets of the model it reads.
+     *
+     * @param featureGroup The feature group to deactivate
+     */
+    private void deactivate (final F featureGroup)
+    {
+        featureGroup.onDeactivate ();
+        if (this.interestManager != null)
+            this.interestManager.release (featureGroup.getInterests ());
+    }
+
+
     /**
      * Notify all feature group change observers.
      *
@@ -5,6 +5,9 @@
 package de.mossgrabers.framework.featuregroup;
 
 import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.observer.Interest;
+
+import java.util.Set;
 
 
 /**
@@ -42,4 +45,13 @@ public interface IFeatureGroup
      * @return A color index
      */
     int getButtonColor (ButtonID buttonID);
+
+
+    /**
+     * Get the facets of the model which are read by the feature group. The feature group manager
+     * references them while the feature group is active.
+     *
+     * @return The facets
+     */
+    Set<Interest> getInterests ();
 }
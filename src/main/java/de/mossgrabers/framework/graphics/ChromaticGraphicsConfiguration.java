@@ -108,4 +108,12 @@ public class ChromaticGraphicsConfiguration implements IGraphicsConfiguration
     {
         return false;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxFramesPerSecond ()
+    {
+        return 20;
+    }
 }
@@ -108,4 +108,12 @@ public interface IGraphicsConfiguration
      * @return True if enabled
      */
     boolean isAntialiasEnabled ();
+
+
+    /**
+     * Get the maximum number of frames to render per second.
+     *
+     * @return The number of frames
+     */
+    int getMaxFramesPerSecond ();
 }
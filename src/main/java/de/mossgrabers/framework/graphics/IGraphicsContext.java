@@ -187,6 +187,16 @@ public interface IGraphicsContext
     void drawImage (IImage image, double x, double y);
 
 
+    /**
+     * Draw the content of a bitmap, e.g. a pre-rendered part of a display.
+     *
+     * @param bitmap The bitmap to draw
+     * @param x The X position of where to draw the bitmap
+     * @param y The Y position of where to draw the bitmap
+     */
+    void drawBitmap (IBitmap bitmap, double x, double y);
+
+
     /**
      * Draw an image masked by a color.
      *
@@ -20,4 +20,16 @@ public interface IComponent
      * @param info All necessary information to draw the component
      */
     void draw (final IGraphicsInfo info);
+
+
+    /**
+     * Does the component draw outside of its bounds, e.g. a header which spans several columns?
+     * Such a component cannot be cached in the tile of its column.
+     *
+     * @return True if the component draws outside of its bounds
+     */
+    default boolean isOverflowing ()
+    {
+        return false;
+    }
 }
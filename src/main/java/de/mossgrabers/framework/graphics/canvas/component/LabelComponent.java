@@ -118,6 +118,15 @@ public class LabelComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isOverflowing ()
+    {
+        // The small header draws the border line into the separators of the neighbour columns
+        return this.layout == LabelLayout.SMALL_HEADER;
+    }
+
+
     /**
      * Draws the label in the SEPARATE_COLOR layout.
      *
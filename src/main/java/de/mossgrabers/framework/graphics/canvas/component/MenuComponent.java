@@ -72,6 +72,14 @@ public class MenuComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isOverflowing ()
+    {
+        return this.header.isOverflowing () || this.footer.isOverflowing ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
@@ -16,16 +16,34 @@ import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+
 
 /**
- * A component which displays the notes of a MIDI clip.
+ * A component which displays the notes of a MIDI clip. The clip data is copied when the component
+ * is created since it is drawn on the render thread.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class MidiClipComponent implements IComponent
 {
-    private final INoteClip clip;
-    private final int       quartersPerMeasure;
+    private static final int   NUM_CHANNELS = 16;
+
+    private final int          quartersPerMeasure;
+    private final ColorEx      noteColor;
+    private final int          numSteps;
+    private final double       stepLength;
+    private final int          editPage;
+    private final boolean      isLoopEnabled;
+    private final double       loopStart;
+    private final double       loopLength;
+    private final double       playStart;
+    private final double       playEnd;
+    private final int          lowerRowWithData;
+    private final int          range;
+    private final int          currentStep;
+    private final StepState [] stepStates;
+    private final boolean []   stepMutes;
 
 
     /**
@@ -36,8 +54,42 @@ public class MidiClipComponent implements IComponent
      */
     public MidiClipComponent (final INoteClip clip, final int quartersPerMeasure)
     {
-        this.clip = clip;
         this.quartersPerMeasure = quartersPerMeasure;
+        this.noteColor = clip.getColor ();
+        this.numSteps = clip.getNumSteps ();
+        this.stepLength = clip.getStepLength ();
+        this.editPage = clip.getEditPage ();
+        this.isLoopEnabled = clip.isLoopEnabled ();
+        this.loopStart = clip.getLoopStart ();
+        this.loopLength = clip.getLoopLength ();
+        this.playStart = clip.getPlayStart ();
+        this.playEnd = clip.getPlayEnd ();
+        this.currentStep = clip.getCurrentStep ();
+
+        this.lowerRowWithData = clip.getLowestRowWithData ();
+        // Display at least 4 rows
+        this.range = this.lowerRowWithData == -1 ? 0 : Math.max (4, 1 + clip.getHighestRowWithData () - this.lowerRowWithData);
+
+        final int size = this.range * this.numSteps * NUM_CHANNELS;
+        this.stepStates = new StepState [size];
+        this.stepMutes = new boolean [size];
+        final NotePosition notePosition = new NotePosition ();
+        for (int row = 0; row < this.range; row++)
+        {
+            notePosition.setNote (this.lowerRowWithData + row);
+            for (int step = 0; step < this.numSteps; step++)
+            {
+                notePosition.setStep (step);
+                for (int channel = 0; channel < NUM_CHANNELS; channel++)
+                {
+                    notePosition.setChannel (channel);
+                    final IStepInfo stepInfo = clip.getStep (notePosition);
+                    final int index = this.getStepIndex (row, step, channel);
+                    this.stepStates[index] = stepInfo.getState ();
+                    this.stepMutes[index] = stepInfo.isMuted ();
+                }
+            }
+        }
     }
 
 
@@ -52,7 +104,7 @@ public class MidiClipComponent implements IComponent
 
         final ColorEx dividersColor = configuration.getColorBackgroundDarker ();
 
-        final ColorEx noteColor = this.clip.getColor ();
+        final ColorEx noteColor = this.noteColor;
         final ColorEx noteMutedColor = ColorEx.DARK_GRAY;
         final ColorEx noteGridLoopColor = configuration.getColorBackground ();
         final ColorEx noteBorderColor = ColorEx.BLACK;
@@ -69,22 +121,19 @@ public class MidiClipComponent implements IComponent
         gc.fillRectangle (left, top, width, noteAreaHeight, gridBackground);
 
         // Draw the loop, if any and ...
-        final int numSteps = this.clip.getNumSteps ();
-        final double stepLength = this.clip.getStepLength ();
+        final int numSteps = this.numSteps;
+        final double stepLength = this.stepLength;
         final double pageLength = numSteps * stepLength;
-        final int editPage = this.clip.getEditPage ();
-        final double startPos = editPage * pageLength;
-        final double endPos = (editPage + 1) * pageLength;
+        final double startPos = this.editPage * pageLength;
+        final double endPos = (this.editPage + 1) * pageLength;
         final int len = top - 1;
-        if (this.clip.isLoopEnabled ())
+        if (this.isLoopEnabled)
         {
-            final double loopStart = this.clip.getLoopStart ();
-            final double loopLength = this.clip.getLoopLength ();
             // ... the loop is visible in the current page
-            if (loopStart < endPos && loopStart + loopLength > startPos)
+            if (this.loopStart < endPos && this.loopStart + this.loopLength > startPos)
             {
-                final double start = Math.max (0, loopStart - startPos);
-                final double end = Math.min (endPos, loopStart + loopLength) - startPos;
+                final double start = Math.max (0, this.loopStart - startPos);
+                final double end = Math.min (endPos, this.loopStart + this.loopLength) - startPos;
                 final double x = width * start / pageLength;
                 final double w = width * end / pageLength - x;
                 // The header loop
@@ -95,19 +144,17 @@ public class MidiClipComponent implements IComponent
             }
         }
         // Draw play start in header
-        final double playStart = this.clip.getPlayStart ();
-        if (playStart >= startPos && playStart <= endPos)
+        if (this.playStart >= startPos && this.playStart <= endPos)
         {
-            final double start = playStart - startPos;
+            final double start = this.playStart - startPos;
             final double x = width * start / pageLength;
             gc.fillTriangle (x + 1, 0, x + 1 + len, len / 2.0, x + 1, len, noteColor);
             gc.strokeTriangle (x + 1, 0, x + 1 + len, len / 2.0, x + 1, len, ColorEx.evenDarker (noteColor));
         }
         // Draw play end in header
-        final double playEnd = this.clip.getPlayEnd ();
-        if (playEnd >= startPos && playEnd <= endPos)
+        if (this.playEnd >= startPos && this.playEnd <= endPos)
         {
-            final double end = playEnd - startPos;
+            final double end = this.playEnd - startPos;
             final double x = width * end / pageLength;
             gc.fillTriangle (x + 1, 0, x + 1, len, x + 1 - top, len / 2.0, noteColor);
             gc.strokeTriangle (x + 1, 0, x + 1, len, x + 1 - top, len / 2.0, ColorEx.evenDarker (noteColor));
@@ -130,34 +177,25 @@ public class MidiClipComponent implements IComponent
         }
 
         // Draw the notes
-        final int lowerRowWithData = this.clip.getLowestRowWithData ();
-        if (lowerRowWithData == -1)
+        if (this.lowerRowWithData == -1)
             return;
-        final int upperRowWithData = this.clip.getHighestRowWithData ();
-        // Display at least 4 rows
-        final int range = Math.max (4, 1 + upperRowWithData - lowerRowWithData);
+        final int range = this.range;
         final double stepHeight = noteAreaHeight / range;
 
         final double fontSize = gc.calculateFontSize ("G#5", stepHeight, stepWidth, 12.0);
 
-        final NotePosition notePosition = new NotePosition ();
-
         for (int row = 0; row < range; row++)
         {
-            notePosition.setNote (lowerRowWithData + row);
+            final int note = this.lowerRowWithData + row;
             gc.fillRectangle (left, top + (range - row - 1) * stepHeight, width, 1, dividersColor);
 
             for (int step = 0; step < numSteps; step++)
             {
-                notePosition.setStep (step);
-
                 // Get step, check for length
-                for (int channel = 0; channel < 16; channel++)
+                for (int channel = 0; channel < NUM_CHANNELS; channel++)
                 {
-                    notePosition.setChannel (channel);
-
-                    final IStepInfo stepInfo = this.clip.getStep (notePosition);
-                    final StepState stepState = stepInfo.getState ();
+                    final int index = this.getStepIndex (row, step, channel);
+                    final StepState stepState = this.stepStates[index];
                     if (stepState == StepState.OFF)
                         continue;
 
@@ -171,11 +209,11 @@ public class MidiClipComponent implements IComponent
                     }
 
                     gc.strokeRectangle (x, top + (range - row - 1) * stepHeight + 2, w, stepHeight - 2, noteBorderColor);
-                    gc.fillRectangle (x + (isStart ? 0 : -2), top + (range - row - 1) * stepHeight + 2, w - 1 + (isStart ? 0 : 2), stepHeight - 3, stepInfo.isMuted () ? noteMutedColor : noteColor);
+                    gc.fillRectangle (x + (isStart ? 0 : -2), top + (range - row - 1) * stepHeight + 2, w - 1 + (isStart ? 0 : 2), stepHeight - 3, this.stepMutes[index] ? noteMutedColor : noteColor);
 
                     if (isStart && fontSize > 0)
                     {
-                        final String text = channel + 1 + ": " + Scales.formatDrumNote (notePosition.getNote ());
+                        final String text = channel + 1 + ": " + Scales.formatDrumNote (note);
                         final ColorEx textColor = ColorEx.calcContrastColor (noteColor);
                         gc.drawTextInBounds (text, x, top + (range - row - 1) * stepHeight + 2, w - 1, stepHeight - 3, Align.CENTER, textColor, fontSize);
                     }
@@ -184,8 +222,78 @@ public class MidiClipComponent implements IComponent
         }
 
         // Draw the play cursor
-        final int playStep = this.clip.getCurrentStep ();
-        if (playStep >= 0)
-            gc.fillRectangle (left + playStep * stepWidth - 1, 0, 3, height, measureTextColor);
+        if (this.currentStep >= 0)
+            gc.fillRectangle (left + this.currentStep * stepWidth - 1, 0, 3, height, measureTextColor);
+    }
+
+
+    /**
+     * Get the index of a step in the copied step data.
+     *
+     * @param row The row relative to the lowest row with data
+     * @param step The step
+     * @param channel The MIDI channel
+     * @return The index
+     */
+    private int getStepIndex (final int row, final int step, final int channel)
+    {
+        return (row * this.numSteps + step) * NUM_CHANNELS + channel;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        final int prime = 31;
+        int result = 1;
+        long temp;
+        result = prime * result + this.quartersPerMeasure;
+        result = prime * result + (this.noteColor == null ? 0 : this.noteColor.hashCode ());
+        result = prime * result + this.numSteps;
+        temp = Double.doubleToLongBits (this.stepLength);
+        result = prime * result + (int) (temp ^ temp >>> 32);
+        result = prime * result + this.editPage;
+        result = prime * result + (this.isLoopEnabled ? 1231 : 1237);
+        temp = Double.doubleToLongBits (this.loopStart);
+        result = prime * result + (int) (temp ^ temp >>> 32);
+        temp = Double.doubleToLongBits (this.loopLength);
+        result = prime * result + (int) (temp ^ temp >>> 32);
+        temp = Double.doubleToLongBits (this.playStart);
+        result = prime * result + (int) (temp ^ temp >>> 32);
+        temp = Double.doubleToLongBits (this.playEnd);
+        result = prime * result + (int) (temp ^ temp >>> 32);
+        result = prime * result + this.lowerRowWithData;
+        result = prime * result + this.range;
+        result = prime * result + this.currentStep;
+        result = prime * result + Arrays.hashCode (this.stepStates);
+        result = prime * result + Arrays.hashCode (this.stepMutes);
+        return result;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null || this.getClass () != obj.getClass ())
+            return false;
+        final MidiClipComponent other = (MidiClipComponent) obj;
+        if (this.noteColor == null)
+        {
+            if (other.noteColor != null)
+                return false;
+        }
+        else if (!this.noteColor.equals (other.noteColor))
+            return false;
+        if (this.quartersPerMeasure != other.quartersPerMeasure || this.numSteps != other.numSteps || Double.doubleToLongBits (this.stepLength) != Double.doubleToLongBits (other.stepLength) || this.editPage != other.editPage || this.isLoopEnabled != other.isLoopEnabled)
+            return false;
+        if (Double.doubleToLongBits (this.loopStart) != Double.doubleToLongBits (other.loopStart) || Double.doubleToLongBits (this.loopLength) != Double.doubleToLongBits (other.loopLength) || Double.doubleToLongBits (this.playStart) != Double.doubleToLongBits (other.playStart) || Double.doubleToLongBits (this.playEnd) != Double.doubleToLongBits (other.playEnd))
+            return false;
+        if (this.lowerRowWithData != other.lowerRowWithData || this.range != other.range || this.currentStep != other.currentStep)
+            return false;
+        return Arrays.equals (this.stepStates, other.stepStates) && Arrays.equals (this.stepMutes, other.stepMutes);
     }
 }
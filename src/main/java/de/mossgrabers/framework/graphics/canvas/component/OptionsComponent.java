@@ -94,6 +94,15 @@ public class OptionsComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isOverflowing ()
+    {
+        // The header texts may span multiple columns
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
@@ -0,0 +1,30 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+/**
+ * The facets of the model which a mode or view can declare to read. If a controller lets the
+ * interest manager handle a facet, its observers are only enabled while at least one active mode
+ * or view is interested in it.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum Interest
+{
+    /** The visibility states of the mixer panel. */
+    MIXER,
+    /** The visibility states of the arranger panel. */
+    ARRANGER,
+    /** The groove parameters. */
+    GROOVE,
+    /** The browser. */
+    BROWSER,
+    /** The sends of the tracks. */
+    SENDS,
+    /** The clip slots of the tracks. */
+    CLIPS,
+    /** The parameters of the cursor device and the specific devices. */
+    DEVICE_PARAMETERS
+}
@@ -0,0 +1,99 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Counts the references to the facets of the model, which are read by the active modes and views.
+ * The observers of a managed facet are enabled when the first reference is acquired and disabled
+ * when the last one is released. Facets which are not managed are not affected, their observers
+ * stay enabled.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class InterestManager
+{
+    private final Map<Interest, List<IObserverManagement>> managedObservers = new EnumMap<> (Interest.class);
+    private final int []                                   references       = new int [Interest.values ().length];
+
+
+    /**
+     * Let the manager handle the observers of a facet. The observers are disabled immediately if
+     * there is currently no reference to the facet.
+     *
+     * @param interest The facet
+     * @param observers The objects which provide the values of the facet
+     */
+    public void manage (final Interest interest, final Collection<? extends IObserverManagement> observers)
+    {
+        final boolean enable = this.isInterested (interest);
+        final List<IObserverManagement> list = this.managedObservers.computeIfAbsent (interest, key -> new ArrayList<> ());
+        for (final IObserverManagement observer: observers)
+        {
+            list.add (observer);
+            observer.enableObservers (enable);
+        }
+    }
+
+
+    /**
+     * Add a reference to each of the given facets.
+     *
+     * @param interests The facets
+     */
+    public void acquire (final Collection<Interest> interests)
+    {
+        for (final Interest interest: interests)
+        {
+            this.references[interest.ordinal ()]++;
+            if (this.references[interest.ordinal ()] == 1)
+                this.enableObservers (interest, true);
+        }
+    }
+
+
+    /**
+     * Remove a reference from each of the given facets.
+     *
+     * @param interests The facets
+     */
+    public void release (final Collection<Interest> interests)
+    {
+        for (final Interest interest: interests)
+        {
+            if (this.references[interest.ordinal ()] == 0)
+                continue;
+            this.references[interest.ordinal ()]--;
+            if (this.references[interest.ordinal ()] == 0)
+                this.enableObservers (interest, false);
+        }
+    }
+
+
+    /**
+     * Check if there is at least one reference to a facet.
+     *
+     * @param interest The facet
+     * @return True if referenced
+     */
+    public boolean isInterested (final Interest interest)
+    {
+        return this.references[interest.ordinal ()] > 0;
+    }
+
+
+    private void enableObservers (final Interest interest, final boolean enable)
+    {
+        final List<IObserverManagement> observers = this.managedObservers.get (interest);
+        if (observers != null)
+            observers.forEach (observer -> observer.enableObservers (enable));
+    }
+}
@@ -6,6 +6,7 @@ package de.mossgrabers.framework.osc;
 
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
@@ -29,10 +30,20 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     public static final Integer   FILTER_HEARTBEAT_COMMANDS = Integer.valueOf (52);
 
     protected static final String DEFAULT_SERVER            = "127.0.0.1";
+    protected static final String CATEGORY_BANDWIDTH        = "Bandwidth";
 
     private boolean               logInputCommands          = false;
     private boolean               logOutputCommands         = false;
     private boolean               filterHeartbeatCommands   = false;
+    private final int []          maxMessageRates           =
+    {
+        25,
+        25,
+        0,
+        10
+    };
+    private int                   maxPacketSize             = OpenSoundControlBundleEncoder.DEFAULT_MAX_PACKET_SIZE;
+    private int                   maxPacketsPerFlush        = 8;
 
 
     /**
@@ -77,6 +88,36 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     }
 
 
+    /**
+     * Activate the settings for limiting the rate and size of the sent OSC messages.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateOSCBandwidthSettings (final ISettingsUI settingsUI)
+    {
+        final String [] labels =
+        {
+            "Max. rate of meters (0 = unlimited)",
+            "Max. rate of transport (0 = unlimited)",
+            "Max. rate of states (0 = unlimited)",
+            "Max. rate of names (0 = unlimited)"
+        };
+
+        for (final OpenSoundControlPriority priority: OpenSoundControlPriority.values ())
+        {
+            final int index = priority.ordinal ();
+            final IIntegerSetting rateSetting = settingsUI.getRangeSetting (labels[index], CATEGORY_BANDWIDTH, 0, 100, 1, "Hz", this.maxMessageRates[index]);
+            rateSetting.addValueObserver (value -> this.maxMessageRates[index] = value.intValue ());
+        }
+
+        final IIntegerSetting maxPacketSizeSetting = settingsUI.getRangeSetting ("Max. packet size", CATEGORY_BANDWIDTH, 512, OpenSoundControlBundleEncoder.MAX_UDP_PAYLOAD, 1, "Bytes", OpenSoundControlBundleEncoder.DEFAULT_MAX_PACKET_SIZE);
+        maxPacketSizeSetting.addValueObserver (value -> this.maxPacketSize = value.intValue ());
+
+        final IIntegerSetting maxPacketsPerFlushSetting = settingsUI.getRangeSetting ("Max. packets per update", CATEGORY_BANDWIDTH, 1, 64, 1, "", this.maxPacketsPerFlush);
+        maxPacketsPerFlushSetting.addValueObserver (value -> this.maxPacketsPerFlush = value.intValue ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean shouldLogInputCommands ()
@@ -99,4 +140,28 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     {
         return this.filterHeartbeatCommands;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxMessageRate (final OpenSoundControlPriority priority)
+    {
+        return this.maxMessageRates[priority.ordinal ()];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxPacketSize ()
+    {
+        return this.maxPacketSize;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxBytesPerFlush ()
+    {
+        return this.maxPacketsPerFlush * this.maxPacketSize;
+    }
 }
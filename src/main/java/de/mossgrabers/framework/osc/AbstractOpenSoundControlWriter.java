@@ -6,18 +6,18 @@ package de.mossgrabers.framework.osc;
 
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.utils.OutputScheduler;
+import de.mossgrabers.framework.utils.OutputSlot;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
 
 /**
- * Base class for sending OSC messages to an OSC server.
+ * Base class for sending OSC messages to an OSC server. Changed values are collected in an
+ * {@link OpenSoundControlScheduler} and sent as binary OSC bundles on flush, limited by the
+ * configured rates and bandwidth. The bundles are sent by an output thread, since the client needs
+ * pauses between them.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -28,9 +28,12 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     protected final IOpenSoundControlConfiguration configuration;
 
     protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    protected final OpenSoundControlValueCache     valueCache  = new OpenSoundControlValueCache ();
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    private final OpenSoundControlBundleEncoder    encoder     = new OpenSoundControlBundleEncoder ();
+    private final OpenSoundControlBundleEncoder    fastEncoder = new OpenSoundControlBundleEncoder ();
+    private final OpenSoundControlScheduler        scheduler;
+    private final OutputSlot                       sendSlot    = OutputScheduler.getInstance ().createBlockingSlot ("OSC output");
 
 
     /**
@@ -47,6 +50,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
         this.model = model;
         this.oscClient = oscClient;
         this.configuration = configuration;
+        this.scheduler = new OpenSoundControlScheduler (configuration, this::getPriority);
     }
 
 
@@ -60,36 +64,14 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
 
     /**
-     * Send all collected messages.
+     * Send all collected messages. Only triggers the output thread, which does the sending.
      *
      * @param updateAddress If this is not null it is sent before and after the flush with a value
      *            of 1 before and 0 after
      */
     public void flush (final String updateAddress)
     {
-        if (this.messages.isEmpty ())
-            return;
-
-        synchronized (this.messages)
-        {
-            try
-            {
-                if (updateAddress != null)
-                {
-                    this.messages.add (0, this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (1))));
-                    this.messages.add (this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (0))));
-                }
-
-                this.logMessages (this.messages);
-                this.oscClient.sendBundle (this.messages);
-            }
-            catch (final IOException ex)
-            {
-                this.model.getHost ().error ("Could not send UDP message.", ex);
-            }
-
-            this.messages.clear ();
-        }
+        this.sendSlot.execute ( () -> this.send (updateAddress));
     }
 
 
@@ -97,10 +79,11 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void fastSendOSC (final String address, final int [] numbers)
     {
-        final List<Object> params = new ArrayList<> ();
-        for (final int number: numbers)
-            params.add (Integer.valueOf (number));
-        this.fastSendOSC (address, params);
+        synchronized (this.fastEncoder)
+        {
+            this.fastEncoder.addMessage (address, numbers);
+        }
+        this.flush ();
     }
 
 
@@ -108,25 +91,95 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void fastSendOSC (final String address)
     {
-        this.fastSendOSC (address, Collections.emptyList ());
+        synchronized (this.fastEncoder)
+        {
+            this.fastEncoder.addMessage (address);
+        }
+        this.flush ();
     }
 
 
-    private void fastSendOSC (final String address, final List<Object> parameters)
+    /**
+     * Send the values which are due. Called only on the output thread.
+     *
+     * @param updateAddress If this is not null it is sent before and after the values
+     */
+    private void send (final String updateAddress)
     {
-        this.sendOSC (address, parameters, true);
-        this.flush ();
+        final long delay;
+        synchronized (this.valueCache)
+        {
+            this.scheduler.drain (this.encoder, this.valueCache);
+            delay = this.scheduler.getDelayUntilDue ();
+        }
+
+        synchronized (this.fastEncoder)
+        {
+            this.send (this.fastEncoder, null);
+        }
+        this.send (this.encoder, updateAddress);
+
+        // Values which were held back by the rates or the budget must be sent even if nothing
+        // changes anymore. The slot executes the re-drain not before the delay has elapsed (at
+        // least a short pause), even if it is requested from this task, therefore the output
+        // thread does not spin while values are held back. A flush in between replaces it.
+        if (delay >= 0)
+            this.sendSlot.execute ( () -> this.send (updateAddress), delay);
+    }
+
+
+    private void send (final OpenSoundControlBundleEncoder messages, final String updateAddress)
+    {
+        if (messages.isEmpty ())
+            return;
+
+        messages.setMaxPacketSize (this.configuration.getMaxPacketSize ());
+
+        try
+        {
+            this.logMessages (messages);
+            messages.send (this.oscClient, updateAddress);
+        }
+        catch (final IOException ex)
+        {
+            this.model.getHost ().error ("Could not send UDP message.", ex);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getSlot (final String address)
+    {
+        synchronized (this.valueCache)
+        {
+            return this.valueCache.getSlot (address);
+        }
     }
 
 
     /** {@inheritDoc} */
     @Override
     public void sendOSCColor (final String address, final double red, final double green, final double blue, final boolean dump)
+    {
+        this.sendOSCColor (this.getSlot (address), red, green, blue, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSCColor (final int slot, final double red, final double green, final double blue, final boolean dump)
     {
         final int r = (int) Math.round (red * 255.0);
         final int g = (int) Math.round (green * 255.0);
         final int b = (int) Math.round (blue * 255.0);
-        this.sendOSC (address, "rgb(" + r + "," + g + "," + b + ")", dump);
+
+        // Compare the packed color to prevent creating the text if nothing has changed
+        synchronized (this.valueCache)
+        {
+            if (this.valueCache.update (slot, r << 16 | g << 8 | b) || dump)
+                this.scheduler.schedule (slot, this.valueCache.getAddress (slot), "rgb(" + r + "," + g + "," + b + ")");
+        }
     }
 
 
@@ -134,16 +187,41 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final boolean value, final boolean dump)
     {
-        this.sendOSC (address, Boolean.valueOf (value), dump);
+        this.sendOSC (this.getSlot (address), value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final boolean value, final boolean dump)
+    {
+        synchronized (this.valueCache)
+        {
+            if (this.valueCache.update (slot, value) || dump)
+                this.scheduler.schedule (slot, this.valueCache.getAddress (slot), value ? 1 : 0);
+        }
     }
 
 
     /** {@inheritDoc} */
     @Override
     public void sendOSC (final String address, final double value, final boolean dump)
+    {
+        this.sendOSC (this.getSlot (address), value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final double value, final boolean dump)
     {
         // Using float here since Double seems to be always received as 0 in Max.
-        this.sendOSC (address, Float.valueOf ((float) value), dump);
+        final float floatValue = (float) value;
+        synchronized (this.valueCache)
+        {
+            if (this.valueCache.update (slot, floatValue) || dump)
+                this.scheduler.schedule (slot, this.valueCache.getAddress (slot), floatValue);
+        }
     }
 
 
@@ -151,7 +229,19 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final int value, final boolean dump)
     {
-        this.sendOSC (address, Integer.valueOf (value), dump);
+        this.sendOSC (this.getSlot (address), value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final int value, final boolean dump)
+    {
+        synchronized (this.valueCache)
+        {
+            if (this.valueCache.update (slot, value) || dump)
+                this.scheduler.schedule (slot, this.valueCache.getAddress (slot), value);
+        }
     }
 
 
@@ -159,7 +249,20 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final String value, final boolean dump)
     {
-        this.sendOSC (address, (Object) StringUtils.fixASCII (value), dump);
+        this.sendOSC (this.getSlot (address), value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final String value, final boolean dump)
+    {
+        // Compare the original text since fixing the characters creates a new string
+        synchronized (this.valueCache)
+        {
+            if (this.valueCache.update (slot, value) || dump)
+                this.scheduler.schedule (slot, this.valueCache.getAddress (slot), StringUtils.fixASCII (value));
+        }
     }
 
 
@@ -191,22 +294,11 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
-            return;
-        this.oldValues.put (cacheAddress, testValue);
-
-        // Convert the value to a list in case it is not already one
-        final List<?> list;
-        if (value instanceof final List<?> l)
-            list = l;
-        else if (value instanceof final Boolean booleanValue)
-            list = Collections.singletonList (Integer.valueOf (booleanValue.booleanValue () ? 1 : 0));
-        else
-            list = Collections.singletonList (value);
-
-        synchronized (this.messages)
+        synchronized (this.valueCache)
         {
-            this.messages.add (this.host.createOSCMessage (address, list));
+            final int slot = this.valueCache.getSlot (cacheAddress);
+            if (this.valueCache.update (slot, testValue) || dump)
+                this.scheduler.schedule (slot, address, value);
         }
     }
 
@@ -223,49 +315,19 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
 
     /**
-     * Compares two values. Additionally checks for list values.
+     * Log the queued messages to the console.
      *
-     * @param value1 The first value
-     * @param value2 The second value
-     * @return True if equal
+     * @param messages The encoder which contains the messages
      */
-    protected static boolean compareValues (final Object value1, final Object value2)
-    {
-        if (value1 == null)
-            return value2 == null;
-
-        if (value1 instanceof final List<?> l1 && value2 instanceof final List<?> l2)
-        {
-            final int size1 = l1.size ();
-            final int size2 = l2.size ();
-            if (size1 != size2)
-                return false;
-            for (int i = 0; i < size1; i++)
-            {
-                if (!l1.get (i).equals (l2.get (i)))
-                    return false;
-            }
-            return true;
-        }
-
-        return value1.equals (value2);
-    }
-
-
-    /**
-     * Log messages to the console.
-     *
-     * @param messages The messages to log
-     */
-    protected void logMessages (final List<IOpenSoundControlMessage> messages)
+    protected void logMessages (final OpenSoundControlBundleEncoder messages)
     {
         if (!this.configuration.shouldLogOutputCommands () || messages.isEmpty ())
             return;
 
         final StringBuilder sb = new StringBuilder ();
-        for (final IOpenSoundControlMessage message: messages)
+        for (int i = 0; i < messages.getNumMessages (); i++)
         {
-            final String address = message.getAddress ();
+            final String address = messages.getAddress (i);
             if (this.configuration.filterHeartbeatMessages () && this.isHeartbeatMessage (address))
                 continue;
 
@@ -273,13 +335,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
                 sb.append ('\n');
 
             sb.append ("Sending: ").append (address).append (" [ ");
-            final Object [] values = message.getValues ();
-            for (int i = 0; i < values.length; i++)
-            {
-                if (i > 0)
-                    sb.append (", ");
-                sb.append (values[i]);
-            }
+            messages.appendArguments (i, sb);
             sb.append (" ]");
         }
         if (sb.length () > 0)
@@ -297,4 +353,16 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     {
         return false;
     }
+
+
+    /**
+     * Hook to assign the priority class to an address. Called only once for each address.
+     *
+     * @param address The OSC address
+     * @return The priority class
+     */
+    protected OpenSoundControlPriority getPriority (final String address)
+    {
+        return OpenSoundControlPriority.STATE;
+    }
 }
@@ -5,7 +5,7 @@
 package de.mossgrabers.framework.osc;
 
 import java.io.IOException;
-import java.util.List;
+import java.nio.ByteBuffer;
 
 
 /**
@@ -16,19 +16,10 @@ import java.util.List;
 public interface IOpenSoundControlClient
 {
     /**
-     * Send a message to the server.
+     * Send an encoded OSC packet (a message or a bundle) to the server as one datagram.
      *
-     * @param message The message to send
-     * @throws IOException Could not send the message
+     * @param packet The packet, all bytes from the current position up to the limit are sent
+     * @throws IOException Could not send the packet
      */
-    void sendMessage (IOpenSoundControlMessage message) throws IOException;
-
-
-    /**
-     * Send several messages to the server as an OSC bundle.
-     *
-     * @param messages The messages to send
-     * @throws IOException Could not send the messages
-     */
-    void sendBundle (List<IOpenSoundControlMessage> messages) throws IOException;
+    void sendPacket (ByteBuffer packet) throws IOException;
 }
@@ -33,4 +33,30 @@ public interface IOpenSoundControlConfiguration
      * @return True to enable filtering
      */
     boolean filterHeartbeatMessages ();
+
+
+    /**
+     * Get the maximum number of updates per second of the messages of a priority class.
+     *
+     * @param priority The priority class
+     * @return The maximum rate in Hz, 0 for unlimited
+     */
+    int getMaxMessageRate (OpenSoundControlPriority priority);
+
+
+    /**
+     * Get the maximum size of one sent OSC bundle.
+     *
+     * @return The size in bytes
+     */
+    int getMaxPacketSize ();
+
+
+    /**
+     * Get the maximum number of bytes to send on one flush. It is a multiple of the maximum packet
+     * size. Changes which do not fit are sent shortly after, meter updates are dropped.
+     *
+     * @return The number of bytes
+     */
+    int getMaxBytesPerFlush ();
 }
@@ -25,4 +25,21 @@ public interface IOpenSoundControlMessage
      * @return The values array
      */
     Object [] getValues ();
+
+
+    /**
+     * Get the number of values.
+     *
+     * @return The number of values
+     */
+    int getNumValues ();
+
+
+    /**
+     * Get a value without creating the values array.
+     *
+     * @param index The index of the value
+     * @return The value
+     */
+    Object getValue (int index);
 }
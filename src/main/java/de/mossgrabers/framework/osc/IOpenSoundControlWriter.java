@@ -36,6 +36,17 @@ public interface IOpenSoundControlWriter
     void fastSendOSC (String address);
 
 
+    /**
+     * Get the slot of an OSC address in the value cache. Modules which send the same address on
+     * each flush should get the slot once and use the sendOSC methods which take a slot, which
+     * prevents looking up the address on each call.
+     *
+     * @param address The OSC address
+     * @return The slot
+     */
+    int getSlot (String address);
+
+
     /**
      * Send an OSC message with a color value. Tests if the value(s) of given message is identical
      * to that of the cache. If this is not the case or if dump is true, the message is added to the
@@ -50,6 +61,20 @@ public interface IOpenSoundControlWriter
     void sendOSCColor (String address, double red, double green, double blue, boolean dump);
 
 
+    /**
+     * Send an OSC message with a color value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the OSC address, see getSlot
+     * @param red The red component of the color [0-1]
+     * @param green The green component of the color [0-1]
+     * @param blue The blue component of the color [0-1]
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSCColor (int slot, double red, double green, double blue, boolean dump);
+
+
     /**
      * Send an OSC message with a boolean value. Tests if the value(s) of given message is identical
      * to that of the cache. If this is not the case or if dump is true, the message is added to the
@@ -62,6 +87,18 @@ public interface IOpenSoundControlWriter
     void sendOSC (String address, boolean value, boolean dump);
 
 
+    /**
+     * Send an OSC message with a boolean value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the OSC address, see getSlot
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, boolean value, boolean dump);
+
+
     /**
      * Send an OSC message with a double value. Tests if the value(s) of given message is identical
      * to that of the cache. If this is not the case or if dump is true, the message is added to the
@@ -74,6 +111,18 @@ public interface IOpenSoundControlWriter
     void sendOSC (String address, double value, boolean dump);
 
 
+    /**
+     * Send an OSC message with a double value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the OSC address, see getSlot
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, double value, boolean dump);
+
+
     /**
      * Send an OSC message with an integer value. Tests if the value(s) of given message is
      * identical to that of the cache. If this is not the case or if dump is true, the message is
@@ -86,6 +135,18 @@ public interface IOpenSoundControlWriter
     void sendOSC (String address, int value, boolean dump);
 
 
+    /**
+     * Send an OSC message with an integer value. Tests if the value(s) of given message is
+     * identical to that of the cache. If this is not the case or if dump is true, the message is
+     * added to the messages list.The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the OSC address, see getSlot
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, int value, boolean dump);
+
+
     /**
      * Send an OSC message with a string value. Tests if the value(s) of given message is identical
      * to that of the cache. If this is not the case or if dump is true, the message is added to the
@@ -96,4 +157,16 @@ public interface IOpenSoundControlWriter
      * @param dump True to dump (ignore cache)
      */
     void sendOSC (String address, String value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a string value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the OSC address, see getSlot
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, String value, boolean dump);
 }
@@ -0,0 +1,586 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Collects OSC messages with primitive values and encodes them into binary OSC bundles. The
+ * messages are stored in growing arrays and the bundles are written into one reusable buffer,
+ * therefore no objects are created per message after the warm-up phase. The encoded address of
+ * each OSC address string is cached, which is effective if the callers use the identical (e.g.
+ * pre-calculated) address strings.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlBundleEncoder
+{
+    /** The default maximum size of one encoded bundle, fits into the standard Ethernet MTU. */
+    public static final int            DEFAULT_MAX_PACKET_SIZE = 1472;
+    /** The maximum payload of an UDP datagram. */
+    public static final int            MAX_UDP_PAYLOAD         = 65507;
+
+    private static final byte []       BUNDLE_HEADER           = "#bundle\0".getBytes (StandardCharsets.US_ASCII);
+    private static final long          TIME_TAG_IMMEDIATELY    = 1;
+    private static final int           MAX_CACHED_ADDRESSES    = 10000;
+
+    private static final byte          TYPE_INT                = 'i';
+    private static final byte          TYPE_FLOAT              = 'f';
+    private static final byte          TYPE_STRING             = 's';
+    private static final byte          TYPE_NIL                = 'N';
+
+    private final Map<String, byte []> addressCache            = new HashMap<> ();
+    private final ByteBuffer           buffer                  = ByteBuffer.allocate (MAX_UDP_PAYLOAD);
+    private int                        maxPacketSize;
+
+    private String []                  addresses               = new String [256];
+    private int []                     argumentStarts          = new int [256];
+    private int []                     argumentCounts          = new int [256];
+    private int                        numMessages;
+
+    private byte []                    argumentTypes           = new byte [256];
+    private int []                     argumentValues          = new int [256];
+    private String []                  argumentStrings         = new String [256];
+    private int                        numArguments;
+
+
+    /**
+     * Constructor. Uses the default maximum packet size.
+     */
+    public OpenSoundControlBundleEncoder ()
+    {
+        this (DEFAULT_MAX_PACKET_SIZE);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxPacketSize The maximum size of one encoded bundle in bytes
+     */
+    public OpenSoundControlBundleEncoder (final int maxPacketSize)
+    {
+        this.setMaxPacketSize (maxPacketSize);
+    }
+
+
+    /**
+     * Set the maximum size of one encoded bundle. A single message which is larger is sent in its
+     * own bundle.
+     *
+     * @param maxPacketSize The maximum size in bytes, limited to the maximum UDP payload
+     */
+    public void setMaxPacketSize (final int maxPacketSize)
+    {
+        this.maxPacketSize = Math.min (maxPacketSize, MAX_UDP_PAYLOAD);
+    }
+
+
+    /**
+     * Queue a message without any arguments.
+     *
+     * @param address The OSC address
+     */
+    public void addMessage (final String address)
+    {
+        this.startMessage (address);
+    }
+
+
+    /**
+     * Queue a message with one integer argument.
+     *
+     * @param address The OSC address
+     * @param value The value
+     */
+    public void addMessage (final String address, final int value)
+    {
+        this.startMessage (address);
+        this.addArgument (TYPE_INT, value, null);
+    }
+
+
+    /**
+     * Queue a message with one float argument.
+     *
+     * @param address The OSC address
+     * @param value The value
+     */
+    public void addMessage (final String address, final float value)
+    {
+        this.startMessage (address);
+        this.addArgument (TYPE_FLOAT, Float.floatToRawIntBits (value), null);
+    }
+
+
+    /**
+     * Queue a message with one string argument.
+     *
+     * @param address The OSC address
+     * @param value The value, null is sent as nil
+     */
+    public void addMessage (final String address, final String value)
+    {
+        this.startMessage (address);
+        this.addStringArgument (value);
+    }
+
+
+    /**
+     * Queue a message with several integer arguments.
+     *
+     * @param address The OSC address
+     * @param values The values
+     */
+    public void addMessage (final String address, final int [] values)
+    {
+        this.startMessage (address);
+        for (final int value: values)
+            this.addArgument (TYPE_INT, value, null);
+    }
+
+
+    /**
+     * Queue a message with several arguments. Supports numbers, booleans (converted to 0 and 1)
+     * and strings. All other objects are sent as their string representation.
+     *
+     * @param address The OSC address
+     * @param values The values
+     */
+    public void addMessage (final String address, final List<?> values)
+    {
+        this.startMessage (address);
+        for (final Object value: values)
+            this.addObjectArgument (value);
+    }
+
+
+    /**
+     * Queue a message with one object argument. Supports numbers, booleans (converted to 0 and 1)
+     * and strings. All other objects are sent as their string representation.
+     *
+     * @param address The OSC address
+     * @param value The value
+     */
+    public void addMessage (final String address, final Object value)
+    {
+        if (value instanceof final List<?> list)
+        {
+            this.addMessage (address, list);
+            return;
+        }
+        this.startMessage (address);
+        this.addObjectArgument (value);
+    }
+
+
+    /**
+     * Check if there are no queued messages.
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty ()
+    {
+        return this.numMessages == 0;
+    }
+
+
+    /**
+     * Get the number of queued messages.
+     *
+     * @return The number of messages
+     */
+    public int getNumMessages ()
+    {
+        return this.numMessages;
+    }
+
+
+    /**
+     * Get the address of a queued message.
+     *
+     * @param index The index of the message
+     * @return The address
+     */
+    public String getAddress (final int index)
+    {
+        return this.addresses[index];
+    }
+
+
+    /**
+     * Get the encoded size of a queued message including the size field of the bundle element.
+     *
+     * @param index The index of the message
+     * @return The size in bytes
+     */
+    public int getSize (final int index)
+    {
+        return this.calcMessageSize (index) + 4;
+    }
+
+
+    /**
+     * Append the arguments of a queued message in human readable form, e.g. for logging.
+     *
+     * @param index The index of the message
+     * @param sb Where to append the arguments
+     */
+    public void appendArguments (final int index, final StringBuilder sb)
+    {
+        final int start = this.argumentStarts[index];
+        final int end = start + this.argumentCounts[index];
+        for (int i = start; i < end; i++)
+        {
+            if (i > start)
+                sb.append (", ");
+            switch (this.argumentTypes[i])
+            {
+                case TYPE_INT:
+                    sb.append (this.argumentValues[i]);
+                    break;
+                case TYPE_FLOAT:
+                    sb.append (Float.intBitsToFloat (this.argumentValues[i]));
+                    break;
+                case TYPE_STRING:
+                    sb.append (this.argumentStrings[i]);
+                    break;
+                default:
+                    sb.append ("null");
+                    break;
+            }
+        }
+    }
+
+
+    /**
+     * Remove all queued messages.
+     */
+    public void clear ()
+    {
+        Arrays.fill (this.addresses, 0, this.numMessages, null);
+        Arrays.fill (this.argumentStrings, 0, this.numArguments, null);
+        this.numMessages = 0;
+        this.numArguments = 0;
+    }
+
+
+    /**
+     * Clear the cache of encoded addresses, e.g. if the bank layout has changed.
+     */
+    public void clearAddressCache ()
+    {
+        this.addressCache.clear ();
+    }
+
+
+    /**
+     * Encodes all queued messages into as few OSC bundles as possible and sends each of them as
+     * one packet to the client. The queue is cleared afterwards. Pauses between the bundles,
+     * therefore it must not be called on the DAW thread.
+     *
+     * @param client The client to send the encoded bundles to
+     * @param frameAddress If this is not null a message with this address is sent before and after
+     *            the queued messages with a value of 1 before and 0 after
+     * @throws IOException Could not send a bundle
+     */
+    public void send (final IOpenSoundControlClient client, final String frameAddress) throws IOException
+    {
+        try
+        {
+            this.startBundle ();
+
+            if (frameAddress != null)
+                this.encodeFrameMessage (frameAddress, 1);
+
+            for (int i = 0; i < this.numMessages; i++)
+            {
+                if (this.encodeMessage (i))
+                    continue;
+
+                // The bundle is full, send it and start a new one
+                this.sendBundle (client);
+
+                // Ugly hack, but we need to slow down a bit otherwise clients like Open Stage
+                // Control cannot keep up...
+                try
+                {
+                    Thread.sleep (10);
+                }
+                catch (final InterruptedException ex)
+                {
+                    Thread.currentThread ().interrupt ();
+                }
+
+                this.startBundle ();
+                if (!this.encodeMessage (i))
+                    throw new IOException ("OSC message is too large to be sent: " + this.addresses[i]);
+            }
+
+            if (frameAddress != null && !this.encodeFrameMessage (frameAddress, 0))
+            {
+                this.sendBundle (client);
+                this.startBundle ();
+                this.encodeFrameMessage (frameAddress, 0);
+            }
+
+            this.sendBundle (client);
+        }
+        finally
+        {
+            this.clear ();
+        }
+    }
+
+
+    private void startMessage (final String address)
+    {
+        if (this.numMessages == this.addresses.length)
+        {
+            final int newSize = this.addresses.length * 2;
+            this.addresses = Arrays.copyOf (this.addresses, newSize);
+            this.argumentStarts = Arrays.copyOf (this.argumentStarts, newSize);
+            this.argumentCounts = Arrays.copyOf (this.argumentCounts, newSize);
+        }
+
+        this.addresses[this.numMessages] = address;
+        this.argumentStarts[this.numMessages] = this.numArguments;
+        this.argumentCounts[this.numMessages] = 0;
+        this.numMessages++;
+    }
+
+
+    private void addObjectArgument (final Object value)
+    {
+        if (value == null)
+            this.addArgument (TYPE_NIL, 0, null);
+        else if (value instanceof final Boolean booleanValue)
+            this.addArgument (TYPE_INT, booleanValue.booleanValue () ? 1 : 0, null);
+        else if (value instanceof final Float floatValue)
+            this.addArgument (TYPE_FLOAT, Float.floatToRawIntBits (floatValue.floatValue ()), null);
+        else if (value instanceof final Double doubleValue)
+            this.addArgument (TYPE_FLOAT, Float.floatToRawIntBits (doubleValue.floatValue ()), null);
+        else if (value instanceof final Number numberValue)
+            this.addArgument (TYPE_INT, numberValue.intValue (), null);
+        else
+            this.addStringArgument (value.toString ());
+    }
+
+
+    private void addStringArgument (final String value)
+    {
+        if (value == null)
+            this.addArgument (TYPE_NIL, 0, null);
+        else
+            this.addArgument (TYPE_STRING, 0, value);
+    }
+
+
+    private void addArgument (final byte type, final int value, final String stringValue)
+    {
+        if (this.numArguments == this.argumentTypes.length)
+        {
+            final int newSize = this.argumentTypes.length * 2;
+            this.argumentTypes = Arrays.copyOf (this.argumentTypes, newSize);
+            this.argumentValues = Arrays.copyOf (this.argumentValues, newSize);
+            this.argumentStrings = Arrays.copyOf (this.argumentStrings, newSize);
+        }
+
+        this.argumentTypes[this.numArguments] = type;
+        this.argumentValues[this.numArguments] = value;
+        this.argumentStrings[this.numArguments] = stringValue;
+        this.numArguments++;
+        this.argumentCounts[this.numMessages - 1]++;
+    }
+
+
+    private void startBundle ()
+    {
+        this.buffer.clear ();
+        this.buffer.put (BUNDLE_HEADER);
+        this.buffer.putLong (TIME_TAG_IMMEDIATELY);
+    }
+
+
+    private void sendBundle (final IOpenSoundControlClient client) throws IOException
+    {
+        // Only send if there is at least one message in the bundle
+        if (this.buffer.position () == BUNDLE_HEADER.length + 8)
+            return;
+        this.buffer.flip ();
+        client.sendPacket (this.buffer);
+    }
+
+
+    /**
+     * Encodes a queued message as a bundle element.
+     *
+     * @param index The index of the message
+     * @return False if there is not enough space left in the bundle
+     */
+    private boolean encodeMessage (final int index)
+    {
+        final byte [] address = this.getEncodedAddress (this.addresses[index]);
+        final int start = this.argumentStarts[index];
+        final int end = start + this.argumentCounts[index];
+
+        final int size = this.calcMessageSize (index);
+        if (!this.hasSpace (size + 4))
+            return false;
+
+        this.buffer.putInt (size);
+        this.buffer.put (address);
+
+        // Type tags
+        this.buffer.put ((byte) ',');
+        for (int i = start; i < end; i++)
+            this.buffer.put (this.argumentTypes[i]);
+        this.pad (end - start + 1);
+
+        // Arguments
+        for (int i = start; i < end; i++)
+        {
+            switch (this.argumentTypes[i])
+            {
+                case TYPE_INT, TYPE_FLOAT:
+                    this.buffer.putInt (this.argumentValues[i]);
+                    break;
+                case TYPE_STRING:
+                    this.putString (this.argumentStrings[i]);
+                    break;
+                default:
+                    // Nil has no data
+                    break;
+            }
+        }
+        return true;
+    }
+
+
+    private boolean encodeFrameMessage (final String frameAddress, final int value)
+    {
+        final byte [] address = this.getEncodedAddress (frameAddress);
+        final int size = address.length + 8;
+        if (!this.hasSpace (size + 4))
+            return false;
+        this.buffer.putInt (size);
+        this.buffer.put (address);
+        this.buffer.put ((byte) ',');
+        this.buffer.put (TYPE_INT);
+        this.pad (2);
+        this.buffer.putInt (value);
+        return true;
+    }
+
+
+    /**
+     * Check if there is enough space left in the current bundle. If the bundle is empty the
+     * element is always accepted as long as it fits into an UDP datagram.
+     *
+     * @param elementSize The size of the bundle element
+     * @return True if the element can be added
+     */
+    private boolean hasSpace (final int elementSize)
+    {
+        final int position = this.buffer.position ();
+        if (position == BUNDLE_HEADER.length + 8)
+            return position + elementSize <= MAX_UDP_PAYLOAD;
+        return position + elementSize <= this.maxPacketSize;
+    }
+
+
+    /**
+     * Calculates the encoded size of a queued message.
+     *
+     * @param index The index of the message
+     * @return The size in bytes
+     */
+    private int calcMessageSize (final int index)
+    {
+        final int start = this.argumentStarts[index];
+        final int end = start + this.argumentCounts[index];
+
+        int size = this.getEncodedAddress (this.addresses[index]).length + paddedLength (end - start + 1);
+        for (int i = start; i < end; i++)
+        {
+            switch (this.argumentTypes[i])
+            {
+                case TYPE_INT, TYPE_FLOAT:
+                    size += 4;
+                    break;
+                case TYPE_STRING:
+                    size += paddedLength (this.argumentStrings[i].length ());
+                    break;
+                default:
+                    // Nil has no data
+                    break;
+            }
+        }
+        return size;
+    }
+
+
+    private byte [] getEncodedAddress (final String address)
+    {
+        byte [] encoded = this.addressCache.get (address);
+        if (encoded == null)
+        {
+            if (this.addressCache.size () >= MAX_CACHED_ADDRESSES)
+                this.addressCache.clear ();
+            final int length = address.length ();
+            encoded = new byte [paddedLength (length)];
+            for (int i = 0; i < length; i++)
+                encoded[i] = toASCII (address.charAt (i));
+            this.addressCache.put (address, encoded);
+        }
+        return encoded;
+    }
+
+
+    private void putString (final String text)
+    {
+        final int length = text.length ();
+        for (int i = 0; i < length; i++)
+            this.buffer.put (toASCII (text.charAt (i)));
+        this.pad (length);
+    }
+
+
+    /**
+     * Writes the terminating zero and the padding bytes of a string of the given length.
+     *
+     * @param length The length of the string
+     */
+    private void pad (final int length)
+    {
+        for (int i = paddedLength (length) - length; i > 0; i--)
+            this.buffer.put ((byte) 0);
+    }
+
+
+    /**
+     * Get the length of a zero terminated string padded to a multiple of 4 bytes.
+     *
+     * @param length The length of the string
+     * @return The padded length
+     */
+    private static int paddedLength (final int length)
+    {
+        return (length + 4) & ~3;
+    }
+
+
+    private static byte toASCII (final char c)
+    {
+        return c < 128 ? (byte) c : (byte) '?';
+    }
+}
@@ -0,0 +1,24 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+/**
+ * The priority classes of outgoing OSC messages. Each class can be limited to a maximum rate. If
+ * the bandwidth budget is exhausted the classes are sent in the order TRANSPORT, STATE, NAME and
+ * METER, pending meter updates are dropped first.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum OpenSoundControlPriority
+{
+    /** Meters like VU, which change constantly. */
+    METER,
+    /** Transport information like the play position. */
+    TRANSPORT,
+    /** All other states like volume, mute or solo. */
+    STATE,
+    /** Names and other texts which change rarely. */
+    NAME
+}
@@ -0,0 +1,290 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+
+/**
+ * Collects the changed values of the OSC writer until they are due to be sent. Each value slot is
+ * assigned to a priority class. If a value changes again before it was sent, only the latest value
+ * is kept. On each drain the classes are drained in the order transport, state, names and meters,
+ * as long as the maximum rate of the class and the bandwidth budget of the flush allow it. Values
+ * which do not fit into the budget are kept for the next drain, except for meters which are
+ * dropped. The writer uses {@link #getDelayUntilDue()} to drain the kept values even if nothing
+ * else changes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlScheduler
+{
+    private static final OpenSoundControlPriority []                DRAIN_ORDER    =
+    {
+        OpenSoundControlPriority.TRANSPORT,
+        OpenSoundControlPriority.STATE,
+        OpenSoundControlPriority.NAME,
+        OpenSoundControlPriority.METER
+    };
+
+    private static final byte                                       TYPE_INT       = 1;
+    private static final byte                                       TYPE_FLOAT     = 2;
+    private static final byte                                       TYPE_OBJECT    = 3;
+
+    private static final int                                        NUM_PRIORITIES = OpenSoundControlPriority.values ().length;
+    private static final long                                       MIN_DELAY      = 10;
+
+    private final IOpenSoundControlConfiguration                    configuration;
+    private final Function<String, OpenSoundControlPriority>        classifier;
+
+    private final long []                                           lastSendTimes  = new long [NUM_PRIORITIES];
+    private final int [] []                                         queues         = new int [NUM_PRIORITIES] [64];
+    private final int []                                            queueSizes     = new int [NUM_PRIORITIES];
+
+    private OpenSoundControlPriority []                             priorities     = new OpenSoundControlPriority [1024];
+    private boolean []                                              isPending      = new boolean [1024];
+    private String []                                               addresses      = new String [1024];
+    private byte []                                                 types          = new byte [1024];
+    private int []                                                  values         = new int [1024];
+    private Object []                                               objects        = new Object [1024];
+
+    private long                                                    numDroppedMeters;
+
+
+    /**
+     * Constructor.
+     *
+     * @param configuration The configuration which provides the rates and the budget
+     * @param classifier Assigns the priority class to an address, called only once per slot
+     */
+    public OpenSoundControlScheduler (final IOpenSoundControlConfiguration configuration, final Function<String, OpenSoundControlPriority> classifier)
+    {
+        this.configuration = configuration;
+        this.classifier = classifier;
+    }
+
+
+    /**
+     * Schedule an integer value.
+     *
+     * @param slot The slot of the value
+     * @param address The OSC address
+     * @param value The value
+     */
+    public void schedule (final int slot, final String address, final int value)
+    {
+        this.schedule (slot, address, TYPE_INT, value, null);
+    }
+
+
+    /**
+     * Schedule a float value.
+     *
+     * @param slot The slot of the value
+     * @param address The OSC address
+     * @param value The value
+     */
+    public void schedule (final int slot, final String address, final float value)
+    {
+        this.schedule (slot, address, TYPE_FLOAT, Float.floatToRawIntBits (value), null);
+    }
+
+
+    /**
+     * Schedule a string or any other value supported by the encoder.
+     *
+     * @param slot The slot of the value
+     * @param address The OSC address
+     * @param value The value
+     */
+    public void schedule (final int slot, final String address, final Object value)
+    {
+        this.schedule (slot, address, TYPE_OBJECT, 0, value);
+    }
+
+
+    /**
+     * Moves all pending values which are due into the encoder.
+     *
+     * @param encoder The encoder to add the messages to
+     * @param valueCache The value cache, the slots of dropped meter values are invalidated so that
+     *            they are scheduled again on the next change
+     */
+    public void drain (final OpenSoundControlBundleEncoder encoder, final OpenSoundControlValueCache valueCache)
+    {
+        final long now = System.currentTimeMillis ();
+        final int budget = this.configuration.getMaxBytesPerFlush ();
+        int used = 0;
+
+        for (final OpenSoundControlPriority priority: DRAIN_ORDER)
+        {
+            final int index = priority.ordinal ();
+            final int size = this.queueSizes[index];
+            if (size == 0)
+                continue;
+
+            final int rate = this.configuration.getMaxMessageRate (priority);
+            if (rate > 0 && now - this.lastSendTimes[index] < 1000 / rate)
+                continue;
+
+            final int [] queue = this.queues[index];
+            int pos = 0;
+            while (pos < size && used < budget)
+            {
+                used += this.encode (queue[pos], encoder);
+                pos++;
+            }
+            if (pos > 0)
+                this.lastSendTimes[index] = now;
+
+            if (pos == size)
+            {
+                this.queueSizes[index] = 0;
+                continue;
+            }
+
+            if (priority == OpenSoundControlPriority.METER)
+            {
+                for (int i = pos; i < size; i++)
+                {
+                    final int slot = queue[i];
+                    this.isPending[slot] = false;
+                    this.objects[slot] = null;
+                    valueCache.invalidate (slot);
+                }
+                this.numDroppedMeters += size - pos;
+                this.queueSizes[index] = 0;
+            }
+            else
+            {
+                System.arraycopy (queue, pos, queue, 0, size - pos);
+                this.queueSizes[index] = size - pos;
+            }
+        }
+    }
+
+
+    /**
+     * Get the time until the pending values of at least one priority class can be sent again.
+     *
+     * @return The delay in milliseconds, at least a short pause to not exceed the budget, -1 if no
+     *         values are pending
+     */
+    public long getDelayUntilDue ()
+    {
+        final long now = System.currentTimeMillis ();
+        long delay = -1;
+        for (final OpenSoundControlPriority priority: DRAIN_ORDER)
+        {
+            final int index = priority.ordinal ();
+            if (this.queueSizes[index] == 0)
+                continue;
+
+            final int rate = this.configuration.getMaxMessageRate (priority);
+            final long classDelay = rate > 0 ? Math.max (MIN_DELAY, this.lastSendTimes[index] + 1000 / rate - now) : MIN_DELAY;
+            delay = delay < 0 ? classDelay : Math.min (delay, classDelay);
+        }
+        return delay;
+    }
+
+
+    /**
+     * Get the number of pending values.
+     *
+     * @return The number of values
+     */
+    public int getNumPending ()
+    {
+        int sum = 0;
+        for (final int size: this.queueSizes)
+            sum += size;
+        return sum;
+    }
+
+
+    /**
+     * Get the number of meter values which were dropped since the budget was exhausted.
+     *
+     * @return The number of dropped values
+     */
+    public long getNumDroppedMeters ()
+    {
+        return this.numDroppedMeters;
+    }
+
+
+    private void schedule (final int slot, final String address, final byte type, final int value, final Object object)
+    {
+        this.ensureCapacity (slot);
+
+        this.addresses[slot] = address;
+        this.types[slot] = type;
+        this.values[slot] = value;
+        this.objects[slot] = object;
+
+        // Coalesce, if already pending only the value is updated
+        if (this.isPending[slot])
+            return;
+        this.isPending[slot] = true;
+
+        OpenSoundControlPriority priority = this.priorities[slot];
+        if (priority == null)
+        {
+            priority = this.classifier.apply (address);
+            this.priorities[slot] = priority;
+        }
+
+        final int index = priority.ordinal ();
+        final int size = this.queueSizes[index];
+        if (size == this.queues[index].length)
+            this.queues[index] = Arrays.copyOf (this.queues[index], size * 2);
+        this.queues[index][size] = slot;
+        this.queueSizes[index] = size + 1;
+    }
+
+
+    /**
+     * Adds the pending value of the slot to the encoder.
+     *
+     * @param slot The slot
+     * @param encoder The encoder
+     * @return The encoded size of the message
+     */
+    private int encode (final int slot, final OpenSoundControlBundleEncoder encoder)
+    {
+        final String address = this.addresses[slot];
+        switch (this.types[slot])
+        {
+            case TYPE_INT:
+                encoder.addMessage (address, this.values[slot]);
+                break;
+            case TYPE_FLOAT:
+                encoder.addMessage (address, Float.intBitsToFloat (this.values[slot]));
+                break;
+            default:
+                encoder.addMessage (address, this.objects[slot]);
+                break;
+        }
+
+        this.isPending[slot] = false;
+        this.objects[slot] = null;
+        return encoder.getSize (encoder.getNumMessages () - 1);
+    }
+
+
+    private void ensureCapacity (final int slot)
+    {
+        if (slot < this.isPending.length)
+            return;
+
+        final int newSize = Math.max (slot + 1, this.isPending.length * 2);
+        this.priorities = Arrays.copyOf (this.priorities, newSize);
+        this.isPending = Arrays.copyOf (this.isPending, newSize);
+        this.addresses = Arrays.copyOf (this.addresses, newSize);
+        this.types = Arrays.copyOf (this.types, newSize);
+        this.values = Arrays.copyOf (this.values, newSize);
+        this.objects = Arrays.copyOf (this.objects, newSize);
+    }
+}
@@ -0,0 +1,248 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Caches the last sent value of each OSC address. Each address is assigned to a slot once. The
+ * values of a slot are stored in primitive arrays, integers, floats and booleans are stored as they
+ * are and strings as a 64 bit hash. Therefore, comparing a value with the cache neither creates
+ * objects nor requires hashing if the slot is known.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlValueCache
+{
+    private static final byte          TYPE_NONE    = 0;
+    private static final byte          TYPE_INT     = 1;
+    private static final byte          TYPE_FLOAT   = 2;
+    private static final byte          TYPE_BOOLEAN = 3;
+    private static final byte          TYPE_STRING  = 4;
+    private static final byte          TYPE_OBJECT  = 5;
+
+    private static final long          FNV_OFFSET   = 0xcbf29ce484222325L;
+    private static final long          FNV_PRIME    = 0x100000001b3L;
+    private static final long          NULL_HASH    = 0;
+
+    private final Map<String, Integer> slots        = new HashMap<> ();
+    private String []                  addresses    = new String [1024];
+    private byte []                    types        = new byte [1024];
+    private long []                    values       = new long [1024];
+    private Object []                  objects      = new Object [1024];
+    private int                        numSlots;
+
+
+    /**
+     * Get the slot of an address. If the address is not yet known a new slot is assigned.
+     *
+     * @param address The OSC address
+     * @return The slot
+     */
+    public int getSlot (final String address)
+    {
+        final Integer slot = this.slots.get (address);
+        if (slot != null)
+            return slot.intValue ();
+
+        if (this.numSlots == this.addresses.length)
+        {
+            final int newSize = this.addresses.length * 2;
+            this.addresses = Arrays.copyOf (this.addresses, newSize);
+            this.types = Arrays.copyOf (this.types, newSize);
+            this.values = Arrays.copyOf (this.values, newSize);
+            this.objects = Arrays.copyOf (this.objects, newSize);
+        }
+
+        final int newSlot = this.numSlots;
+        this.addresses[newSlot] = address;
+        this.slots.put (address, Integer.valueOf (newSlot));
+        this.numSlots++;
+        return newSlot;
+    }
+
+
+    /**
+     * Get the address of a slot.
+     *
+     * @param slot The slot
+     * @return The OSC address
+     */
+    public String getAddress (final int slot)
+    {
+        return this.addresses[slot];
+    }
+
+
+    /**
+     * Get the number of slots.
+     *
+     * @return The number of slots
+     */
+    public int getNumSlots ()
+    {
+        return this.numSlots;
+    }
+
+
+    /**
+     * Stores the value in the slot.
+     *
+     * @param slot The slot
+     * @param value The value
+     * @return True if the value is different from the cached one
+     */
+    public boolean update (final int slot, final int value)
+    {
+        return this.update (slot, TYPE_INT, value);
+    }
+
+
+    /**
+     * Stores the value in the slot.
+     *
+     * @param slot The slot
+     * @param value The value
+     * @return True if the value is different from the cached one
+     */
+    public boolean update (final int slot, final float value)
+    {
+        return this.update (slot, TYPE_FLOAT, Float.floatToRawIntBits (value));
+    }
+
+
+    /**
+     * Stores the value in the slot.
+     *
+     * @param slot The slot
+     * @param value The value
+     * @return True if the value is different from the cached one
+     */
+    public boolean update (final int slot, final boolean value)
+    {
+        return this.update (slot, TYPE_BOOLEAN, value ? 1 : 0);
+    }
+
+
+    /**
+     * Stores the hash of the text in the slot.
+     *
+     * @param slot The slot
+     * @param text The text, might be null
+     * @return True if the text is different from the cached one
+     */
+    public boolean update (final int slot, final String text)
+    {
+        return this.update (slot, TYPE_STRING, hash (text));
+    }
+
+
+    /**
+     * Stores the value in the slot. Use only for values which are not supported by the primitive
+     * update methods, e.g. lists.
+     *
+     * @param slot The slot
+     * @param value The value, might be null
+     * @return True if the value is different from the cached one
+     */
+    public boolean update (final int slot, final Object value)
+    {
+        if (this.types[slot] == TYPE_OBJECT && compareValues (this.objects[slot], value))
+            return false;
+        this.types[slot] = TYPE_OBJECT;
+        this.objects[slot] = value;
+        return true;
+    }
+
+
+    /**
+     * Clears all cached values but keeps the slots.
+     */
+    public void invalidate ()
+    {
+        Arrays.fill (this.types, 0, this.numSlots, TYPE_NONE);
+        Arrays.fill (this.objects, 0, this.numSlots, null);
+    }
+
+
+    /**
+     * Clears the cached value of a slot.
+     *
+     * @param slot The slot
+     */
+    public void invalidate (final int slot)
+    {
+        this.types[slot] = TYPE_NONE;
+        this.objects[slot] = null;
+    }
+
+
+    private boolean update (final int slot, final byte type, final long value)
+    {
+        if (this.types[slot] == type && this.values[slot] == value)
+            return false;
+        this.types[slot] = type;
+        this.values[slot] = value;
+        this.objects[slot] = null;
+        return true;
+    }
+
+
+    /**
+     * Calculates a 64 bit FNV-1a hash of the characters of the text.
+     *
+     * @param text The text, might be null
+     * @return The hash
+     */
+    private static long hash (final String text)
+    {
+        if (text == null)
+            return NULL_HASH;
+        long hash = FNV_OFFSET;
+        final int length = text.length ();
+        for (int i = 0; i < length; i++)
+        {
+            final char c = text.charAt (i);
+            hash = (hash ^ (c & 0xFF)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        // Prevent a collision of the empty string with null
+        return hash == NULL_HASH ? 1 : hash;
+    }
+
+
+    /**
+     * Compares two values. Additionally checks for list values.
+     *
+     * @param value1 The first value
+     * @param value2 The second value
+     * @return True if equal
+     */
+    private static boolean compareValues (final Object value1, final Object value2)
+    {
+        if (value1 == null)
+            return value2 == null;
+
+        if (value1 instanceof final List<?> l1 && value2 instanceof final List<?> l2)
+        {
+            final int size1 = l1.size ();
+            final int size2 = l2.size ();
+            if (size1 != size2)
+                return false;
+            for (int i = 0; i < size1; i++)
+            {
+                if (!l1.get (i).equals (l2.get (i)))
+                    return false;
+            }
+            return true;
+        }
+
+        return value1.equals (value2);
+    }
+}
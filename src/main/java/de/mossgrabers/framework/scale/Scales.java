@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.scale;
 
+import de.mossgrabers.framework.controller.color.ColorHandles;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.scale.ScaleGrid.Orientation;
 
@@ -22,18 +23,18 @@ import java.util.Map;
  */
 public class Scales
 {
-    private static final int            DRUM_NOTE_LOWER          = 4;
-    private static final int            DRUM_NOTE_UPPER          = 100;
-    private static final int            DRUM_DEFAULT_OFFSET      = 16;
+    private static final int            DRUM_NOTE_LOWER                 = 4;
+    private static final int            DRUM_NOTE_UPPER                 = 100;
+    private static final int            DRUM_DEFAULT_OFFSET             = 16;
 
     /** The names of notes. */
-    public static final List<String>    NOTE_NAMES               = List.of ("C", "Db", "D", "Eb", "E", "F", "Gb", "G", "Ab", "A", "Bb", "B");
+    public static final List<String>    NOTE_NAMES                      = List.of ("C", "Db", "D", "Eb", "E", "F", "Gb", "G", "Ab", "A", "Bb", "B");
 
     /** The names of the base notes. */
-    public static final List<String>    BASES                    = List.of ("C", "G", "D", "A", "E", "B", "F", "Bb", "Eb", "Ab", "Db", "Gb");
+    public static final List<String>    BASES                           = List.of ("C", "G", "D", "A", "E", "B", "F", "Bb", "Eb", "Ab", "Db", "Gb");
 
     /** The semitone offsets of the base notes. */
-    private static final int []         OFFSETS                  =
+    private static final int []         OFFSETS                         =
     {
         0,
         7,
@@ -50,9 +51,9 @@ public class Scales
     };
 
     /** The MIDI note at which the drum grid starts. */
-    public static final int             DRUM_NOTE_START          = 36;
+    public static final int             DRUM_NOTE_START                 = 36;
     /** The MIDI note at which the drum grid ends. */
-    public static final int             DRUM_NOTE_END            = 100;
+    public static final int             DRUM_NOTE_END                   = 100;
 
     // @formatter:off
     /** The drum grid matrix. */
@@ -77,47 +78,61 @@ public class Scales
     // @formatter:on
 
     /** Color index when the pad is turned off. */
-    public static final String          SCALE_COLOR_OFF          = "SCALE_COLOR_OFF";
+    public static final String          SCALE_COLOR_OFF                 = "SCALE_COLOR_OFF";
     /** Color index when the pad is the base note of the scale. */
-    public static final String          SCALE_COLOR_OCTAVE       = "SCALE_COLOR_OCTAVE";
+    public static final String          SCALE_COLOR_OCTAVE              = "SCALE_COLOR_OCTAVE";
     /** Color index when the pad is a note of the scale. */
-    public static final String          SCALE_COLOR_NOTE         = "SCALE_COLOR_NOTE";
+    public static final String          SCALE_COLOR_NOTE                = "SCALE_COLOR_NOTE";
     /** Color index when the pad is a note which is not part of the scale. */
-    public static final String          SCALE_COLOR_OUT_OF_SCALE = "SCALE_COLOR_OUT_OF_SCALE";
+    public static final String          SCALE_COLOR_OUT_OF_SCALE        = "SCALE_COLOR_OUT_OF_SCALE";
+
+    /** Color handle when the pad is turned off. */
+    public static final int             SCALE_COLOR_OFF_HANDLE          = ColorHandles.getHandle (SCALE_COLOR_OFF);
+    /** Color handle when the pad is the base note of the scale. */
+    public static final int             SCALE_COLOR_OCTAVE_HANDLE       = ColorHandles.getHandle (SCALE_COLOR_OCTAVE);
+    /** Color handle when the pad is a note of the scale. */
+    public static final int             SCALE_COLOR_NOTE_HANDLE         = ColorHandles.getHandle (SCALE_COLOR_NOTE);
+    /** Color handle when the pad is a note which is not part of the scale. */
+    public static final int             SCALE_COLOR_OUT_OF_SCALE_HANDLE = ColorHandles.getHandle (SCALE_COLOR_OUT_OF_SCALE);
 
     /** Number of octaves which can be transposed up and down. */
-    public static final int             OCTAVE_RANGE             = 4;
+    public static final int             OCTAVE_RANGE                    = 4;
     /** Number of octaves which can be transposed up and down in the piano layout. */
-    public static final int             PIANO_OCTAVE_RANGE       = 3;
+    public static final int             PIANO_OCTAVE_RANGE              = 3;
     /** Number of upper drum octave limit. */
-    public static final int             DRUM_OCTAVE_UPPER        = 4;
+    public static final int             DRUM_OCTAVE_UPPER               = 4;
     /** Number of lower drum octave limit. */
-    public static final int             DRUM_OCTAVE_LOWER        = -2;
-
-    private Scale                       selectedScale            = Scale.MAJOR;
-    private int                         scaleOffset              = 0;                                                                        // C
-    private ScaleLayout                 scaleLayout              = ScaleLayout.FOURTH_UP;
-    private Orientation                 orientation              = Orientation.ORIENT_UP;
-    private boolean                     chromaticOn              = false;
-    private int                         scaleShift               = 3;
-    private int                         semitoneShift            = 5;
-    private int                         octave                   = 0;
+    public static final int             DRUM_OCTAVE_LOWER               = -2;
+
+    private Scale                       selectedScale                   = Scale.MAJOR;
+    private int                         scaleOffset                     = 0;                                                                 // C
+    private ScaleLayout                 scaleLayout                     = ScaleLayout.FOURTH_UP;
+    private Orientation                 orientation                     = Orientation.ORIENT_UP;
+    private boolean                     chromaticOn                     = false;
+    private int                         scaleShift                      = 3;
+    private int                         semitoneShift                   = 5;
+    private int                         octave                          = 0;
     private int                         drumOffset;
     private int                         drumDefaultOffset;
-    private int                         pianoOctave              = 0;
+    private int                         pianoOctave                     = 0;
     private int                         startNote;
     private int                         endNote;
     private final int                   numColumns;
     private final int                   numRows;
 
-    private int []                      drumMatrix               = DRUM_MATRIX;
-    private int                         drumNoteStart            = DRUM_NOTE_START;
-    private int                         drumNoteEnd              = DRUM_NOTE_END;
+    private int []                      drumMatrix                      = DRUM_MATRIX;
+    private int                         drumNoteStart                   = DRUM_NOTE_START;
+    private int                         drumNoteEnd                     = DRUM_NOTE_END;
 
-    private final Map<Scale, ScaleGrid> scaleGrids               = new EnumMap<> (Scale.class);
-    private final Map<Scale, ChordGrid> chordGrids               = new EnumMap<> (Scale.class);
+    private final Map<Scale, ScaleGrid> scaleGrids                      = new EnumMap<> (Scale.class);
+    private final Map<Scale, ChordGrid> chordGrids                      = new EnumMap<> (Scale.class);
     private final IValueChanger         valueChanger;
 
+    private final int []                noteColorHandles                = new int [12];
+    private Scale                       noteColorScale;
+    private int                         noteColorScaleOffset            = -1;
+    private boolean                     noteColorChromaticOn;
+
 
     /**
      * Constructor.
@@ -686,18 +701,55 @@ public class Scales
      * @return The color index
      */
     public String getColor (final int [] noteMap, final int note)
+    {
+        return ColorHandles.getKey (this.getColorHandle (noteMap, note));
+    }
+
+
+    /**
+     * Get the color handle for the given note respecting the note map.
+     *
+     * @param noteMap The note map
+     * @param note A note
+     * @return The color handle
+     */
+    public int getColorHandle (final int [] noteMap, final int note)
     {
         if (note == -1)
-            return Scales.SCALE_COLOR_OFF;
+            return Scales.SCALE_COLOR_OFF_HANDLE;
         final int midiNote = noteMap[note];
         if (midiNote == -1)
-            return Scales.SCALE_COLOR_OFF;
-        final int noteInOctave = this.toNoteInOctave (midiNote);
-        if (noteInOctave == 0)
-            return Scales.SCALE_COLOR_OCTAVE;
-        if (!this.isChromatic ())
-            return Scales.SCALE_COLOR_NOTE;
-        return this.isInScale (noteInOctave) ? Scales.SCALE_COLOR_NOTE : Scales.SCALE_COLOR_OUT_OF_SCALE;
+            return Scales.SCALE_COLOR_OFF_HANDLE;
+        return this.getNoteColorHandles ()[midiNote % 12];
+    }
+
+
+    /**
+     * Get the color handles for the 12 notes of an octave (starting with C). The table is only
+     * re-calculated if the scale, the scale offset or the chromatic setting has changed.
+     *
+     * @return The color handles
+     */
+    private int [] getNoteColorHandles ()
+    {
+        if (this.noteColorScale == this.selectedScale && this.noteColorScaleOffset == this.scaleOffset && this.noteColorChromaticOn == this.chromaticOn)
+            return this.noteColorHandles;
+
+        for (int i = 0; i < 12; i++)
+        {
+            final int noteInOctave = this.toNoteInOctave (i);
+            if (noteInOctave == 0)
+                this.noteColorHandles[i] = Scales.SCALE_COLOR_OCTAVE_HANDLE;
+            else if (!this.chromaticOn || this.isInScale (noteInOctave))
+                this.noteColorHandles[i] = Scales.SCALE_COLOR_NOTE_HANDLE;
+            else
+                this.noteColorHandles[i] = Scales.SCALE_COLOR_OUT_OF_SCALE_HANDLE;
+        }
+
+        this.noteColorScale = this.selectedScale;
+        this.noteColorScaleOffset = this.scaleOffset;
+        this.noteColorChromaticOn = this.chromaticOn;
+        return this.noteColorHandles;
     }
 
 
@@ -1181,4 +1233,4 @@ public class Scales
     {
         this.endNote = endNote;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
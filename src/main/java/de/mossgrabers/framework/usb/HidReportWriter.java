@@ -0,0 +1,158 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.usb;
+
+import de.mossgrabers.framework.utils.OutputScheduler;
+import de.mossgrabers.framework.utils.OutputSlot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Sends the output reports of a HID device from one thread of the output scheduler instead of the
+ * calling thread. Since all reports are sent to the same device, they are sent in turn by the same
+ * slot. Only the latest data of a report is sent: if the report is updated again before it was
+ * sent, the previous data is dropped. The data is copied into a pending buffer and from there into
+ * the buffer which is sent, therefore no memory is allocated while sending.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HidReportWriter
+{
+    private final IHidDevice   hidDevice;
+    private final OutputSlot   slot;
+    private final List<Report> reports = new ArrayList<> ();
+    private final Object       lock    = new Object ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param hidDevice The HID device to send to
+     * @param name The name of the writer, e.g. the device
+     */
+    public HidReportWriter (final IHidDevice hidDevice, final String name)
+    {
+        this.hidDevice = hidDevice;
+        this.slot = OutputScheduler.getInstance ().createBlockingSlot (name);
+    }
+
+
+    /**
+     * Add an output report. All reports need to be added before the first one is sent. Several
+     * reports can use the same report ID, e.g. for different parts of a display.
+     *
+     * @param reportID The ID of the output report
+     * @param size The number of bytes of the report
+     * @return The index of the report to use for sending
+     */
+    public int addReport (final byte reportID, final int size)
+    {
+        synchronized (this.lock)
+        {
+            this.reports.add (new Report (reportID, size));
+            return this.reports.size () - 1;
+        }
+    }
+
+
+    /**
+     * Send a report. The data is copied, therefore the array can be re-used immediately.
+     *
+     * @param index The index of the report
+     * @param data The data of the report, must have the size of the report
+     */
+    public void send (final int index, final byte [] data)
+    {
+        if (this.slot.isShutdown ())
+            return;
+
+        synchronized (this.lock)
+        {
+            final Report report = this.reports.get (index);
+            System.arraycopy (data, 0, report.pendingData, 0, report.pendingData.length);
+            report.hasPending = true;
+        }
+        this.slot.execute (this::write);
+    }
+
+
+    /**
+     * Stop accepting new reports and wait until the pending reports were sent.
+     *
+     * @param timeout The maximum time to wait in milliseconds
+     * @return True if all reports were sent, false if the timeout elapsed before
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public boolean shutdown (final long timeout) throws InterruptedException
+    {
+        this.slot.shutdown ();
+        return this.slot.awaitTermination (timeout, TimeUnit.MILLISECONDS);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return this.slot.toString ();
+    }
+
+
+    /**
+     * Sends all pending reports in the order in which they were added.
+     */
+    private void write ()
+    {
+        final int size;
+        synchronized (this.lock)
+        {
+            size = this.reports.size ();
+        }
+
+        for (int i = 0; i < size; i++)
+        {
+            final Report report;
+            synchronized (this.lock)
+            {
+                report = this.reports.get (i);
+                if (!report.hasPending)
+                    continue;
+                System.arraycopy (report.pendingData, 0, report.sendData, 0, report.sendData.length);
+                report.hasPending = false;
+            }
+            // Called outside of the lock, sending might block
+            this.hidDevice.sendOutputReport (report.reportID, report.sendData, report.sendData.length);
+        }
+    }
+
+
+    /**
+     * The buffers of one output report.
+     */
+    private static class Report
+    {
+        private final byte    reportID;
+        private final byte [] pendingData;
+        private final byte [] sendData;
+        private boolean       hasPending = false;
+
+
+        /**
+         * Constructor.
+         *
+         * @param reportID The ID of the output report
+         * @param size The number of bytes of the report
+         */
+        public Report (final byte reportID, final int size)
+        {
+            this.reportID = reportID;
+            this.pendingData = new byte [size];
+            this.sendData = new byte [size];
+        }
+    }
+}
\ No newline at end of file
@@ -36,6 +36,19 @@ public interface IHidDevice
     int sendOutputReport (byte reportID, IMemoryBlock memoryBlock);
 
 
+    /**
+     * Sends an output report to the device. Same as {@link #sendOutputReport(byte, IMemoryBlock)}
+     * but sends the data directly from a byte array, which allows to re-use the array. The array
+     * is not stored, therefore it can be modified after the method returns.
+     *
+     * @param reportID The report (= function/method) number
+     * @param data The array with the data to send
+     * @param length The number of bytes to send from the array
+     * @return The number of bytes scheduled for transmission or -1 if the call failed
+     */
+    int sendOutputReport (byte reportID, byte [] data, int length);
+
+
     /**
      * This method sends a feature report to the device. See the USB HID specification for more
      * information. This method may or may not block. The method returning is no guarantee that the
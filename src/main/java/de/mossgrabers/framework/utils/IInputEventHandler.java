@@ -0,0 +1,23 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+/**
+ * Callback interface for the events of an input event queue.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface IInputEventHandler
+{
+    /**
+     * Called on the DAW thread for each event taken from the queue.
+     *
+     * @param type The type of the event, defined by the device
+     * @param id The ID of the control which sent the event, e.g. the index of a button
+     * @param value The value of the event
+     */
+    void handle (int type, int id, int value);
+}
\ No newline at end of file
@@ -0,0 +1,238 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A ring buffer which hands the input events of a device thread over to the DAW thread. There must
+ * be only one thread which adds events (the device thread) and the events are only taken by the
+ * DAW thread. An event consists only of primitive values (type, ID, value and the time when it was
+ * received), therefore no objects are created per event. All events which arrived meanwhile are
+ * handled in one scheduled task. Consecutive events of the delta type with the same ID are summed
+ * up before they are handled, e.g. the steps of an encoder. If the buffer is full, new events are
+ * not dropped but each is handled by its own scheduled task, which runs after the pending handling
+ * of the events in the buffer.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class InputEventQueue
+{
+    /** Use as delta type if no events should be summed up. */
+    public static final int          NO_DELTA_TYPE  = -1;
+
+    private final IHost              host;
+    private final IInputEventHandler handler;
+    private final int                deltaType;
+    private final int                mask;
+    private final int []             types;
+    private final int []             ids;
+    private final int []             values;
+    private final long []            timestamps;
+
+    // The position of the next event to read, only written by the DAW thread
+    private final AtomicLong         head           = new AtomicLong ();
+    // The position of the next event to write, only written by the device thread
+    private final AtomicLong         tail           = new AtomicLong ();
+    private final AtomicBoolean      isDrainPending = new AtomicBoolean (false);
+    private final AtomicLong         numOverflows   = new AtomicLong ();
+
+    // Statistics, only written by the DAW thread
+    private long                     numEvents      = 0;
+    private long                     numCoalesced   = 0;
+    private long                     numBatches     = 0;
+    private long                     maxLatency     = 0;
+    private long                     sumLatency     = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host to schedule the handling of the events
+     * @param capacity The maximum number of events which can wait, rounded up to the next power of
+     *            2
+     * @param deltaType The type of events which contain a relative value and can therefore be
+     *            summed up, use NO_DELTA_TYPE if there is none
+     * @param handler The handler of the events, called on the DAW thread
+     */
+    public InputEventQueue (final IHost host, final int capacity, final int deltaType, final IInputEventHandler handler)
+    {
+        this.host = host;
+        this.handler = handler;
+        this.deltaType = deltaType;
+
+        final int size = Integer.highestOneBit (Math.max (2, capacity) * 2 - 1);
+        this.mask = size - 1;
+        this.types = new int [size];
+        this.ids = new int [size];
+        this.values = new int [size];
+        this.timestamps = new long [size];
+    }
+
+
+    /**
+     * Add an event and schedule the handling of the events. Must only be called from the device
+     * thread.
+     *
+     * @param type The type of the event
+     * @param id The ID of the control which sent the event
+     * @param value The value of the event
+     */
+    public void add (final int type, final int id, final int value)
+    {
+        final long position = this.tail.get ();
+        if (position - this.head.get () > this.mask)
+        {
+            // Never drop an event, e.g. a button would stick if its release is lost
+            this.numOverflows.incrementAndGet ();
+            final long timestamp = System.nanoTime ();
+            this.host.scheduleTask ( () -> this.handle (type, id, value, timestamp), 0);
+            return;
+        }
+
+        final int index = (int) (position & this.mask);
+        this.types[index] = type;
+        this.ids[index] = id;
+        this.values[index] = value;
+        this.timestamps[index] = System.nanoTime ();
+        // Publishes the event to the DAW thread
+        this.tail.set (position + 1);
+
+        if (this.isDrainPending.compareAndSet (false, true))
+            this.host.scheduleTask (this::drain, 0);
+    }
+
+
+    /**
+     * Get the number of handled events. Summed up events count as one.
+     *
+     * @return The number of events
+     */
+    public long getNumEvents ()
+    {
+        return this.numEvents;
+    }
+
+
+    /**
+     * Get the number of events which were summed up with the previous event.
+     *
+     * @return The number of events
+     */
+    public long getNumCoalescedEvents ()
+    {
+        return this.numCoalesced;
+    }
+
+
+    /**
+     * Get the number of events which did not fit into the buffer and were handled by their own
+     * task.
+     *
+     * @return The number of events
+     */
+    public long getNumOverflowEvents ()
+    {
+        return this.numOverflows.get ();
+    }
+
+
+    /**
+     * Get the longest time between receiving an event and handling it.
+     *
+     * @return The latency in nanoseconds
+     */
+    public long getMaxLatency ()
+    {
+        return this.maxLatency;
+    }
+
+
+    /**
+     * Get the average time between receiving an event and handling it.
+     *
+     * @return The latency in nanoseconds
+     */
+    public long getAverageLatency ()
+    {
+        return this.numEvents == 0 ? 0 : this.sumLatency / this.numEvents;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return String.format ("%d events in %d batches, %d coalesced, %d overflowed, latency avg. %.2f ms, max. %.2f ms", Long.valueOf (this.numEvents), Long.valueOf (this.numBatches), Long.valueOf (this.numCoalesced), Long.valueOf (this.numOverflows.get ()), Double.valueOf (this.getAverageLatency () / 1000000.0), Double.valueOf (this.maxLatency / 1000000.0));
+    }
+
+
+    /**
+     * Handle all waiting events. Called on the DAW thread.
+     */
+    private void drain ()
+    {
+        // Reset before reading, events which arrive meanwhile schedule a new drain
+        this.isDrainPending.set (false);
+
+        long position = this.head.get ();
+        final long end = this.tail.get ();
+        if (position == end)
+            return;
+        this.numBatches++;
+
+        int index = (int) (position & this.mask);
+        int type = this.types[index];
+        int id = this.ids[index];
+        int value = this.values[index];
+        long timestamp = this.timestamps[index];
+
+        for (position++; position < end; position++)
+        {
+            index = (int) (position & this.mask);
+            final int nextType = this.types[index];
+            final int nextID = this.ids[index];
+            if (nextType == this.deltaType && nextType == type && nextID == id)
+            {
+                value += this.values[index];
+                this.numCoalesced++;
+                continue;
+            }
+
+            this.handle (type, id, value, timestamp);
+
+            type = nextType;
+            id = nextID;
+            value = this.values[index];
+            timestamp = this.timestamps[index];
+        }
+
+        // Releases the slots to the device thread before the last event is handled
+        this.head.set (end);
+        this.handle (type, id, value, timestamp);
+    }
+
+
+    private void handle (final int type, final int id, final int value, final long timestamp)
+    {
+        final long latency = System.nanoTime () - timestamp;
+        this.maxLatency = Math.max (this.maxLatency, latency);
+        this.sumLatency += latency;
+        this.numEvents++;
+
+        try
+        {
+            this.handler.handle (type, id, value);
+        }
+        catch (final RuntimeException ex)
+        {
+            this.host.error ("Could not handle input event.", ex);
+        }
+    }
+}
\ No newline at end of file
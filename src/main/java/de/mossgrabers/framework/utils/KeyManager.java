@@ -179,6 +179,18 @@ public class KeyManager implements INoteObserver
     }
 
 
+    /**
+     * Get the handle of the color to use for a pad with respect to the current scale settings.
+     *
+     * @param pad The MIDI note of the pad
+     * @return The color handle
+     */
+    public int getColorHandle (final int pad)
+    {
+        return this.scales.getColorHandle (this.noteMap, pad);
+    }
+
+
     /**
      * Set a new note matrix.
      *
@@ -0,0 +1,198 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+
+/**
+ * Sends the output of all displays with a small, bounded pool of threads which is shared by all
+ * controllers. Each writer (e.g. a row of a display of a device) gets its own slot. A slot only
+ * keeps the latest task and never runs concurrently with itself, therefore tasks of one slot are
+ * executed in order. The shared pool is only meant for tasks which do not block, e.g. rendering or
+ * sending MIDI. Writers which wait for a device (e.g. USB, HID or network) use a blocking slot
+ * which has its own thread, therefore a slow device cannot delay the output of other devices. All
+ * threads are daemons and end when they are idle for some time.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OutputScheduler
+{
+    private static final int                  NUM_THREADS = 2;
+    private static final OutputScheduler      INSTANCE    = new OutputScheduler ();
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final AtomicInteger               threadCount = new AtomicInteger ();
+    private final AtomicInteger               queueDepth  = new AtomicInteger ();
+    private final AtomicInteger               maxDepth    = new AtomicInteger ();
+    private final AtomicLong                  numExecuted = new AtomicLong ();
+    private final AtomicLong                  numReplaced = new AtomicLong ();
+
+
+    /**
+     * Get the shared instance.
+     *
+     * @return The instance
+     */
+    public static OutputScheduler getInstance ()
+    {
+        return INSTANCE;
+    }
+
+
+    /**
+     * Constructor.
+     */
+    private OutputScheduler ()
+    {
+        this.executor = createExecutor (NUM_THREADS, () -> "Display Output " + this.threadCount.incrementAndGet ());
+    }
+
+
+    /**
+     * Create a new slot which is executed by the shared pool. The tasks must not block.
+     *
+     * @param name The name of the slot, e.g. the device and row it writes to
+     * @return The slot
+     */
+    public OutputSlot createSlot (final String name)
+    {
+        return new OutputSlot (this, this.executor, name);
+    }
+
+
+    /**
+     * Create a new slot which is executed by its own thread, for tasks which wait for a device.
+     *
+     * @param name The name of the slot, e.g. the device it writes to, also used for the thread
+     * @return The slot
+     */
+    public OutputSlot createBlockingSlot (final String name)
+    {
+        return new OutputSlot (this, createExecutor (1, () -> name), name);
+    }
+
+
+    /**
+     * Execute a task periodically, e.g. to check a timeout.
+     *
+     * @param task The task to execute
+     * @param period The period in milliseconds
+     * @return The future to cancel the task
+     */
+    public ScheduledFuture<?> scheduleAtFixedRate (final Runnable task, final long period)
+    {
+        return this.executor.scheduleAtFixedRate (task, period, period, TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Get the number of slots which wait for execution or are executing.
+     *
+     * @return The number of slots
+     */
+    public int getQueueDepth ()
+    {
+        return this.queueDepth.get ();
+    }
+
+
+    /**
+     * Get the highest queue depth since the start.
+     *
+     * @return The highest number of slots which waited for execution at the same time
+     */
+    public int getMaxQueueDepth ()
+    {
+        return this.maxDepth.get ();
+    }
+
+
+    /**
+     * Get the number of executed tasks.
+     *
+     * @return The number of tasks
+     */
+    public long getNumExecutedTasks ()
+    {
+        return this.numExecuted.get ();
+    }
+
+
+    /**
+     * Get the number of tasks which were replaced by a newer task of the same slot before they
+     * were executed.
+     *
+     * @return The number of tasks
+     */
+    public long getNumReplacedTasks ()
+    {
+        return this.numReplaced.get ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return String.format ("%d tasks executed, %d replaced, max. queue depth %d", Long.valueOf (this.numExecuted.get ()), Long.valueOf (this.numReplaced.get ()), Integer.valueOf (this.maxDepth.get ()));
+    }
+
+
+    /**
+     * Schedule the execution of a slot.
+     *
+     * @param slotExecutor The executor of the slot
+     * @param task The task which executes the slot
+     * @param delay The delay in milliseconds
+     */
+    void schedule (final ScheduledThreadPoolExecutor slotExecutor, final Runnable task, final long delay)
+    {
+        final int depth = this.queueDepth.incrementAndGet ();
+        this.maxDepth.accumulateAndGet (depth, Math::max);
+        slotExecutor.schedule (task, delay, TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Called when a slot has executed a task or was empty.
+     *
+     * @param executed True if a task was executed
+     */
+    void done (final boolean executed)
+    {
+        this.queueDepth.decrementAndGet ();
+        if (executed)
+            this.numExecuted.incrementAndGet ();
+    }
+
+
+    /**
+     * Called when a task of a slot was replaced by a newer one.
+     */
+    void replaced ()
+    {
+        this.numReplaced.incrementAndGet ();
+    }
+
+
+    private static ScheduledThreadPoolExecutor createExecutor (final int numThreads, final Supplier<String> threadName)
+    {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor (numThreads, runnable -> {
+            final Thread thread = new Thread (runnable, threadName.get ());
+            thread.setDaemon (true);
+            return thread;
+        });
+        executor.setKeepAliveTime (10, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut (true);
+        executor.setRemoveOnCancelPolicy (true);
+        return executor;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,248 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * A slot of the output scheduler. Stores only the latest task: when a new task arrives before the
+ * previous one was executed, the previous one is dropped. Each task is executed when its own delay
+ * has elapsed. The tasks of a slot are executed one after the other, therefore data which is only
+ * used by the tasks of one slot needs no synchronization.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OutputSlot
+{
+    private final OutputScheduler             scheduler;
+    private final ScheduledThreadPoolExecutor executor;
+    private final String                      name;
+    private final Object                      lock = new Object ();
+
+    // All guarded by the lock
+    private Runnable                          pendingTask;
+    private long                              pendingDueTime;
+    private boolean                           isScheduled;
+    private boolean                           isRunning;
+    private long                              scheduledTime;
+    private long                              generation;
+
+    private volatile boolean                  isShutdown;
+
+
+    /**
+     * Constructor.
+     *
+     * @param scheduler The scheduler which executes the slot
+     * @param executor The executor which runs the tasks of the slot
+     * @param name The name of the slot
+     */
+    OutputSlot (final OutputScheduler scheduler, final ScheduledThreadPoolExecutor executor, final String name)
+    {
+        this.scheduler = scheduler;
+        this.executor = executor;
+        this.name = name;
+    }
+
+
+    /**
+     * Execute the task as soon as possible. Replaces a task which was not yet executed. Ignored
+     * after the slot was shutdown.
+     *
+     * @param task The task to execute
+     */
+    public void execute (final Runnable task)
+    {
+        this.execute (task, 0);
+    }
+
+
+    /**
+     * Execute the task after the given delay. Replaces a task which was not yet executed, the new
+     * task is executed after its own delay. If the slot is currently executing a task (e.g. if
+     * called from the task itself), the new task is executed afterwards but not before its delay
+     * has elapsed. Ignored after the slot was shutdown.
+     *
+     * @param task The task to execute
+     * @param delay The delay in milliseconds
+     */
+    public void execute (final Runnable task, final long delay)
+    {
+        if (this.isShutdown)
+            return;
+
+        final long dueTime = System.nanoTime () + TimeUnit.MILLISECONDS.toNanos (Math.max (0, delay));
+        final long runGeneration;
+        synchronized (this.lock)
+        {
+            if (this.pendingTask != null)
+                this.scheduler.replaced ();
+            this.pendingTask = task;
+            this.pendingDueTime = dueTime;
+
+            // The running or already scheduled run executes the task when it is due
+            if (this.isScheduled && (this.isRunning || this.scheduledTime - dueTime <= 0))
+                return;
+
+            // Not scheduled or scheduled too late, a previously scheduled run is ignored
+            runGeneration = this.prepareRun (dueTime);
+        }
+        this.scheduleRun (runGeneration, dueTime);
+    }
+
+
+    /**
+     * Stop accepting new tasks. A task which is already waiting is still executed.
+     */
+    public void shutdown ()
+    {
+        this.isShutdown = true;
+    }
+
+
+    /**
+     * Check if the slot was shutdown.
+     *
+     * @return True if shutdown
+     */
+    public boolean isShutdown ()
+    {
+        return this.isShutdown;
+    }
+
+
+    /**
+     * Wait until the waiting task was executed.
+     *
+     * @param timeout The maximum time to wait
+     * @param unit The unit of the timeout
+     * @return True if the slot is idle, false if the timeout elapsed before
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public boolean awaitTermination (final long timeout, final TimeUnit unit) throws InterruptedException
+    {
+        final long end = System.nanoTime () + unit.toNanos (timeout);
+        synchronized (this.lock)
+        {
+            while (this.isScheduled)
+            {
+                final long rest = end - System.nanoTime ();
+                if (rest <= 0)
+                    return false;
+                TimeUnit.NANOSECONDS.timedWait (this.lock, rest);
+            }
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return this.name;
+    }
+
+
+    /**
+     * Marks a new run as scheduled. Must be called while holding the lock.
+     *
+     * @param dueTime The time (in nanoseconds) when the run should be executed
+     * @return The generation of the run, runs of older generations are ignored
+     */
+    private long prepareRun (final long dueTime)
+    {
+        this.isScheduled = true;
+        this.scheduledTime = dueTime;
+        this.generation++;
+        return this.generation;
+    }
+
+
+    /**
+     * Schedule a run. Must be called without holding the lock.
+     *
+     * @param runGeneration The generation of the run
+     * @param dueTime The time (in nanoseconds) when the run should be executed
+     */
+    private void scheduleRun (final long runGeneration, final long dueTime)
+    {
+        // Round up to full milliseconds to never execute too early
+        final long delay = Math.max (0, (dueTime - System.nanoTime () + 999_999) / 1_000_000);
+        this.scheduler.schedule (this.executor, () -> this.run (runGeneration), delay);
+    }
+
+
+    private void run (final long runGeneration)
+    {
+        final Runnable task;
+        final long laterGeneration;
+        final long laterDueTime;
+        synchronized (this.lock)
+        {
+            // Replaced by a run which was scheduled earlier?
+            if (runGeneration != this.generation)
+            {
+                this.scheduler.done (false);
+                return;
+            }
+
+            // The pending task was replaced by a task with a longer delay?
+            if (this.pendingTask != null && this.pendingDueTime - System.nanoTime () > 0)
+            {
+                task = null;
+                laterDueTime = this.pendingDueTime;
+                laterGeneration = this.prepareRun (laterDueTime);
+            }
+            else
+            {
+                task = this.pendingTask;
+                laterDueTime = 0;
+                laterGeneration = -1;
+                this.pendingTask = null;
+                this.isRunning = true;
+            }
+        }
+
+        if (laterGeneration >= 0)
+        {
+            this.scheduler.done (false);
+            this.scheduleRun (laterGeneration, laterDueTime);
+            return;
+        }
+
+        try
+        {
+            if (task != null)
+                task.run ();
+        }
+        finally
+        {
+            this.scheduler.done (task != null);
+
+            // Another task arrived while executing?
+            long nextGeneration = -1;
+            long dueTime = 0;
+            synchronized (this.lock)
+            {
+                this.isRunning = false;
+                if (this.pendingTask == null)
+                {
+                    this.isScheduled = false;
+                    this.lock.notifyAll ();
+                }
+                else
+                {
+                    dueTime = this.pendingDueTime;
+                    nextGeneration = this.prepareRun (dueTime);
+                }
+            }
+            if (nextGeneration >= 0)
+                this.scheduleRun (nextGeneration, dueTime);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+/**
+ * Formats a transport position into a reusable character buffer. The output is identical to
+ * StringUtils.formatTimeLong and StringUtils.formatMeasuresLong (including the frames) but no
+ * objects are created. The buffer is only written if the displayed values (e.g. the milliseconds
+ * or the ticks) have changed. A string is only created when toString is called after a change.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PositionFormatter implements CharSequence
+{
+    private static final int TYPE_NONE     = 0;
+    private static final int TYPE_TIME     = 1;
+    private static final int TYPE_MEASURES = 2;
+
+    private final char []    chars         = new char [48];
+    private final int []     values        = new int [4];
+    private int              length        = 0;
+    private int              type          = TYPE_NONE;
+    private String           text          = "";
+
+
+    /**
+     * Format the given time as hours.minutes.seconds:millis.
+     *
+     * @param tempo The tempo
+     * @param beats The beats to format as time
+     * @return True if the formatted text has changed
+     */
+    public boolean formatTime (final double tempo, final double beats)
+    {
+        final double time = beats * 60.0 / tempo;
+
+        final int seconds = (int) Math.floor (time % 60);
+        double t = (time - seconds) / 60.0;
+        final int minutes = (int) Math.floor (t % 60);
+        t = (t - minutes) / 60.0;
+        final int hours = (int) Math.floor (t);
+        final int millis = (int) ((time - ((hours * 60 + minutes) * 60 + seconds)) * 1000);
+
+        if (!this.update (TYPE_TIME, hours, minutes, seconds, millis))
+            return false;
+
+        this.append (hours, 1);
+        this.append ('.');
+        this.append (minutes, 2);
+        this.append ('.');
+        this.append (seconds, 2);
+        this.append (':');
+        this.append (millis, 3);
+        return true;
+    }
+
+
+    /**
+     * Format the given time as measure.quarters.eights:ticks.
+     *
+     * @param quartersPerMeasure The number of quarters of a measure
+     * @param beats The beats to format
+     * @param startOffset An offset that is added to the measure, quarter and eights values
+     * @return True if the formatted text has changed
+     */
+    public boolean formatMeasures (final int quartersPerMeasure, final double beats, final int startOffset)
+    {
+        final int measure = (int) Math.floor (beats / quartersPerMeasure);
+        double t = beats - measure * quartersPerMeasure;
+        final int quarters = (int) Math.floor (t);
+        t = t - quarters;
+        final int eights = (int) Math.floor (t / 0.25);
+        t = t - eights * 0.25;
+        final int frames = (int) Math.floor (t / 0.25 * 100.0);
+
+        if (!this.update (TYPE_MEASURES, measure + startOffset, quarters + startOffset, eights + startOffset, frames))
+            return false;
+
+        this.append (measure + startOffset, 1);
+        this.append ('.');
+        this.append (quarters + startOffset, 1);
+        this.append ('.');
+        this.append (eights + startOffset, 1);
+        this.append (':');
+        this.append (frames, 2);
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int length ()
+    {
+        return this.length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public char charAt (final int index)
+    {
+        if (index < 0 || index >= this.length)
+            throw new IndexOutOfBoundsException (index);
+        return this.chars[index];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public CharSequence subSequence (final int start, final int end)
+    {
+        return this.toString ().subSequence (start, end);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        if (this.text == null)
+            this.text = new String (this.chars, 0, this.length);
+        return this.text;
+    }
+
+
+    /**
+     * Store the new values and clear the buffer, if one of them is different from the previous
+     * ones.
+     *
+     * @param newType The type of the formatting
+     * @param value1 The first value
+     * @param value2 The second value
+     * @param value3 The third value
+     * @param value4 The fourth value
+     * @return True if the values have changed
+     */
+    private boolean update (final int newType, final int value1, final int value2, final int value3, final int value4)
+    {
+        if (this.type == newType && this.values[0] == value1 && this.values[1] == value2 && this.values[2] == value3 && this.values[3] == value4)
+            return false;
+
+        this.type = newType;
+        this.values[0] = value1;
+        this.values[1] = value2;
+        this.values[2] = value3;
+        this.values[3] = value4;
+
+        this.length = 0;
+        this.text = null;
+        return true;
+    }
+
+
+    private void append (final char c)
+    {
+        this.chars[this.length] = c;
+        this.length++;
+    }
+
+
+    /**
+     * Append a number padded with zeros like the format %0Nd, which includes the minus sign in the
+     * width.
+     *
+     * @param value The value to append
+     * @param width The minimum width
+     */
+    private void append (final int value, final int width)
+    {
+        int padding = width;
+        long rest = value;
+        if (rest < 0)
+        {
+            this.append ('-');
+            padding--;
+            rest = -rest;
+        }
+
+        int digits = 1;
+        for (long r = rest; r >= 10; r /= 10)
+            digits++;
+
+        for (int i = digits; i < padding; i++)
+            this.append ('0');
+
+        final int end = this.length + digits;
+        for (int i = end - 1; i >= this.length; i--)
+        {
+            this.chars[i] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+        this.length = end;
+    }
+}
@@ -57,7 +57,8 @@ public class TimeoutOptimizer
         else
         {
             final long effective = this.diff / RUNS;
-            this.delay = (int) (this.delay * this.delay / effective);
+            if (effective > 0)
+                this.delay = (int) (this.delay * this.delay / effective);
         }
     }
 
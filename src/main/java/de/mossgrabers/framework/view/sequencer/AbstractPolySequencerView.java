@@ -406,7 +406,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
         final ITrack cursorTrack = this.model.getCursorTrack ();
         final int startNote = this.scales.getStartNote ();
         for (int i = startNote; i < startNote + this.sequencerSteps; i++)
-            padGrid.light (i, this.getGridColor (isKeyboardEnabled, isRecording, cursorTrack, i));
+            padGrid.lightHandle (i, this.getGridColor (isKeyboardEnabled, isRecording, cursorTrack, i));
 
     }
 
@@ -504,17 +504,17 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      * @param isRecording Is recording enabled?
      * @param track The track to use the color for octaves
      * @param note The note of the pad
-     * @return The ID of the color
+     * @return The handle of the color
      */
-    protected String getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
+    protected int getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
     {
         if (isKeyboardEnabled)
         {
             if (this.keyManager.isKeyPressed (note))
-                return isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY;
-            return this.getPadColor (note, this.useDawColors ? track : null);
+                return isRecording ? AbstractPlayView.COLOR_RECORD_HANDLE : AbstractPlayView.COLOR_PLAY_HANDLE;
+            return this.getPadColorHandle (note, this.useDawColors ? track : null);
         }
-        return AbstractPlayView.COLOR_OFF;
+        return AbstractPlayView.COLOR_OFF_HANDLE;
     }
 
 
@@ -527,4 +527,4 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
         }
         return false;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file